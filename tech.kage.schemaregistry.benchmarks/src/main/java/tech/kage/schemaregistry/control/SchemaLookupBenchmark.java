@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.control;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+import tech.kage.schemaregistry.entity.SequencedSchema;
+
+/**
+ * Measures {@link SchemaLookup#lookupSchema(Schema)} for a subject with 1, 100
+ * and 1000 versions sharing the looked up schema definition, of 1KB, 64KB and
+ * 1MB, and differing in the last of their 10 and 50 references, so that every
+ * version is compared with the looked up schema. Versions sharing a definition
+ * can only differ in their references, so without references a single version
+ * is compared. The versions are held in memory, so that only the lookup is
+ * measured. Run with {@code -prof gc} to report the allocation rate.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SchemaLookupBenchmark {
+    private static final String SUBJECT = "benchmark-subject";
+
+    @Param({ "1", "100", "1000" })
+    int versions;
+
+    @Param({ "1024", "65536", "1048576" })
+    int schemaSize;
+
+    @Param({ "0", "10", "50" })
+    int references;
+
+    SchemaLookup schemaLookup;
+    Schema lookedUpSchema;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var schema = "{\"type\":\"record\",\"name\":\"Record\",\"namespace\":\"com.example\",\"doc\":\""
+                + "x".repeat(schemaSize) + "\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"}]}";
+
+        var storedVersions = new ArrayList<Schema>(versions);
+        var matchingVersions = references == 0 ? 1 : versions;
+
+        for (var version = matchingVersions; version >= 1; version--) {
+            storedVersions.add(new Schema(SUBJECT, version, 1000 + version, "AVRO", references(version),
+                    new String(schema)));
+        }
+
+        schemaLookup = new SchemaLookup(new InMemorySchemaRepository(storedVersions));
+        lookedUpSchema = new Schema(SUBJECT, null, null, "AVRO", references(1), new String(schema));
+    }
+
+    @Benchmark
+    public Schema lookupSchema() {
+        return schemaLookup.lookupSchema(lookedUpSchema).block();
+    }
+
+    private List<SchemaReference> references(int version) {
+        var schemaReferences = new ArrayList<SchemaReference>(references);
+
+        for (var i = 0; i < references; i++) {
+            schemaReferences.add(new SchemaReference("com.example.Referenced" + i, "referenced-subject-" + i,
+                    i == references - 1 ? version : 1));
+        }
+
+        return schemaReferences;
+    }
+
+    /**
+     * A repository returning the versions of a subject held in memory, all of
+     * them matching the fingerprint of the looked up schema. Finders not used
+     * by the lookup find nothing.
+     *
+     * @param versions the versions of the subject ordered by version descending
+     */
+    record InMemorySchemaRepository(List<Schema> versions) implements RelationalSchemaRepository {
+        @Override
+        public Flux<Schema> findBySubjectAndSchemaOrderedByVersionDesc(String subject, String schema) {
+            return Flux.fromIterable(versions);
+        }
+
+        @Override
+        public Flux<Schema> findBySubjectAndVersionOrderedByVersionDesc(String subject, Integer version) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<Schema> findLatestBySubject(String subject) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Schema> findById(int id) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Flux<Schema> findAllOrderedBySchemaId() {
+            return Flux.empty();
+        }
+
+        @Override
+        public Flux<SequencedSchema> findAllAfterSequence(long sequence) {
+            return Flux.empty();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * A PostgreSQL database started in a container, with the schema registry
+ * database schema created.
+ * 
+ * @author Dariusz Szpakowski
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+    private static final String SCHEMA_SQL = "/schemas/schemas_schema.sql";
+
+    private final PostgreSQLContainer<?> container;
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Starts a new database and creates the schema registry tables.
+     */
+    BenchmarkDatabase() {
+        container = new PostgreSQLContainer<>("postgres:15-alpine");
+        container.start();
+
+        var connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions
+                .builder()
+                .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+                .option(ConnectionFactoryOptions.HOST, container.getHost())
+                .option(ConnectionFactoryOptions.PORT, container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+                .option(ConnectionFactoryOptions.DATABASE, container.getDatabaseName())
+                .option(ConnectionFactoryOptions.USER, container.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, container.getPassword())
+                .build());
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory).build());
+        databaseClient = DatabaseClient.create(connectionPool);
+
+        execute(readSchemaSql());
+    }
+
+    /**
+     * Returns a {@link DatabaseClient} connected to the database.
+     *
+     * @return the database client
+     */
+    DatabaseClient databaseClient() {
+        return databaseClient;
+    }
+
+    /**
+     * Returns a new {@link PostgresSchemaRepository} using the database, with the
+     * default configuration.
+     *
+     * @return the schema repository
+     */
+    PostgresSchemaRepository schemaRepository() {
+        return new PostgresSchemaRepository(databaseClient, new SchemaScanProperties(true, 1000, 100));
+    }
+
+    /**
+     * Executes the given SQL statements.
+     *
+     * @param sql the SQL statements to execute
+     */
+    void execute(String sql) {
+        databaseClient
+                .sql(sql)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+        container.stop();
+    }
+
+    private static String readSchemaSql() {
+        try (var schemaSql = BenchmarkDatabase.class.getResourceAsStream(SCHEMA_SQL)) {
+            return new String(schemaSql.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+
+/**
+ * Compares retrieving the latest schema of a subject by reading all its
+ * versions in descending order and taking the first one with the dedicated
+ * query resolving only the highest version.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LatestSchemaRetrievalBenchmark {
+    private static final String SUBJECT = "benchmark-subject";
+
+    private static final String DATA_SQL = """
+            INSERT INTO schemas.schemas (id, schema) VALUES
+            (1, '{"type":"record","name":"Common","namespace":"com.example","fields":[{"name":"id","type":"long"}]}');
+
+            INSERT INTO schemas.subjects (subject, version, schema_id) VALUES ('common-subject', 1, 1);
+
+            INSERT INTO schemas.schemas (id, schema)
+            SELECT 1000 + v, '{"type":"record","name":"Record","namespace":"com.example","doc":"'
+                    || repeat('x', 2048) || '","fields":[{"name":"field' || v || '","type":"long"}]}'
+            FROM generate_series(1, %1$d) v;
+
+            INSERT INTO schemas.subjects (subject, version, schema_id)
+            SELECT '%2$s', v, 1000 + v
+            FROM generate_series(1, %1$d) v;
+
+            INSERT INTO schemas.references (schema_id, name, subject, version)
+            SELECT 1000 + v, 'com.example.Common' || r, 'common-subject', 1
+            FROM generate_series(1, %1$d) v, generate_series(1, 2) r;
+            """;
+
+    @Param({ "10", "100", "1000" })
+    int versions;
+
+    BenchmarkDatabase database;
+    PostgresSchemaRepository schemaRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.execute(DATA_SQL.formatted(versions, SUBJECT));
+
+        schemaRepository = database.schemaRepository();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Schema allVersionsDescending() {
+        return schemaRepository
+                .findBySubjectAndVersionOrderedByVersionDesc(SUBJECT, null)
+                .next()
+                .block();
+    }
+
+    @Benchmark
+    public Schema latestVersionOnly() {
+        return schemaRepository
+                .findLatestBySubject(SUBJECT)
+                .block();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+
+/**
+ * Compares reading reference-heavy schemas with one row per reference, each
+ * carrying a copy of the schema definition, with reading them with references
+ * aggregated into arrays, one row per schema.
+ * 
+ * <p>
+ * Besides the time per operation, the total number of rows and of schema
+ * definition characters received in each iteration are reported, along with the
+ * number of operations. Run with {@code -prof gc} to compare allocations.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReferenceAggregationBenchmark {
+    private static final String SUBJECT = "benchmark-subject";
+    private static final int VERSIONS = 20;
+
+    private static final String JOINED_REFERENCES_SQL = """
+                SELECT
+                    sub.subject, sub.version, sub.schema_id, schema,
+                    ref.name AS ref_name, ref.subject AS ref_subject, ref.version AS ref_version
+                FROM schemas.subjects sub
+                    JOIN schemas.schemas s ON sub.schema_id = s.id
+                    LEFT OUTER JOIN schemas.references ref ON s.id = ref.schema_id
+                WHERE sub.subject = :subject
+                ORDER BY sub.version DESC, ref_name
+            """;
+
+    private static final String DATA_SQL = """
+            INSERT INTO schemas.schemas (id, schema)
+            SELECT r, '{"type":"record","name":"Referenced' || r || '","namespace":"com.example","fields":[]}'
+            FROM generate_series(1, %1$d) r;
+
+            INSERT INTO schemas.subjects (subject, version, schema_id)
+            SELECT 'referenced-subject-' || r, 1, r
+            FROM generate_series(1, %1$d) r;
+
+            INSERT INTO schemas.schemas (id, schema)
+            SELECT 1000 + v, '{"type":"record","name":"Record","namespace":"com.example","doc":"'
+                    || repeat('x', 8192) || '","fields":[{"name":"field' || v || '","type":"long"}]}'
+            FROM generate_series(1, %2$d) v;
+
+            INSERT INTO schemas.subjects (subject, version, schema_id)
+            SELECT '%3$s', v, 1000 + v
+            FROM generate_series(1, %2$d) v;
+
+            INSERT INTO schemas.references (schema_id, name, subject, version)
+            SELECT 1000 + v, 'com.example.Referenced' || r, 'referenced-subject-' || r, 1
+            FROM generate_series(1, %2$d) v, generate_series(1, %1$d) r;
+            """;
+
+    @Param({ "0", "10", "40" })
+    int references;
+
+    BenchmarkDatabase database;
+    PostgresSchemaRepository schemaRepository;
+
+    /**
+     * Amount of data received in an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Received {
+        public long rows;
+        public long schemaChars;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+            schemaChars = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.execute(DATA_SQL.formatted(references, VERSIONS, SUBJECT));
+
+        schemaRepository = database.schemaRepository();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Schema> rowPerReference(Received received) {
+        return database
+                .databaseClient()
+                .sql(JOINED_REFERENCES_SQL)
+                .bind("subject", SUBJECT)
+                .fetch()
+                .all()
+                .doOnNext(row -> {
+                    received.rows++;
+                    received.schemaChars += ((String) row.get("schema")).length();
+                })
+                .bufferUntilChanged(row -> row.get("schema_id"))
+                .map(ReferenceAggregationBenchmark::toSchema)
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<Schema> aggregatedReferences(Received received) {
+        return schemaRepository
+                .findBySubjectAndVersionOrderedByVersionDesc(SUBJECT, null)
+                .doOnNext(schema -> {
+                    received.rows++;
+                    received.schemaChars += schema.getSchema().length();
+                })
+                .collectList()
+                .block();
+    }
+
+    private static Schema toSchema(List<Map<String, Object>> rows) {
+        var references = rows
+                .stream()
+                .filter(row -> row.get("ref_name") != null)
+                .map(row -> new SchemaReference(
+                        (String) row.get("ref_name"),
+                        (String) row.get("ref_subject"),
+                        (Integer) row.get("ref_version")))
+                .toList();
+
+        var firstRow = rows.getFirst();
+
+        return new Schema(
+                (String) firstRow.get("subject"),
+                (Integer) firstRow.get("version"),
+                (Integer) firstRow.get("schema_id"),
+                "AVRO",
+                references,
+                (String) firstRow.get("schema"));
+    }
+}
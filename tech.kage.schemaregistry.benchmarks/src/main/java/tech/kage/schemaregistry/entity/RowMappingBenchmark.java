@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.SequencedMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.r2dbc.spi.Readable;
+
+/**
+ * Measures mapping a row with aggregated references to a {@link Schema} by
+ * {@link PostgresSchemaRepository#toSchema(Readable)}, with schemas of 1KB,
+ * 64KB and 1MB having 0, 10 and 50 references. Rows are held in memory, so
+ * that only the mapping is measured. Run with {@code -prof gc} to report the
+ * allocation rate.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RowMappingBenchmark {
+    @Param({ "1024", "65536", "1048576" })
+    int schemaSize;
+
+    @Param({ "0", "10", "50" })
+    int references;
+
+    PostgresSchemaRepository schemaRepository;
+    Readable row;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Row mapping does not access the database
+        schemaRepository = new PostgresSchemaRepository(null, new SchemaScanProperties(true, 1000, 100));
+
+        var referenceNames = new String[references];
+        var referenceSubjects = new String[references];
+        var referenceVersions = new Integer[references];
+
+        for (var i = 0; i < references; i++) {
+            referenceNames[i] = "com.example.Referenced" + i;
+            referenceSubjects[i] = "referenced-subject-" + i;
+            referenceVersions[i] = 1;
+        }
+
+        var values = new LinkedHashMap<String, Object>();
+
+        values.put("subject", "benchmark-subject");
+        values.put("version", 1);
+        values.put("schema_id", 1001);
+        values.put("schema", "{\"type\":\"record\",\"name\":\"Record\",\"namespace\":\"com.example\",\"doc\":\""
+                + "x".repeat(schemaSize) + "\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"}]}");
+        values.put("ref_names", referenceNames);
+        values.put("ref_subjects", referenceSubjects);
+        values.put("ref_versions", referenceVersions);
+
+        row = new InMemoryRow(values);
+    }
+
+    @Benchmark
+    public Schema toSchema() {
+        return schemaRepository.toSchema(row);
+    }
+
+    /**
+     * A row with values held in memory. Reference arrays of a schema without
+     * references are null, as aggregated by the database.
+     *
+     * @param values the values of the row by column name, in column order
+     */
+    record InMemoryRow(SequencedMap<String, Object> values) implements Readable {
+        @Override
+        public <T> T get(int index, Class<T> type) {
+            return get(List.copyOf(values.sequencedKeySet()).get(index), type);
+        }
+
+        @Override
+        public <T> T get(String name, Class<T> type) {
+            var value = values.get(name);
+
+            if (value instanceof Object[] array && array.length == 0) {
+                return null;
+            }
+
+            return type.cast(value);
+        }
+    }
+}
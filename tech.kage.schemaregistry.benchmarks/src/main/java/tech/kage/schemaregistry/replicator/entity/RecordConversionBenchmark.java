@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.ConfluentSchemaConverter;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.SchemaKey;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.SchemaValue;
+
+/**
+ * Measures converting schemas to {@code _schemas} records by
+ * {@link ConfluentSchemaConverter} alone ({@code convert}) and together with
+ * serializing the record key and value ({@code convertAndSerialize}), with
+ * schemas of 1KB, 64KB and 1MB having 0, 10 and 50 references. Run with
+ * {@code -prof gc} to report the allocation rate.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RecordConversionBenchmark {
+    @Param({ "1024", "65536", "1048576" })
+    int schemaSize;
+
+    @Param({ "0", "10", "50" })
+    int references;
+
+    Schema schema;
+
+    ConfluentSchemaConverter converter;
+    ConfluentSchemaRecordSerializer serializer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var schemaReferences = new ArrayList<SchemaReference>();
+
+        for (var i = 1; i <= references; i++) {
+            schemaReferences.add(new SchemaReference("com.example.Referenced" + i, "referenced-subject-" + i, 1));
+        }
+
+        schema = new Schema("benchmark-subject", 1, 1001, "AVRO", schemaReferences,
+                "{\"type\":\"record\",\"name\":\"Record\",\"namespace\":\"com.example\",\"doc\":\""
+                        + "x".repeat(schemaSize) + "\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"}]}");
+
+        converter = new ConfluentSchemaConverter();
+        serializer = new ConfluentSchemaRecordSerializer();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serializer.close();
+    }
+
+    @Benchmark
+    public ProducerRecord<SchemaKey, SchemaValue> convert() {
+        return converter.convert(schema);
+    }
+
+    @Benchmark
+    public void convertAndSerialize(Blackhole blackhole) {
+        var producerRecord = converter.convert(schema);
+
+        blackhole.consume(serializer.serialize(producerRecord.topic(), producerRecord.key()));
+        blackhole.consume(serializer.serialize(producerRecord.topic(), producerRecord.value()));
+    }
+}
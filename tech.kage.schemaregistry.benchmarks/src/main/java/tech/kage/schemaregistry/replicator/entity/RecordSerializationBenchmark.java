@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.ConfluentSchemaConverter;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.SchemaKey;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.SchemaValue;
+
+/**
+ * Compares serializing {@code _schemas} records with Spring Kafka's
+ * {@link JsonSerializer}, adding type headers, with the streaming
+ * {@link ConfluentSchemaRecordSerializer}. Run with {@code -prof gc} to compare
+ * allocations.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RecordSerializationBenchmark {
+    @Param({ "1024", "8192", "65536" })
+    int schemaSize;
+
+    @Param({ "0", "10" })
+    int references;
+
+    SchemaKey key;
+    SchemaValue value;
+
+    JsonSerializer<Object> jsonSerializer;
+    ConfluentSchemaRecordSerializer streamingSerializer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var schemaReferences = new ArrayList<SchemaReference>();
+
+        for (var i = 1; i <= references; i++) {
+            schemaReferences.add(new SchemaReference("com.example.Referenced" + i, "referenced-subject-" + i, 1));
+        }
+
+        var schema = new Schema("benchmark-subject", 1, 1001, "AVRO", schemaReferences,
+                "{\"type\":\"record\",\"name\":\"Record\",\"namespace\":\"com.example\",\"doc\":\""
+                        + "x".repeat(schemaSize) + "\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"}]}");
+
+        var producerRecord = new ConfluentSchemaConverter().convert(schema);
+
+        key = producerRecord.key();
+        value = producerRecord.value();
+
+        jsonSerializer = new JsonSerializer<>();
+        streamingSerializer = new ConfluentSchemaRecordSerializer();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jsonSerializer.close();
+        streamingSerializer.close();
+    }
+
+    @Benchmark
+    public void jsonSerializer(Blackhole blackhole) {
+        var headers = new RecordHeaders();
+
+        blackhole.consume(jsonSerializer.serialize(ConfluentSchemaRepository.SCHEMAS_TOPIC, headers, key));
+        blackhole.consume(jsonSerializer.serialize(ConfluentSchemaRepository.SCHEMAS_TOPIC, headers, value));
+        blackhole.consume(headers);
+    }
+
+    @Benchmark
+    public void streamingSerializer(Blackhole blackhole) {
+        var headers = new RecordHeaders();
+
+        blackhole.consume(streamingSerializer.serialize(ConfluentSchemaRepository.SCHEMAS_TOPIC, headers, key));
+        blackhole.consume(streamingSerializer.serialize(ConfluentSchemaRepository.SCHEMAS_TOPIC, headers, value));
+        blackhole.consume(headers);
+    }
+}
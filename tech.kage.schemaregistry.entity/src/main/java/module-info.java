@@ -32,15 +32,23 @@ module tech.kage.schemaregistry.entity {
     requires reactor.core;
     requires org.reactivestreams;
     requires spring.beans;
+    requires spring.boot;
     requires spring.boot.autoconfigure;
     requires spring.context;
+    requires spring.core;
+    requires micrometer.core;
+    requires org.slf4j;
 
     // Entity
     requires spring.r2dbc;
+    requires r2dbc.spi;
+    requires r2dbc.postgresql;
+    requires com.fasterxml.jackson.databind;
     requires transitive kafka.schema.registry.client;
 
     exports tech.kage.schemaregistry.entity
             to tech.kage.schemaregistry, tech.kage.schemaregistry.replicator, spring.beans, spring.context;
+    exports tech.kage.schemaregistry.cache to tech.kage.schemaregistry;
 
     opens tech.kage.schemaregistry.entity to spring.core;
 }
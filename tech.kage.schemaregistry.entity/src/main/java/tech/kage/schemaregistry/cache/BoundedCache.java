@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * An in-memory cache bounded by both the number of entries and their total
+ * weight.
+ * 
+ * <p>
+ * Entries are kept in least-recently-used order. When the cache is full, a new
+ * entry is admitted only if it has been requested more often than the entries
+ * it would evict, as estimated by a count-min sketch of recent access
+ * frequencies (TinyLFU). This keeps one-off requests from flushing the hot
+ * working set.
+ * 
+ * <p>
+ * Reads are served from a concurrent map without locking. Each read is recorded
+ * in a lock-free ring buffer, which is drained into the access order and
+ * frequencies under the lock once enough reads accumulate, or before the next
+ * write. Reads are only lost if the buffer overflows before it is drained.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * 
+ * @author Dariusz Szpakowski
+ */
+public final class BoundedCache<K, V> {
+    private static final int READ_BUFFER_SIZE = 256;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int DRAIN_THRESHOLD = READ_BUFFER_SIZE / 4;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final LinkedHashMap<K, Long> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch frequencies;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicReferenceArray<K> reads = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readsRecorded = new AtomicLong();
+    private volatile long readsDrained;
+
+    private long totalWeight;
+
+    /**
+     * Constructs a new {@link BoundedCache} instance.
+     *
+     * @param maxEntries the maximum number of entries
+     * @param maxWeight  the maximum total weight of entries
+     * @param weigher    the function computing the weight of a value
+     */
+    public BoundedCache(int maxEntries, long maxWeight, ToLongFunction<V> weigher) {
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("Cache bounds must be positive");
+        }
+
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.frequencies = new FrequencySketch(maxEntries);
+    }
+
+    /**
+     * Returns the value cached for the given key.
+     *
+     * @param key the key to look up
+     * 
+     * @return the cached value, or null if none exists
+     */
+    public V get(K key) {
+        var value = entries.get(key);
+        var read = readsRecorded.getAndIncrement();
+
+        reads.lazySet((int) read & READ_BUFFER_MASK, key);
+
+        if (read - readsDrained >= DRAIN_THRESHOLD && lock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Caches the given value, evicting less frequently used entries if needed.
+     * A value already cached for the given key is replaced in place, evicting
+     * other entries if the new value is heavier. Otherwise, the value is not
+     * cached if it is used less frequently than the entries it would have to
+     * evict.
+     *
+     * @param key   the key of the value
+     * @param value the value to cache
+     */
+    public void put(K key, V value) {
+        var weight = weigher.applyAsLong(value);
+
+        if (weight > maxWeight) {
+            return;
+        }
+
+        lock.lock();
+
+        try {
+            drainReads();
+
+            var previousWeight = accessOrder.get(key);
+
+            if (previousWeight != null) {
+                accessOrder.put(key, weight);
+                entries.put(key, value);
+                totalWeight += weight - previousWeight;
+
+                evictOthersThan(key);
+
+                return;
+            }
+
+            if (!makeRoom(key, weight)) {
+                return;
+            }
+
+            accessOrder.put(key, weight);
+            entries.put(key, value);
+            totalWeight += weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the value cached for the given key, if any.
+     *
+     * @param key the key of the value to remove
+     */
+    public void invalidate(K key) {
+        lock.lock();
+
+        try {
+            remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all values whose keys match the given predicate.
+     *
+     * @param predicate the predicate selecting keys to remove
+     */
+    public void invalidateIf(Predicate<? super K> predicate) {
+        lock.lock();
+
+        try {
+            accessOrder.keySet().stream().filter(predicate).toList().forEach(this::remove);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total weight of cached entries.
+     *
+     * @return the total weight
+     */
+    public long weight() {
+        lock.lock();
+
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evicts least recently used entries until the candidate fits within the
+     * bounds. Must be called while holding the lock.
+     *
+     * @param candidate the key of the entry to be admitted
+     * @param weight    the weight of the entry to be admitted
+     * 
+     * @return true if the candidate may be admitted, false otherwise
+     */
+    private boolean makeRoom(K candidate, long weight) {
+        var candidateFrequency = frequencies.frequency(candidate);
+
+        while (accessOrder.size() >= maxEntries || totalWeight + weight > maxWeight) {
+            var victim = accessOrder.keySet().iterator().next();
+
+            if (candidateFrequency <= frequencies.frequency(victim)) {
+                return false;
+            }
+
+            remove(victim);
+        }
+
+        return true;
+    }
+
+    /**
+     * Evicts least recently used entries other than the given one until the
+     * total weight is within the bound. Must be called while holding the lock.
+     *
+     * @param key the key of the entry to keep
+     */
+    private void evictOthersThan(K key) {
+        var candidates = accessOrder.entrySet().iterator();
+
+        while (totalWeight > maxWeight && candidates.hasNext()) {
+            var victim = candidates.next();
+
+            if (!victim.getKey().equals(key)) {
+                candidates.remove();
+                totalWeight -= victim.getValue();
+                entries.remove(victim.getKey());
+            }
+        }
+    }
+
+    /**
+     * Applies the reads recorded since the last drain to the access order and
+     * frequencies. Reads overwritten in the buffer before being drained are
+     * skipped. Must be called while holding the lock.
+     */
+    private void drainReads() {
+        var recorded = readsRecorded.get();
+        var read = Math.max(readsDrained, recorded - READ_BUFFER_SIZE);
+
+        for (; read < recorded; read++) {
+            var key = reads.getAndSet((int) read & READ_BUFFER_MASK, null);
+
+            if (key != null) {
+                frequencies.increment(key);
+                accessOrder.get(key);
+            }
+        }
+
+        readsDrained = recorded;
+    }
+
+    private void remove(K key) {
+        var weight = accessOrder.remove(key);
+
+        if (weight != null) {
+            totalWeight -= weight;
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit access counters, periodically halved so that
+     * old popularity fades.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+
+        private int additions;
+
+        FrequencySketch(int maxEntries) {
+            var width = Integer.highestOneBit(Math.max(maxEntries, 16) - 1) << 1;
+
+            this.counters = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * Math.max(maxEntries, 16);
+        }
+
+        void increment(Object key) {
+            var hash = spread(key.hashCode());
+            var added = false;
+
+            for (var row = 0; row < DEPTH; row++) {
+                var index = index(hash, row);
+
+                if (counters[row][index] < MAX_COUNT) {
+                    counters[row][index]++;
+                    added = true;
+                }
+            }
+
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            var hash = spread(key.hashCode());
+            var frequency = MAX_COUNT;
+
+            for (var row = 0; row < DEPTH; row++) {
+                frequency = Math.min(frequency, counters[row][index(hash, row)]);
+            }
+
+            return frequency;
+        }
+
+        private int index(int hash, int row) {
+            var h = hash * (0x9E3779B9 + 2 * row + 1);
+
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void reset() {
+            for (var row : counters) {
+                for (var i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+
+            additions /= 2;
+        }
+
+        private static int spread(int hash) {
+            var h = hash * 0x45D9F3B;
+
+            return h ^ (h >>> 16);
+        }
+    }
+}
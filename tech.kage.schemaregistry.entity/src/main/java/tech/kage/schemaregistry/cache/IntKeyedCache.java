@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.cache;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * An in-memory cache keyed by primitive {@code int} keys, bounded by both the
+ * number of entries and their total weight.
+ * 
+ * <p>
+ * Entries are stored in an open-addressing hash table with linear probing, so
+ * looking up a key neither boxes it nor allocates. The table is sized once for
+ * the maximum number of entries and never resized. When the cache is full,
+ * entries are evicted in CLOCK order, giving recently read entries a second
+ * chance.
+ * 
+ * <p>
+ * Reads are optimistic and lock-free unless they race with a write, in which
+ * case they are retried under a read lock.
+ *
+ * @param <V> the type of values
+ * 
+ * @author Dariusz Szpakowski
+ */
+public final class IntKeyedCache<V> {
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+
+    private final int mask;
+    private final int[] keys;
+    private final Object[] values;
+    private final long[] weights;
+    private final boolean[] referenced;
+    private final StampedLock lock = new StampedLock();
+
+    private int size;
+    private long totalWeight;
+    private int clockHand;
+
+    /**
+     * Constructs a new {@link IntKeyedCache} instance.
+     *
+     * @param maxEntries the maximum number of entries
+     * @param maxWeight  the maximum total weight of entries
+     * @param weigher    the function computing the weight of a value
+     */
+    public IntKeyedCache(int maxEntries, long maxWeight, ToLongFunction<V> weigher) {
+        if (maxEntries <= 0 || maxWeight <= 0 || maxEntries > 1 << 29) {
+            throw new IllegalArgumentException("Cache bounds must be positive and at most 2^29 entries");
+        }
+
+        var capacity = Integer.highestOneBit(maxEntries * 2 - 1) << 1;
+
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.mask = capacity - 1;
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.weights = new long[capacity];
+        this.referenced = new boolean[capacity];
+    }
+
+    /**
+     * Returns the value cached for the given key.
+     *
+     * @param key the key to look up
+     * 
+     * @return the cached value, or null if none exists
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        var stamp = lock.tryOptimisticRead();
+        var slot = find(key);
+        var value = slot >= 0 ? values[slot] : null;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+
+            try {
+                slot = find(key);
+                value = slot >= 0 ? values[slot] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (value != null) {
+            referenced[slot] = true;
+        }
+
+        return (V) value;
+    }
+
+    /**
+     * Caches the given value, evicting entries if needed. A value already cached
+     * for the given key is kept.
+     *
+     * @param key   the key of the value
+     * @param value the value to cache
+     */
+    public void put(int key, V value) {
+        var weight = weigher.applyAsLong(value);
+
+        if (weight > maxWeight) {
+            return;
+        }
+
+        var stamp = lock.writeLock();
+
+        try {
+            if (find(key) >= 0) {
+                return;
+            }
+
+            while (size >= maxEntries || totalWeight + weight > maxWeight) {
+                evict();
+            }
+
+            var slot = slotOf(key);
+
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            values[slot] = value;
+            weights[slot] = weight;
+            referenced[slot] = false;
+
+            size++;
+            totalWeight += weight;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value cached for the given key, if any.
+     *
+     * @param key the key of the value to remove
+     */
+    public void invalidate(int key) {
+        var stamp = lock.writeLock();
+
+        try {
+            var slot = find(key);
+
+            if (slot >= 0) {
+                remove(slot);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        var stamp = lock.readLock();
+
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the total weight of cached entries.
+     *
+     * @return the total weight
+     */
+    public long weight() {
+        var stamp = lock.readLock();
+
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Finds the slot holding the given key. Probing is bounded by the table size,
+     * so that an optimistic read racing with a write always terminates.
+     *
+     * @param key the key to look up
+     * 
+     * @return the slot of the key, or -1 if not found
+     */
+    private int find(int key) {
+        var slot = slotOf(key);
+
+        for (var probes = 0; probes <= mask; probes++) {
+            if (values[slot] == null) {
+                return -1;
+            }
+
+            if (keys[slot] == key) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Evicts the first entry found by the clock hand that has not been read since
+     * the hand last passed it.
+     */
+    private void evict() {
+        while (true) {
+            var slot = clockHand;
+
+            if (values[slot] != null) {
+                if (!referenced[slot]) {
+                    remove(slot);
+
+                    return;
+                }
+
+                referenced[slot] = false;
+            }
+
+            clockHand = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes the entry in the given slot, shifting back the entries following it
+     * in the same probe sequence, so that lookups never stop early at the freed
+     * slot.
+     *
+     * @param slot the slot to free
+     */
+    private void remove(int slot) {
+        size--;
+        totalWeight -= weights[slot];
+
+        var free = slot;
+        var next = slot;
+
+        while (true) {
+            next = (next + 1) & mask;
+
+            if (values[next] == null) {
+                break;
+            }
+
+            var home = slotOf(keys[next]);
+
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                weights[free] = weights[next];
+                referenced[free] = referenced[next];
+                free = next;
+            }
+        }
+
+        values[free] = null;
+        weights[free] = 0;
+        referenced[free] = false;
+    }
+
+    private int slotOf(int key) {
+        var hash = key * 0x9E3779B9;
+
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
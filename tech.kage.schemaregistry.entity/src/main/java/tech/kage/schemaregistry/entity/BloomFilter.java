@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter of strings, answering whether a string might have been added
+ * with no false negatives and a bounded rate of false positives.
+ * 
+ * <p>
+ * The filter is sized for an expected number of insertions. Each string sets a
+ * fixed number of bits, chosen by double hashing of a 64-bit hash of its
+ * characters. Strings may be added and looked up concurrently without locking.
+ * 
+ * @author Dariusz Szpakowski
+ */
+final class BloomFilter {
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int expectedInsertions;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    /**
+     * Constructs a new {@link BloomFilter} instance.
+     *
+     * @param expectedInsertions the expected number of added strings
+     * @param falsePositiveRate  the rate of false positives once the expected
+     *                           number of strings is added
+     */
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+
+        var optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        var words = (int) Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashCount = (int) Math.clamp(Math.round((double) bitCount / expectedInsertions * LN_2), 1, 16);
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * Adds the given string to the filter.
+     *
+     * @param value the string to add
+     */
+    void add(String value) {
+        var hash = hash(value);
+        var step = mix(hash) | 1;
+        var changed = false;
+
+        for (var i = 0; i < hashCount; i++) {
+            var bit = Long.remainderUnsigned(hash + i * step, bitCount);
+            var mask = 1L << bit;
+            var word = (int) (bit >>> 6);
+
+            changed |= (bits.getAndAccumulate(word, mask, (current, added) -> current | added) & mask) == 0;
+        }
+
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns whether the given string might have been added to the filter.
+     *
+     * @param value the string to look up
+     * 
+     * @return false if the string has definitely not been added, true otherwise
+     */
+    boolean mightContain(String value) {
+        var hash = hash(value);
+        var step = mix(hash) | 1;
+
+        for (var i = 0; i < hashCount; i++) {
+            var bit = Long.remainderUnsigned(hash + i * step, bitCount);
+
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether more distinct strings have been added than the filter was
+     * sized for, so that its false positive rate exceeds the configured one.
+     *
+     * @return true if the filter is saturated
+     */
+    boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of the characters of the given string,
+     * finalized with {@link #mix(long)}.
+     */
+    private static long hash(String value) {
+        var hash = 0xCBF29CE484222325L;
+
+        for (var i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+
+        return mix(hash);
+    }
+
+    /**
+     * The finalization step of MurmurHash3, spreading every input bit over all
+     * output bits.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,607 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.kage.schemaregistry.cache.BoundedCache;
+import tech.kage.schemaregistry.cache.IntKeyedCache;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
+
+/**
+ * A {@link RelationalSchemaRepository} decorator caching schemas in memory.
+ * 
+ * <p>
+ * A schema registered under a given subject and version never changes, so such
+ * schemas are cached until evicted by the size bounds. The list of versions of
+ * a subject grows when new versions are registered, so it is cached only for a
+ * short, configurable time, and so is the latest version of a subject. Schema
+ * IDs are immutable too, so schemas by ID are cached, in a separate cache keyed
+ * by primitive IDs, until evicted by its size bounds.
+ * 
+ * <p>
+ * If a {@link SchemaSnapshot} is configured, schemas by subject and version and
+ * by ID missing in the cache are read from the snapshot before falling back to
+ * the database, so that a cold cache is warmed from the snapshot rather than
+ * from the database. As such schemas never change, the snapshot answers them
+ * correctly however old it is. The versions of a subject, its latest version
+ * and lookups by schema are always read from the database.
+ * 
+ * <p>
+ * When notified of a changed subject version, the cached versions of its
+ * subject and the cached schemas of the version are evicted, so that other
+ * instances registering schemas are observed without waiting for the TTL.
+ * Versions of a subject loaded while a change is notified are not cached, as
+ * they may have been read before the change.
+ * 
+ * <p>
+ * Requests for subjects with no versions, e.g. misspelled ones, are answered
+ * in memory. Subjects are checked against the {@link KnownSubjects} filter, if
+ * enabled, and subjects found to have no versions are cached as such for a
+ * short, configurable time, until a version of them is notified.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+@Primary
+@ConditionalOnStore(Type.POSTGRES)
+@ConditionalOnProperty(prefix = "schema-registry.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+class CachingSchemaRepository implements RelationalSchemaRepository, SchemaChangeHandler {
+    private final RelationalSchemaRepository delegate;
+    private final BoundedCache<SubjectVersion, Schema> schemas;
+    private final BoundedCache<String, SubjectVersions> subjectVersions;
+    private final BoundedCache<String, SubjectVersions> latestVersions;
+    private final IntKeyedCache<Schema> schemasById;
+    private final BoundedCache<String, Long> missingSubjects;
+    private final long latestTtlNanos;
+    private final long negativeTtlNanos;
+    private final SchemaSnapshot snapshot;
+    private final KnownSubjects knownSubjects;
+    private final AtomicLong changes = new AtomicLong();
+
+    /**
+     * Constructs a new {@link CachingSchemaRepository} instance.
+     *
+     * @param delegate      an instance of {@link PostgresSchemaRepository}
+     * @param properties    the cache configuration
+     * @param snapshot      the snapshot of the schema registry, if configured
+     * @param knownSubjects the filter of known subjects, if enabled
+     */
+    CachingSchemaRepository(
+            PostgresSchemaRepository delegate,
+            SchemaCacheProperties properties,
+            Optional<SchemaSnapshot> snapshot,
+            Optional<KnownSubjects> knownSubjects) {
+        this.delegate = delegate;
+        this.snapshot = snapshot.orElse(null);
+        this.knownSubjects = knownSubjects.orElse(null);
+        this.schemas = new BoundedCache<>(
+                properties.maxEntries(),
+                properties.maxBytes().toBytes(),
+                CachingSchemaRepository::sizeOf);
+        this.subjectVersions = new BoundedCache<>(
+                properties.maxEntries(),
+                Long.MAX_VALUE,
+                versions -> versions.versions().length);
+        this.latestVersions = new BoundedCache<>(
+                properties.maxEntries(),
+                Long.MAX_VALUE,
+                versions -> 1);
+        this.schemasById = new IntKeyedCache<>(
+                properties.ids().maxEntries(),
+                properties.ids().maxBytes().toBytes(),
+                CachingSchemaRepository::sizeOf);
+        this.missingSubjects = new BoundedCache<>(
+                properties.maxEntries(),
+                Long.MAX_VALUE,
+                missingSince -> 1);
+        this.latestTtlNanos = properties.latestTtl().toNanos();
+        this.negativeTtlNanos = properties.negativeTtl().toNanos();
+    }
+
+    @Override
+    public Flux<Schema> findBySubjectAndVersionOrderedByVersionDesc(String subject, Integer version) {
+        if (version != null) {
+            return findBySubjectAndVersion(subject, version);
+        }
+
+        return Flux.defer(() -> {
+            var cachedSchemas = cachedSchemasOf(subject);
+
+            if (cachedSchemas != null) {
+                return Flux.fromIterable(cachedSchemas);
+            }
+
+            if (isKnownMissing(subject)) {
+                return Flux.empty();
+            }
+
+            var loadedVersions = new ArrayList<Integer>();
+            var changesBefore = changes.get();
+
+            return delegate
+                    .findBySubjectAndVersionOrderedByVersionDesc(subject, null)
+                    .doOnNext(schema -> {
+                        cache(schema);
+                        loadedVersions.add(schema.getVersion());
+                    })
+                    .doOnComplete(() -> {
+                        if (loadedVersions.isEmpty()) {
+                            cacheMissing(subject, changesBefore);
+                        } else {
+                            cacheVersions(subject, loadedVersions, changesBefore);
+                        }
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Schema> findLatestBySubject(String subject) {
+        return Mono.defer(() -> {
+            var cachedSchema = cachedLatestSchemaOf(subject);
+
+            if (cachedSchema != null) {
+                return Mono.just(cachedSchema);
+            }
+
+            if (isKnownMissing(subject)) {
+                return Mono.empty();
+            }
+
+            var changesBefore = changes.get();
+
+            return delegate
+                    .findLatestBySubject(subject)
+                    .doOnNext(schema -> cacheLatest(schema, changesBefore))
+                    .switchIfEmpty(Mono.fromRunnable(() -> cacheMissing(subject, changesBefore)));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Cached schemas are returned first, followed by the others, read from the
+     * database with a single query.
+     */
+    @Override
+    public Flux<Schema> findLatestBySubjects(Collection<String> subjects) {
+        return Flux.defer(() -> {
+            var cachedSchemas = new ArrayList<Schema>();
+            var uncachedSubjects = new LinkedHashSet<String>();
+
+            for (var subject : subjects) {
+                var cachedSchema = cachedLatestSchemaOf(subject);
+
+                if (cachedSchema != null) {
+                    cachedSchemas.add(cachedSchema);
+                } else if (!isKnownMissing(subject)) {
+                    uncachedSubjects.add(subject);
+                }
+            }
+
+            if (uncachedSubjects.isEmpty()) {
+                return Flux.fromIterable(cachedSchemas);
+            }
+
+            var changesBefore = changes.get();
+            var missingSubjects = new HashSet<>(uncachedSubjects);
+
+            return Flux
+                    .fromIterable(cachedSchemas)
+                    .concatWith(delegate
+                            .findLatestBySubjects(uncachedSubjects)
+                            .doOnNext(schema -> {
+                                cacheLatest(schema, changesBefore);
+                                missingSubjects.remove(schema.getSubject());
+                            })
+                            .doOnComplete(() -> missingSubjects
+                                    .forEach(subject -> cacheMissing(subject, changesBefore))));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Schemas cached or in the snapshot are returned first, followed by the
+     * others, read from the database with a single query.
+     */
+    @Override
+    public Flux<Schema> findBySubjectVersions(Collection<SubjectVersion> subjectVersions) {
+        return Flux.defer(() -> {
+            var cachedSchemas = new ArrayList<Schema>();
+            var uncachedVersions = new LinkedHashSet<SubjectVersion>();
+
+            for (var subjectVersion : subjectVersions) {
+                var cachedSchema = findCachedBySubjectAndVersion(subjectVersion.subject(), subjectVersion.version());
+
+                if (cachedSchema != null) {
+                    cachedSchemas.add(cachedSchema);
+                } else if (!isKnownMissing(subjectVersion.subject())) {
+                    uncachedVersions.add(subjectVersion);
+                }
+            }
+
+            if (uncachedVersions.isEmpty()) {
+                return Flux.fromIterable(cachedSchemas);
+            }
+
+            return Flux
+                    .fromIterable(cachedSchemas)
+                    .concatWith(delegate
+                            .findBySubjectVersions(uncachedVersions)
+                            .doOnNext(this::cache));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Schemas cached or in the snapshot are returned first, followed by the
+     * others, read from the database with a single query.
+     */
+    @Override
+    public Flux<Schema> findByIds(Collection<Integer> ids) {
+        return Flux.defer(() -> {
+            var cachedSchemas = new ArrayList<Schema>();
+            var uncachedIds = new LinkedHashSet<Integer>();
+
+            for (var id : ids) {
+                var cachedSchema = findCachedById(id);
+
+                if (cachedSchema != null) {
+                    cachedSchemas.add(cachedSchema);
+                } else {
+                    uncachedIds.add(id);
+                }
+            }
+
+            if (uncachedIds.isEmpty()) {
+                return Flux.fromIterable(cachedSchemas);
+            }
+
+            return Flux
+                    .fromIterable(cachedSchemas)
+                    .concatWith(delegate
+                            .findByIds(uncachedIds)
+                            .doOnNext(schema -> schemasById.put(schema.getId(), schema)));
+        });
+    }
+
+    @Override
+    public Schema findCachedById(int id) {
+        var cachedSchema = schemasById.get(id);
+
+        if (cachedSchema == null && snapshot != null) {
+            cachedSchema = snapshot.findById(id);
+
+            if (cachedSchema != null) {
+                schemasById.put(id, cachedSchema);
+            }
+        }
+
+        return cachedSchema;
+    }
+
+    @Override
+    public Mono<Schema> findById(int id) {
+        return Mono.defer(() -> {
+            var cachedSchema = findCachedById(id);
+
+            if (cachedSchema != null) {
+                return Mono.just(cachedSchema);
+            }
+
+            return delegate
+                    .findById(id)
+                    .doOnNext(schema -> schemasById.put(id, schema));
+        });
+    }
+
+    @Override
+    public Flux<Schema> findBySubjectAndSchemaOrderedByVersionDesc(String subject, String schema) {
+        return Flux.defer(() -> isKnownMissing(subject)
+                ? Flux.empty()
+                : delegate.findBySubjectAndSchemaOrderedByVersionDesc(subject, schema));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Subjects known to have no versions are skipped, and the others are read
+     * from the database with a single query.
+     */
+    @Override
+    public Flux<Schema> findBySubjectSchemas(Collection<SubjectSchema> subjectSchemas) {
+        return Flux.defer(() -> {
+            var lookedUpSchemas = subjectSchemas
+                    .stream()
+                    .filter(subjectSchema -> !isKnownMissing(subjectSchema.subject()))
+                    .toList();
+
+            return lookedUpSchemas.isEmpty()
+                    ? Flux.empty()
+                    : delegate.findBySubjectSchemas(lookedUpSchemas);
+        });
+    }
+
+    @Override
+    public Flux<Schema> findAllOrderedBySchemaId() {
+        return delegate.findAllOrderedBySchemaId();
+    }
+
+    @Override
+    public Flux<Schema> findAllAfterSchemaId(int schemaId) {
+        return delegate.findAllAfterSchemaId(schemaId);
+    }
+
+    @Override
+    public Flux<Schema> findAllAfter(int schemaId, String subject, int version) {
+        return delegate.findAllAfter(schemaId, subject, version);
+    }
+
+    @Override
+    public Flux<SequencedSchema> findAllAfterSequence(long sequence) {
+        return delegate.findAllAfterSequence(sequence);
+    }
+
+    @Override
+    public void schemaChanged(SchemaChange change) {
+        changes.incrementAndGet();
+
+        subjectVersions.invalidate(change.subject());
+        latestVersions.invalidate(change.subject());
+        schemas.invalidate(new SubjectVersion(change.subject(), change.version()));
+        schemasById.invalidate(change.schemaId());
+        missingSubjects.invalidate(change.subject());
+    }
+
+    @Override
+    public void changesMissed() {
+        changes.incrementAndGet();
+
+        subjectVersions.invalidateIf(subject -> true);
+        latestVersions.invalidateIf(subject -> true);
+        missingSubjects.invalidateIf(subject -> true);
+    }
+
+    @Override
+    public Schema findCachedLatestBySubject(String subject) {
+        return cachedLatestSchemaOf(subject);
+    }
+
+    @Override
+    public Schema findCachedBySubjectAndVersion(String subject, int version) {
+        var cachedSchema = schemas.get(new SubjectVersion(subject, version));
+
+        if (cachedSchema == null && snapshot != null) {
+            cachedSchema = snapshot.findBySubjectAndVersion(subject, version);
+
+            if (cachedSchema != null) {
+                cache(cachedSchema);
+            }
+        }
+
+        return cachedSchema;
+    }
+
+    private Flux<Schema> findBySubjectAndVersion(String subject, int version) {
+        return Flux.defer(() -> {
+            var cachedSchema = findCachedBySubjectAndVersion(subject, version);
+
+            if (cachedSchema != null) {
+                return Flux.just(cachedSchema);
+            }
+
+            if (isKnownMissing(subject)) {
+                return Flux.empty();
+            }
+
+            return delegate
+                    .findBySubjectAndVersionOrderedByVersionDesc(subject, version)
+                    .doOnNext(this::cache);
+        });
+    }
+
+    /**
+     * Returns all cached schemas of the given subject, ordered by version
+     * descending, if both the list of its versions and every listed version are
+     * cached.
+     *
+     * @param subject the subject of the schemas
+     * 
+     * @return the cached schemas, or null if any of them is not cached
+     */
+    private List<Schema> cachedSchemasOf(String subject) {
+        var versions = unexpired(subjectVersions, subject);
+
+        if (versions == null) {
+            return null;
+        }
+
+        var cachedSchemas = new ArrayList<Schema>(versions.versions().length);
+
+        for (var version : versions.versions()) {
+            var schema = schemas.get(new SubjectVersion(subject, version));
+
+            if (schema == null) {
+                return null;
+            }
+
+            cachedSchemas.add(schema);
+        }
+
+        return cachedSchemas;
+    }
+
+    /**
+     * Returns the cached schema of the latest version of the given subject.
+     *
+     * @param subject the subject of the schema
+     * 
+     * @return the cached schema, or null if either the latest version or its
+     *         schema is not cached
+     */
+    private Schema cachedLatestSchemaOf(String subject) {
+        var latestVersion = cachedLatestVersionOf(subject);
+
+        return latestVersion != null ? schemas.get(new SubjectVersion(subject, latestVersion)) : null;
+    }
+
+    /**
+     * Returns the cached latest version of the given subject, taken either from
+     * the cached list of its versions or from its cached latest version.
+     *
+     * @param subject the subject of the schemas
+     * 
+     * @return the latest version, or null if not cached
+     */
+    private Integer cachedLatestVersionOf(String subject) {
+        var versions = unexpired(subjectVersions, subject);
+
+        if (versions == null) {
+            versions = unexpired(latestVersions, subject);
+        }
+
+        return versions != null ? versions.versions()[0] : null;
+    }
+
+    /**
+     * Returns whether the given subject is known to have no versions, either as
+     * not in the filter of known subjects or as recently found to have none. The
+     * filter is dropped whenever notifications may be missed, so it never hides
+     * subjects registered meanwhile.
+     *
+     * @param subject the subject to check
+     * 
+     * @return true if the subject has no versions
+     */
+    private boolean isKnownMissing(String subject) {
+        if (knownSubjects != null && !knownSubjects.mightExist(subject)) {
+            return true;
+        }
+
+        var missingSince = missingSubjects.get(subject);
+
+        if (missingSince != null && System.nanoTime() - missingSince >= negativeTtlNanos) {
+            missingSubjects.invalidate(subject);
+
+            return false;
+        }
+
+        return missingSince != null;
+    }
+
+    private void cacheMissing(String subject, long changesBefore) {
+        if (changes.get() == changesBefore) {
+            missingSubjects.put(subject, System.nanoTime());
+        }
+    }
+
+    private SubjectVersions unexpired(BoundedCache<String, SubjectVersions> cache, String subject) {
+        var versions = cache.get(subject);
+
+        if (versions != null && System.nanoTime() - versions.loadedAtNanos() >= latestTtlNanos) {
+            cache.invalidate(subject);
+
+            return null;
+        }
+
+        return versions;
+    }
+
+    private void cache(Schema schema) {
+        schemas.put(new SubjectVersion(schema.getSubject(), schema.getVersion()), schema);
+    }
+
+    private void cacheLatest(Schema schema, long changesBefore) {
+        cache(schema);
+
+        if (changes.get() == changesBefore) {
+            latestVersions.put(schema.getSubject(), new SubjectVersions(
+                    new int[] { schema.getVersion() },
+                    System.nanoTime()));
+        }
+    }
+
+    private void cacheVersions(String subject, List<Integer> versions, long changesBefore) {
+        if (!versions.isEmpty() && changes.get() == changesBefore) {
+            subjectVersions.put(
+                    subject,
+                    new SubjectVersions(versions.stream().mapToInt(Integer::intValue).toArray(), System.nanoTime()));
+        }
+    }
+
+    /**
+     * Computes the size of the given schema's definition encoded in UTF-8,
+     * without encoding it.
+     *
+     * @param schema the schema to weigh
+     * 
+     * @return the number of bytes of the encoded definition
+     */
+    static long sizeOf(Schema schema) {
+        var definition = schema.getSchema();
+        var size = (long) definition.length();
+
+        for (var i = 0; i < definition.length(); i++) {
+            var c = definition.charAt(i);
+
+            if (c >= 0x800) {
+                size += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Versions of a subject, ordered descending, as loaded at a given time.
+     *
+     * @param versions      the versions of the subject
+     * @param loadedAtNanos the time the versions were loaded
+     */
+    record SubjectVersions(int[] versions, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import org.springframework.stereotype.Component;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
+
+/**
+ * An in-memory implementation of {@link RelationalSchemaRepository} serving a
+ * fixed set of schemas, for deployments without a database.
+ * 
+ * <p>
+ * Schemas are loaded on startup from a file with one schema version per line,
+ * in the JSON format of Confluent Schema Registry responses, e.g.
+ * {@code {"subject":"user-subject","version":1,"id":1001,"schema":"..."}}, into
+ * an immutable {@link SchemaReadModel}. The position of a schema version in the
+ * file is its sequence number.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+@ConditionalOnStore(Type.MEMORY)
+class InMemorySchemaRepository implements RelationalSchemaRepository {
+    private final SchemaReadModel readModel;
+
+    /**
+     * Constructs a new {@link InMemorySchemaRepository} instance.
+     *
+     * @param properties the store configuration
+     */
+    InMemorySchemaRepository(SchemaStoreProperties properties) {
+        this.readModel = SchemaReadModel.load(properties.location());
+    }
+
+    @Override
+    public Flux<Schema> findBySubjectAndVersionOrderedByVersionDesc(String subject, Integer version) {
+        return readModel.findBySubjectAndVersionOrderedByVersionDesc(subject, version);
+    }
+
+    @Override
+    public Mono<Schema> findLatestBySubject(String subject) {
+        return readModel.findLatestBySubject(subject);
+    }
+
+    @Override
+    public Mono<Schema> findById(int id) {
+        return readModel.findById(id);
+    }
+
+    @Override
+    public Flux<Schema> findBySubjectAndSchemaOrderedByVersionDesc(String subject, String schema) {
+        return readModel.findBySubjectAndSchemaOrderedByVersionDesc(subject, schema);
+    }
+
+    @Override
+    public Flux<Schema> findAllOrderedBySchemaId() {
+        return readModel.findAllOrderedBySchemaId();
+    }
+
+    @Override
+    public Flux<Schema> findAllAfterSchemaId(int schemaId) {
+        return readModel.findAllAfterSchemaId(schemaId);
+    }
+
+    @Override
+    public Flux<Schema> findAllAfter(int schemaId, String subject, int version) {
+        return readModel.findAllAfter(schemaId, subject, version);
+    }
+
+    @Override
+    public Flux<SequencedSchema> findAllAfterSequence(long sequence) {
+        return readModel.findAllAfterSequence(sequence);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
+
+/**
+ * A {@link BloomFilter} of the subjects registered in PostgreSQL, answering in
+ * memory that a subject has no versions without querying the database.
+ * 
+ * <p>
+ * As subjects registered by other instances are only learned of from
+ * notifications, the filter is used only while listening to them. It is loaded
+ * from the subjects table, in the background, once listening starts, and lets
+ * any subject through until loaded. Subjects registered later are added when
+ * notified of their registration. As soon as the listening connection fails,
+ * the filter is dropped and any subject is let through again, until a filter
+ * loaded after listening is restored replaces it; a load started before the
+ * failure is discarded. The filter is also reloaded when more subjects have
+ * been added than it was sized for. Subjects notified while loading are added
+ * to the loaded filter too, so that none is lost when it replaces the previous
+ * one.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+@ConditionalOnStore(Type.POSTGRES)
+@ConditionalOnProperty(name = {
+        "schema-registry.cache.enabled",
+        "schema-registry.cache.subjects.enabled",
+        "schema-registry.notifications.enabled" }, havingValue = "true", matchIfMissing = true)
+class KnownSubjects implements SchemaChangeHandler, SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(KnownSubjects.class);
+
+    private static final int MIN_EXPECTED_SUBJECTS = 1024;
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final PostgresSchemaRepository repository;
+    private final double falsePositiveRate;
+    private final Set<String> notifiedSubjects = ConcurrentHashMap.newKeySet();
+    private final Sinks.Many<Boolean> loadRequests = Sinks.many().multicast().directBestEffort();
+    private final AtomicReference<Filter> filter = new AtomicReference<>(new Filter(null, 0));
+
+    private volatile BloomFilter loadingFilter;
+    private volatile Disposable loads;
+
+    /**
+     * Constructs a new {@link KnownSubjects} instance.
+     *
+     * @param repository an instance of {@link PostgresSchemaRepository}
+     * @param properties the cache configuration
+     */
+    KnownSubjects(PostgresSchemaRepository repository, SchemaCacheProperties properties) {
+        this.repository = repository;
+        this.falsePositiveRate = properties.subjects().falsePositiveRate();
+    }
+
+    /**
+     * Returns whether the given subject might have registered versions.
+     *
+     * @param subject the subject to check
+     * 
+     * @return false if the subject definitely has no versions, true otherwise
+     */
+    boolean mightExist(String subject) {
+        var currentFilter = filter.get().subjects();
+
+        return currentFilter == null || currentFilter.mightContain(subject);
+    }
+
+    /**
+     * Starts loading the filter in the background on request, i.e. once listening
+     * to changes. Requests made while loading are served by a single subsequent
+     * load.
+     */
+    @Override
+    public void start() {
+        loads = loadRequests
+                .asFlux()
+                .onBackpressureDrop()
+                .concatMap(request -> load()
+                        .retryWhen(Retry
+                                .backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                                .maxBackoff(MAX_BACKOFF)
+                                .doBeforeRetry(signal -> log.warn(
+                                        "Unable to load known subjects, retrying",
+                                        signal.failure()))), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        var currentLoads = loads;
+
+        if (currentLoads != null) {
+            currentLoads.dispose();
+        }
+
+        loads = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return loads != null;
+    }
+
+    @Override
+    public void schemaChanged(SchemaChange change) {
+        notifiedSubjects.add(change.subject());
+
+        var currentLoadingFilter = loadingFilter;
+
+        if (currentLoadingFilter != null) {
+            currentLoadingFilter.add(change.subject());
+        }
+
+        var currentFilter = filter.get().subjects();
+
+        if (currentFilter != null) {
+            currentFilter.add(change.subject());
+
+            if (currentFilter.isSaturated()) {
+                loadRequests.tryEmitNext(true);
+            }
+        }
+    }
+
+    /**
+     * Drops the filter, letting any subject through, as subjects registered while
+     * not listening would not be added to it.
+     */
+    @Override
+    public void listeningFailed() {
+        filter.updateAndGet(current -> new Filter(null, current.listeningFailures() + 1));
+    }
+
+    @Override
+    public void changesMissed() {
+        loadRequests.tryEmitNext(true);
+    }
+
+    /**
+     * Loads all subjects into a new filter, sized for twice their number, and
+     * replaces the current filter with it, unless listening has failed since the
+     * load started.
+     *
+     * @return a Mono containing the loaded filter
+     */
+    Mono<BloomFilter> load() {
+        return Mono.defer(() -> {
+            var filterBefore = filter.get();
+
+            notifiedSubjects.clear();
+
+            return repository
+                    .findAllSubjects()
+                    .collectList()
+                    .map(subjects -> {
+                        var loadedFilter = new BloomFilter(
+                                Math.max(subjects.size() * 2, MIN_EXPECTED_SUBJECTS),
+                                falsePositiveRate);
+
+                        // subjects notified from now on are added by schemaChanged, the earlier ones here
+                        loadingFilter = loadedFilter;
+
+                        subjects.forEach(loadedFilter::add);
+                        notifiedSubjects.forEach(loadedFilter::add);
+
+                        // subjects may have been registered without notifying if listening failed meanwhile
+                        var installed = filter.compareAndSet(
+                                filterBefore,
+                                new Filter(loadedFilter, filterBefore.listeningFailures()));
+
+                        loadingFilter = null;
+
+                        if (installed) {
+                            log.info("Loaded {} known subjects", subjects.size());
+                        } else {
+                            log.info("Discarded {} known subjects loaded while not listening", subjects.size());
+                        }
+
+                        return loadedFilter;
+                    });
+        });
+    }
+
+    /**
+     * The current filter together with the number of listening failures it has
+     * been loaded after, so that a filter loaded before a failure is never
+     * installed after it.
+     *
+     * @param subjects          the filter of known subjects, or null to let any
+     *                          subject through
+     * @param listeningFailures the number of listening failures
+     */
+    private record Filter(BloomFilter subjects, long listeningFailures) {
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
+
+/**
+ * A {@link RelationalSchemaRepository} serving the whole registry from an
+ * immutable {@link SchemaReadModel} materialized from PostgreSQL.
+ * 
+ * <p>
+ * All schemas are read into the read model on startup, before the application
+ * starts accepting requests, so that it becomes ready only once they are
+ * loaded. The read model is then refreshed periodically, and whenever notified
+ * of changed subject versions, with the schema versions registered since the
+ * last one it holds, and the refreshed read model replaces the previous one
+ * atomically. Reads never wait for a refresh nor access the database.
+ * 
+ * <p>
+ * Notifications do not tell registrations from updates and deletions, but a
+ * notified subject version already in the read model can only have been updated
+ * or deleted, which reading the registered schema versions would miss. All
+ * schemas are then reloaded instead, and so they are when changes may have been
+ * missed.
+ * 
+ * <p>
+ * Reading the changes after the last sequence number is safe because sequence
+ * numbers are assigned in commit order: the {@code subjects_serialize_registrations}
+ * trigger serializes registrations, so no registration can commit later with a
+ * lower sequence number than one already read. Changes are merged into the
+ * sorted structures of the current read model, so a refresh costs a linear
+ * copy rather than a re-sort of the whole registry.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+@Primary
+@ConditionalOnStore(Type.MATERIALIZED)
+class MaterializedSchemaRepository implements RelationalSchemaRepository, SchemaChangeHandler, SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(MaterializedSchemaRepository.class);
+
+    private final PostgresSchemaRepository source;
+    private final Duration refreshInterval;
+    private final AtomicReference<SchemaReadModel> readModel = new AtomicReference<>(new SchemaReadModel(List.of()));
+    private final Sinks.Many<Boolean> refreshRequests = Sinks.many().multicast().directBestEffort();
+    private final AtomicBoolean reloadRequested = new AtomicBoolean();
+
+    private volatile Disposable refreshes;
+
+    /**
+     * Constructs a new {@link MaterializedSchemaRepository} instance.
+     *
+     * @param source     an instance of {@link PostgresSchemaRepository}
+     * @param properties the store configuration
+     */
+    MaterializedSchemaRepository(PostgresSchemaRepository source, SchemaStoreProperties properties) {
+        this.source = source;
+        this.refreshInterval = properties.refreshInterval();
+    }
+
+    /**
+     * Loads all schemas into the read model, blocking until they are loaded, and
+     * starts refreshing it.
+     */
+    @Override
+    public void start() {
+        var loadedReadModel = refresh().block();
+
+        log.info("Materialized {} schema versions", loadedReadModel.size());
+
+        refreshes = Flux
+                .merge(Flux.interval(refreshInterval, refreshInterval).map(tick -> true), refreshRequests.asFlux())
+                .onBackpressureDrop()
+                .concatMap(request -> refresh()
+                        .onErrorResume(e -> {
+                            log.warn("Unable to refresh materialized schemas", e);
+
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    /**
+     * Returns the phase of starting before the web server, so that no requests
+     * are served before all schemas are loaded.
+     *
+     * @return the lifecycle phase
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    @Override
+    public void stop() {
+        var currentRefreshes = refreshes;
+
+        if (currentRefreshes != null) {
+            currentRefreshes.dispose();
+        }
+
+        refreshes = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return refreshes != null;
+    }
+
+    /**
+     * Requests a refresh of the read model, e.g. when notified of registered
+     * schemas. Requests made while a refresh is in progress are served by a
+     * single subsequent refresh.
+     */
+    void requestRefresh() {
+        refreshRequests.tryEmitNext(true);
+    }
+
+    /**
+     * Requests a reload of all schemas into the read model, e.g. when notified
+     * of updated or deleted schemas. Requests made while a refresh is in
+     * progress are served by a single subsequent reload.
+     */
+    void requestReload() {
+        reloadRequested.set(true);
+
+        requestRefresh();
+    }
+
+    @Override
+    public void schemaChanged(SchemaChange change) {
+        schemasChanged(List.of(change));
+    }
+
+    /**
+     * Requests a single refresh of the read model for all the changes, or a
+     * reload if any of them is of a subject version already in the read model.
+     *
+     * @param changes the changes
+     */
+    @Override
+    public void schemasChanged(List<SchemaChange> changes) {
+        var current = readModel.get();
+
+        if (changes.stream().anyMatch(change -> current.contains(change.subject(), change.version()))) {
+            requestReload();
+        } else {
+            requestRefresh();
+        }
+    }
+
+    @Override
+    public void changesMissed() {
+        requestReload();
+    }
+
+    /**
+     * Reads the schema versions registered since the last one of the read model
+     * and replaces the read model with one including them, or, if a reload has
+     * been requested, replaces it with one holding all schema versions.
+     *
+     * @return a Mono containing the refreshed read model
+     */
+    Mono<SchemaReadModel> refresh() {
+        return Mono.defer(() -> {
+            if (reloadRequested.getAndSet(false)) {
+                return source
+                        .findAllAfterSequence(0)
+                        .collectList()
+                        .map(SchemaReadModel::new)
+                        .doOnNext(readModel::set)
+                        .doOnError(e -> reloadRequested.set(true));
+            }
+
+            var current = readModel.get();
+
+            return source
+                    .findAllAfterSequence(current.lastSequence())
+                    .collectList()
+                    .map(current::withChanges)
+                    .doOnNext(readModel::set);
+        });
+    }
+
+    @Override
+    public Flux<Schema> findBySubjectAndVersionOrderedByVersionDesc(String subject, Integer version) {
+        return readModel.get().findBySubjectAndVersionOrderedByVersionDesc(subject, version);
+    }
+
+    @Override
+    public Mono<Schema> findLatestBySubject(String subject) {
+        return readModel.get().findLatestBySubject(subject);
+    }
+
+    @Override
+    public Mono<Schema> findById(int id) {
+        return readModel.get().findById(id);
+    }
+
+    @Override
+    public Flux<Schema> findBySubjectAndSchemaOrderedByVersionDesc(String subject, String schema) {
+        return readModel.get().findBySubjectAndSchemaOrderedByVersionDesc(subject, schema);
+    }
+
+    @Override
+    public Flux<Schema> findAllOrderedBySchemaId() {
+        return readModel.get().findAllOrderedBySchemaId();
+    }
+
+    @Override
+    public Flux<Schema> findAllAfterSchemaId(int schemaId) {
+        return readModel.get().findAllAfterSchemaId(schemaId);
+    }
+
+    @Override
+    public Flux<Schema> findAllAfter(int schemaId, String subject, int version) {
+        return readModel.get().findAllAfter(schemaId, subject, version);
+    }
+
+    @Override
+    public Flux<SequencedSchema> findAllAfterSequence(long sequence) {
+        return readModel.get().findAllAfterSequence(sequence);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.util.Objects;
+
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Receiver of notifications published with PostgreSQL NOTIFY. Notifications
+ * are received on a dedicated connection opened by the connection factory
+ * underlying the connection pool, if any, so that no pooled connection is held
+ * for as long as notifications are listened to. The channel is unlistened
+ * before the connection is closed.
+ * 
+ * @author Dariusz Szpakowski
+ */
+public final class PostgresNotifications {
+    /**
+     * The payload emitted once listening has started.
+     */
+    public static final String LISTENING = "";
+
+    private final ConnectionFactory connectionFactory;
+
+    /**
+     * Constructs a new {@link PostgresNotifications} instance.
+     *
+     * @param connectionFactory an instance of {@link ConnectionFactory}, possibly
+     *                          a pool of connections
+     */
+    public PostgresNotifications(ConnectionFactory connectionFactory) {
+        this.connectionFactory = unpooled(connectionFactory);
+    }
+
+    /**
+     * Listens to notifications on the given channel. The returned Flux emits
+     * {@link #LISTENING} once listening has started, so that notifications
+     * published before can be told apart, and then the payload of each
+     * notification. Notifications with an empty payload are emitted as
+     * {@link #LISTENING} too.
+     *
+     * @param channel the name of the channel
+     * 
+     * @return a Flux emitting the payloads of notifications, never completing
+     *         unless cancelled, or erroring when the connection fails or is
+     *         closed
+     */
+    public Flux<String> listen(String channel) {
+        return Flux
+                .usingWhen(
+                        connectionFactory.create(),
+                        connection -> listen(unwrap(connection), channel),
+                        connection -> unlistenAndClose(connection, channel),
+                        (connection, e) -> unlistenAndClose(connection, channel),
+                        connection -> unlistenAndClose(connection, channel))
+                .concatWith(Mono.error(() -> new IllegalStateException("Listening connection closed")));
+    }
+
+    private static Flux<String> listen(PostgresqlConnection connection, String channel) {
+        var notifications = connection
+                .getNotifications()
+                .map(notification -> Objects.requireNonNullElse(notification.getParameter(), LISTENING));
+
+        var listened = connection
+                .createStatement("LISTEN " + channel)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .then(Mono.just(LISTENING));
+
+        // subscribe to notifications before LISTEN is executed, so that none is missed
+        return Flux.merge(notifications, listened);
+    }
+
+    private static Mono<Void> unlistenAndClose(Connection connection, String channel) {
+        return Flux
+                .from(connection.createStatement("UNLISTEN " + channel).execute())
+                .flatMap(result -> result.getRowsUpdated())
+                .onErrorComplete()
+                .then(Mono.from(connection.close()));
+    }
+
+    private static ConnectionFactory unpooled(ConnectionFactory connectionFactory) {
+        var unwrapped = connectionFactory;
+
+        while (unwrapped instanceof Wrapped<?> wrapped && wrapped.unwrap() instanceof ConnectionFactory delegate) {
+            unwrapped = delegate;
+        }
+
+        return unwrapped;
+    }
+
+    private static PostgresqlConnection unwrap(Connection connection) {
+        var unwrapped = (Object) connection;
+
+        while (!(unwrapped instanceof PostgresqlConnection) && unwrapped instanceof Wrapped<?> wrapped) {
+            unwrapped = wrapped.unwrap();
+        }
+
+        if (unwrapped instanceof PostgresqlConnection postgresqlConnection) {
+            return postgresqlConnection;
+        }
+
+        throw new IllegalStateException("Listening to notifications requires a PostgreSQL connection");
+    }
+}
@@ -25,16 +25,24 @@
 
 package tech.kage.schemaregistry.entity;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
 import org.springframework.stereotype.Component;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import io.r2dbc.spi.Readable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
 
 /**
  * A PostgreSQL-based implementation of {@link RelationalSchemaRepository}.
@@ -42,97 +50,520 @@ import reactor.core.publisher.Flux;
  * @author Dariusz Szpakowski
  */
 @Component
+@ConditionalOnStore({ Type.POSTGRES, Type.MATERIALIZED })
 class PostgresSchemaRepository implements RelationalSchemaRepository {
     private static final String SELECT_SCHEMAS_SQL = """
                 SELECT
-                    sub.subject, sub.version, sub.schema_id, schema,
-                    ref.name AS ref_name, ref.subject AS ref_subject, ref.version AS ref_version
+                    sub.subject, sub.version, sub.schema_id, schema, sub.seq,
+                    ref.names AS ref_names, ref.subjects AS ref_subjects, ref.versions AS ref_versions
                 FROM schemas.subjects sub
                     JOIN schemas.schemas s ON sub.schema_id = s.id
-                    LEFT OUTER JOIN schemas.references ref ON s.id = ref.schema_id
-                %s
-                ORDER BY %s, ref_name
+                    LEFT JOIN LATERAL (
+                        SELECT
+                            array_agg(r.name ORDER BY r.name) AS names,
+                            array_agg(r.subject ORDER BY r.name) AS subjects,
+                            array_agg(r.version ORDER BY r.name) AS versions
+                        FROM schemas.references r
+                        WHERE r.schema_id = s.id
+                    ) ref ON true
             """;
 
-    private static final String WHERE_SUBJECT = "WHERE sub.subject = :subject";
-    private static final String EMPTY_WHERE = "";
+    private static final String SELECT_LATEST_SCHEMA_SQL = """
+                SELECT
+                    sub.subject, sub.version, sub.schema_id, schema,
+                    ref.names AS ref_names, ref.subjects AS ref_subjects, ref.versions AS ref_versions
+                FROM (
+                        SELECT subject, version, schema_id
+                        FROM schemas.subjects
+                        WHERE subject = :subject
+                        ORDER BY version DESC
+                        LIMIT 1
+                    ) sub
+                    JOIN schemas.schemas s ON sub.schema_id = s.id
+                    LEFT JOIN LATERAL (
+                        SELECT
+                            array_agg(r.name ORDER BY r.name) AS names,
+                            array_agg(r.subject ORDER BY r.name) AS subjects,
+                            array_agg(r.version ORDER BY r.name) AS versions
+                        FROM schemas.references r
+                        WHERE r.schema_id = s.id
+                    ) ref ON true
+            """;
+
+    private static final String SELECT_LATEST_SCHEMAS_SQL = """
+                SELECT
+                    sub.subject, sub.version, sub.schema_id, schema,
+                    ref.names AS ref_names, ref.subjects AS ref_subjects, ref.versions AS ref_versions
+                FROM (
+                        SELECT DISTINCT ON (subject) subject, version, schema_id
+                        FROM schemas.subjects
+                        WHERE subject = ANY(:subjects)
+                        ORDER BY subject, version DESC
+                    ) sub
+                    JOIN schemas.schemas s ON sub.schema_id = s.id
+                    LEFT JOIN LATERAL (
+                        SELECT
+                            array_agg(r.name ORDER BY r.name) AS names,
+                            array_agg(r.subject ORDER BY r.name) AS subjects,
+                            array_agg(r.version ORDER BY r.name) AS versions
+                        FROM schemas.references r
+                        WHERE r.schema_id = s.id
+                    ) ref ON true
+            """;
 
-    private static final String ORDER_BY_VERSION_DESC = "sub.version DESC";
-    private static final String ORDER_BY_SCHEMA_ID = "sub.schema_id";
+    private static final String SELECT_SCHEMAS_BY_ID_SQL = """
+                SELECT
+                    NULL::text AS subject, NULL::integer AS version, s.id AS schema_id, schema,
+                    ref.names AS ref_names, ref.subjects AS ref_subjects, ref.versions AS ref_versions
+                FROM schemas.schemas s
+                    LEFT JOIN LATERAL (
+                        SELECT
+                            array_agg(r.name ORDER BY r.name) AS names,
+                            array_agg(r.subject ORDER BY r.name) AS subjects,
+                            array_agg(r.version ORDER BY r.name) AS versions
+                        FROM schemas.references r
+                        WHERE r.schema_id = s.id
+                    ) ref ON true
+            """;
 
+    private static final String ID = "id";
+    private static final String IDS = "ids";
+    private static final String SUBJECTS = "subjects";
+    private static final String VERSIONS = "versions";
     private static final String SUBJECT = "subject";
     private static final String VERSION = "version";
     private static final String SCHEMA_ID = "schema_id";
     private static final String SCHEMA = "schema";
-    private static final String REFERENCE_NAME = "ref_name";
-    private static final String REFERENCE_SUBJECT = "ref_subject";
-    private static final String REFERENCE_VERSION = "ref_version";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String FINGERPRINTS = "fingerprints";
+    private static final String SEQUENCE = "seq";
+    private static final String LIMIT = "limit";
+    private static final String REFERENCE_NAMES = "ref_names";
+    private static final String REFERENCE_SUBJECTS = "ref_subjects";
+    private static final String REFERENCE_VERSIONS = "ref_versions";
 
     private final DatabaseClient databaseClient;
+    private final SchemaScanProperties scanProperties;
+    private final Map<Statement, LongAdder> executions = new EnumMap<>(Statement.class);
 
     /**
      * Constructs a new {@link PostgresSchemaRepository} instance.
      *
      * @param databaseClient an instance of {@link DatabaseClient}
+     * @param scanProperties the configuration of reading all schemas
      */
-    PostgresSchemaRepository(DatabaseClient databaseClient) {
+    PostgresSchemaRepository(DatabaseClient databaseClient, SchemaScanProperties scanProperties) {
         this.databaseClient = databaseClient;
+        this.scanProperties = scanProperties;
+
+        for (var statement : Statement.values()) {
+            executions.put(statement, new LongAdder());
+        }
     }
 
     @Override
     public Flux<Schema> findBySubjectAndVersionOrderedByVersionDesc(String subject, Integer version) {
-        var parameters = new HashMap<String, Object>();
+        if (version != null) {
+            return sql(Statement.SCHEMA_BY_SUBJECT_AND_VERSION)
+                    .bind(SUBJECT, subject)
+                    .bind(VERSION, version)
+                    .map(this::toSchema)
+                    .all();
+        }
 
-        parameters.put(SUBJECT, subject);
+        return sql(Statement.SCHEMAS_BY_SUBJECT)
+                .bind(SUBJECT, subject)
+                .map(this::toSchema)
+                .all();
+    }
 
-        if (version != null) {
-            parameters.put(VERSION, version);
+    @Override
+    public Mono<Schema> findLatestBySubject(String subject) {
+        return sql(Statement.LATEST_SCHEMA_BY_SUBJECT)
+                .bind(SUBJECT, subject)
+                .map(this::toSchema)
+                .one();
+    }
+
+    @Override
+    public Mono<Schema> findById(int id) {
+        return sql(Statement.SCHEMA_BY_ID)
+                .bind(ID, id)
+                .map(this::toSchema)
+                .one();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * All schemas are read with a single query.
+     */
+    @Override
+    public Flux<Schema> findLatestBySubjects(Collection<String> subjects) {
+        if (subjects.isEmpty()) {
+            return Flux.empty();
         }
 
-        return databaseClient
-                .sql(SELECT_SCHEMAS_SQL
-                        .formatted(
-                                WHERE_SUBJECT + (version != null ? " AND sub.version = :version" : ""),
-                                ORDER_BY_VERSION_DESC))
-                .bindValues(parameters)
-                .fetch()
-                .all()
-                .bufferUntilChanged(result -> result.get(SCHEMA_ID))
-                .map(this::toSchema);
+        return sql(Statement.LATEST_SCHEMAS_BY_SUBJECTS)
+                .bind(SUBJECTS, subjects.toArray(String[]::new))
+                .map(this::toSchema)
+                .all();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * All schemas are read with a single query.
+     */
+    @Override
+    public Flux<Schema> findBySubjectVersions(Collection<SubjectVersion> subjectVersions) {
+        if (subjectVersions.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return sql(Statement.SCHEMAS_BY_SUBJECT_VERSIONS)
+                .bind(SUBJECTS, subjectVersions.stream().map(SubjectVersion::subject).toArray(String[]::new))
+                .bind(VERSIONS, subjectVersions.stream().map(SubjectVersion::version).toArray(Integer[]::new))
+                .map(this::toSchema)
+                .all();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * All schemas are read with a single query.
+     */
+    @Override
+    public Flux<Schema> findByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return sql(Statement.SCHEMAS_BY_IDS)
+                .bind(IDS, ids.toArray(Integer[]::new))
+                .map(this::toSchema)
+                .all();
     }
 
+    @Override
+    public Flux<Schema> findBySubjectAndSchemaOrderedByVersionDesc(String subject, String schema) {
+        return sql(Statement.SCHEMAS_BY_SUBJECT_AND_FINGERPRINT)
+                .bind(SUBJECT, subject)
+                .bind(FINGERPRINT, SchemaFingerprint.of(schema))
+                .map(this::toSchema)
+                .all();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * All schemas are read with a single query, matching schemas by the
+     * fingerprints of the given definitions.
+     */
+    @Override
+    public Flux<Schema> findBySubjectSchemas(Collection<SubjectSchema> subjectSchemas) {
+        if (subjectSchemas.isEmpty()) {
+            return Flux.empty();
+        }
+
+        var hex = HexFormat.of();
+
+        return sql(Statement.SCHEMAS_BY_SUBJECT_FINGERPRINTS)
+                .bind(SUBJECTS, subjectSchemas.stream().map(SubjectSchema::subject).toArray(String[]::new))
+                .bind(FINGERPRINTS, subjectSchemas
+                        .stream()
+                        .map(subjectSchema -> hex.formatHex(SchemaFingerprint.of(subjectSchema.schema())))
+                        .toArray(String[]::new))
+                .map(this::toSchema)
+                .all();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Unless disabled, schemas are read in pages of a configurable size, each
+     * page with a separate query continuing after the last schema of the
+     * previous page. The next page is queried only once the previous one has
+     * been requested downstream, so memory use is bounded by the page size
+     * regardless of the number of schemas, and no query holds a transaction
+     * open for the whole read.
+     */
     @Override
     public Flux<Schema> findAllOrderedBySchemaId() {
-        return databaseClient
-                .sql(SELECT_SCHEMAS_SQL.formatted(EMPTY_WHERE, ORDER_BY_SCHEMA_ID))
-                .fetch()
+        if (!scanProperties.paged()) {
+            return sql(Statement.ALL_SCHEMAS)
+                    .filter(statement -> statement.fetchSize(scanProperties.fetchSize()))
+                    .map(this::toSchema)
+                    .all();
+        }
+
+        return findFirstPage()
+                .expand(page -> page.size() < scanProperties.pageSize()
+                        ? Mono.empty()
+                        : findPageAfter(page.getLast()))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Schemas are always read in pages of a configurable size, each page with a
+     * separate query continuing after the last schema of the previous page, as
+     * with {@link #findAllOrderedBySchemaId()}.
+     */
+    @Override
+    public Flux<Schema> findAllAfterSchemaId(int schemaId) {
+        return findPageAfterSchemaId(schemaId)
+                .expand(page -> page.size() < scanProperties.pageSize()
+                        ? Mono.empty()
+                        : findPageAfter(page.getLast()))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Schemas are always read in pages of a configurable size, each page with a
+     * separate query continuing after the last schema of the previous page, as
+     * with {@link #findAllOrderedBySchemaId()}.
+     */
+    @Override
+    public Flux<Schema> findAllAfter(int schemaId, String subject, int version) {
+        return findPageAfter(schemaId, subject, version)
+                .expand(page -> page.size() < scanProperties.pageSize()
+                        ? Mono.empty()
+                        : findPageAfter(page.getLast()))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Schemas are always read in pages of a configurable size, each page with a
+     * separate query continuing after the sequence number of the last schema of
+     * the previous page.
+     */
+    @Override
+    public Flux<SequencedSchema> findAllAfterSequence(long sequence) {
+        return findPageAfterSequence(sequence)
+                .expand(page -> page.size() < scanProperties.pageSize()
+                        ? Mono.empty()
+                        : findPageAfterSequence(page.getLast().sequence()))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * Retrieves the distinct subjects with at least one registered version.
+     *
+     * @return a Flux of subjects, in no particular order
+     */
+    Flux<String> findAllSubjects() {
+        return sql(Statement.ALL_SUBJECTS)
+                .filter(statement -> statement.fetchSize(scanProperties.fetchSize()))
+                .map(row -> row.get(SUBJECT, String.class))
+                .all();
+    }
+
+    private Mono<List<SequencedSchema>> findPageAfterSequence(long sequence) {
+        return sql(Statement.PAGE_OF_SCHEMAS_AFTER_SEQUENCE)
+                .bind(SEQUENCE, sequence)
+                .bind(LIMIT, scanProperties.pageSize())
+                .filter(statement -> statement.fetchSize(scanProperties.fetchSize()))
+                .map(row -> new SequencedSchema(row.get(SEQUENCE, Long.class), toSchema(row)))
                 .all()
-                .bufferUntilChanged(result -> result.get(SCHEMA_ID))
-                .map(this::toSchema);
+                .collectList();
+    }
+
+    private Mono<List<Schema>> findFirstPage() {
+        return sql(Statement.FIRST_PAGE_OF_ALL_SCHEMAS)
+                .bind(LIMIT, scanProperties.pageSize())
+                .filter(statement -> statement.fetchSize(scanProperties.fetchSize()))
+                .map(this::toSchema)
+                .all()
+                .collectList();
+    }
+
+    private Mono<List<Schema>> findPageAfterSchemaId(int schemaId) {
+        return sql(Statement.FIRST_PAGE_OF_SCHEMAS_AFTER_SCHEMA_ID)
+                .bind(SCHEMA_ID, schemaId)
+                .bind(LIMIT, scanProperties.pageSize())
+                .filter(statement -> statement.fetchSize(scanProperties.fetchSize()))
+                .map(this::toSchema)
+                .all()
+                .collectList();
+    }
+
+    private Mono<List<Schema>> findPageAfter(Schema last) {
+        return findPageAfter(last.getId(), last.getSubject(), last.getVersion());
+    }
+
+    private Mono<List<Schema>> findPageAfter(int schemaId, String subject, int version) {
+        return sql(Statement.NEXT_PAGE_OF_ALL_SCHEMAS)
+                .bind(SCHEMA_ID, schemaId)
+                .bind(SUBJECT, subject)
+                .bind(VERSION, version)
+                .bind(LIMIT, scanProperties.pageSize())
+                .filter(statement -> statement.fetchSize(scanProperties.fetchSize()))
+                .map(this::toSchema)
+                .all()
+                .collectList();
+    }
+
+    /**
+     * Returns the number of executions of the given statement.
+     *
+     * @param statement the statement from the catalog
+     * 
+     * @return the number of executions
+     */
+    long executions(Statement statement) {
+        return executions.get(statement).sum();
     }
 
     /**
-     * Maps database rows to a Schema object with references.
+     * Creates an execution of the given statement, counted when the statement is
+     * actually executed.
      *
-     * @param rows the rows containing schema and reference data
+     * @param statement the statement from the catalog
+     * 
+     * @return the execution specification
+     */
+    private GenericExecuteSpec sql(Statement statement) {
+        var executionCount = executions.get(statement);
+
+        return databaseClient.sql(() -> {
+            executionCount.increment();
+
+            return statement.sql();
+        });
+    }
+
+    /**
+     * Maps a database row to a Schema object with references. References are
+     * aggregated into arrays ordered by reference name, or null if the schema has
+     * no references.
+     *
+     * @param row the row containing schema and aggregated reference data
      * 
      * @return a Schema instance
      */
-    private Schema toSchema(List<Map<String, Object>> rows) {
-        var references = rows
-                .stream()
-                .filter(row -> row.get(REFERENCE_NAME) != null)
-                .map(row -> new SchemaReference(
-                        (String) row.get(REFERENCE_NAME),
-                        (String) row.get(REFERENCE_SUBJECT),
-                        (Integer) row.get(REFERENCE_VERSION)))
-                .toList();
-
-        var subject = (String) rows.getFirst().get(SUBJECT);
-        var version = (Integer) rows.getFirst().get(VERSION);
-        var schemaId = (Integer) rows.getFirst().get(SCHEMA_ID);
-        var schemaContent = (String) rows.getFirst().get(SCHEMA);
+    Schema toSchema(Readable row) {
+        var referenceNames = row.get(REFERENCE_NAMES, String[].class);
+        var references = new ArrayList<SchemaReference>(referenceNames != null ? referenceNames.length : 0);
+
+        if (referenceNames != null) {
+            var referenceSubjects = row.get(REFERENCE_SUBJECTS, String[].class);
+            var referenceVersions = row.get(REFERENCE_VERSIONS, Integer[].class);
+
+            for (var i = 0; i < referenceNames.length; i++) {
+                references.add(new SchemaReference(referenceNames[i], referenceSubjects[i], referenceVersions[i]));
+            }
+        }
+
+        var subject = row.get(SUBJECT, String.class);
+        var version = row.get(VERSION, Integer.class);
+        var schemaId = row.get(SCHEMA_ID, Integer.class);
+        var schemaContent = row.get(SCHEMA, String.class);
 
         return new Schema(subject, version, schemaId, "AVRO", references, schemaContent);
     }
+
+    /**
+     * Catalog of SQL statements, one per access pattern. The SQL text of each
+     * statement is fixed, so that the driver prepares it once per connection and
+     * reuses the prepared statement for subsequent executions.
+     */
+    enum Statement {
+        SCHEMAS_BY_SUBJECT(SELECT_SCHEMAS_SQL + """
+                WHERE sub.subject = :subject
+                ORDER BY sub.version DESC
+                """),
+
+        SCHEMA_BY_SUBJECT_AND_VERSION(SELECT_SCHEMAS_SQL + """
+                WHERE sub.subject = :subject AND sub.version = :version
+                """),
+
+        SCHEMAS_BY_SUBJECT_AND_FINGERPRINT(SELECT_SCHEMAS_SQL + """
+                WHERE sub.subject = :subject AND s.fingerprint = :fingerprint
+                ORDER BY sub.version DESC
+                """),
+
+        SCHEMAS_BY_SUBJECT_FINGERPRINTS(SELECT_SCHEMAS_SQL + """
+                WHERE (sub.subject, s.fingerprint) IN (
+                    SELECT l.subject, decode(l.fingerprint, 'hex')
+                    FROM unnest(:subjects::text[], :fingerprints::text[]) AS l(subject, fingerprint)
+                )
+                ORDER BY sub.subject, sub.version DESC
+                """),
+
+        SCHEMAS_BY_SUBJECT_VERSIONS(SELECT_SCHEMAS_SQL + """
+                WHERE (sub.subject, sub.version) IN (SELECT * FROM unnest(:subjects::text[], :versions::integer[]))
+                """),
+
+        LATEST_SCHEMA_BY_SUBJECT(SELECT_LATEST_SCHEMA_SQL),
+
+        LATEST_SCHEMAS_BY_SUBJECTS(SELECT_LATEST_SCHEMAS_SQL),
+
+        SCHEMA_BY_ID(SELECT_SCHEMAS_BY_ID_SQL + """
+                WHERE s.id = :id
+                """),
+
+        SCHEMAS_BY_IDS(SELECT_SCHEMAS_BY_ID_SQL + """
+                WHERE s.id = ANY(:ids)
+                """),
+
+        ALL_SCHEMAS(SELECT_SCHEMAS_SQL + """
+                ORDER BY sub.schema_id, sub.subject, sub.version
+                """),
+
+        FIRST_PAGE_OF_ALL_SCHEMAS(SELECT_SCHEMAS_SQL + """
+                ORDER BY sub.schema_id, sub.subject, sub.version
+                LIMIT :limit
+                """),
+
+        FIRST_PAGE_OF_SCHEMAS_AFTER_SCHEMA_ID(SELECT_SCHEMAS_SQL + """
+                WHERE sub.schema_id > :schema_id
+                ORDER BY sub.schema_id, sub.subject, sub.version
+                LIMIT :limit
+                """),
+
+        NEXT_PAGE_OF_ALL_SCHEMAS(SELECT_SCHEMAS_SQL + """
+                WHERE (sub.schema_id, sub.subject, sub.version) > (:schema_id, :subject, :version)
+                ORDER BY sub.schema_id, sub.subject, sub.version
+                LIMIT :limit
+                """),
+
+        PAGE_OF_SCHEMAS_AFTER_SEQUENCE(SELECT_SCHEMAS_SQL + """
+                WHERE sub.seq > :seq
+                ORDER BY sub.seq
+                LIMIT :limit
+                """),
+
+        ALL_SUBJECTS("""
+                SELECT DISTINCT subject FROM schemas.subjects
+                """);
+
+        private final String sql;
+
+        Statement(String sql) {
+            this.sql = sql;
+        }
+
+        /**
+         * Returns the SQL text of the statement.
+         * 
+         * @return the SQL text
+         */
+        String sql() {
+            return sql;
+        }
+    }
 }
@@ -25,8 +25,11 @@
 
 package tech.kage.schemaregistry.entity;
 
+import java.util.Collection;
+
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Repository interface for accessing schema data from a relational database.
@@ -46,6 +49,140 @@ public interface RelationalSchemaRepository {
      */
     Flux<Schema> findBySubjectAndVersionOrderedByVersionDesc(String subject, Integer version);
 
+    /**
+     * Retrieves the schema with the highest version for the given subject.
+     *
+     * @param subject the subject for which to retrieve the latest schema
+     * 
+     * @return a Mono containing the schema with the highest version, or an empty
+     *         Mono if none is found
+     */
+    Mono<Schema> findLatestBySubject(String subject);
+
+    /**
+     * Retrieves the schema with the given ID. The returned schema has no subject
+     * and version, as the same schema may be registered under many subjects.
+     *
+     * @param id the ID of the schema
+     * 
+     * @return a Mono containing the schema, or an empty Mono if none is found
+     */
+    Mono<Schema> findById(int id);
+
+    /**
+     * Returns the schema with the highest version for the given subject if it is
+     * held in memory, without querying the database. The default implementation
+     * holds nothing in memory.
+     *
+     * @param subject the subject for which to return the latest schema
+     * 
+     * @return the schema with the highest version, or null if not held in memory
+     */
+    default Schema findCachedLatestBySubject(String subject) {
+        return null;
+    }
+
+    /**
+     * Returns the schema for the given subject and version if it is held in
+     * memory, without querying the database. The default implementation holds
+     * nothing in memory.
+     *
+     * @param subject the subject of the schema
+     * @param version the version of the schema
+     * 
+     * @return the schema, or null if not held in memory
+     */
+    default Schema findCachedBySubjectAndVersion(String subject, int version) {
+        return null;
+    }
+
+    /**
+     * Returns the schema with the given ID if it is held in memory, without
+     * querying the database. The default implementation holds nothing in memory.
+     *
+     * @param id the ID of the schema
+     * 
+     * @return the schema without subject and version, or null if not held in
+     *         memory
+     */
+    default Schema findCachedById(int id) {
+        return null;
+    }
+
+    /**
+     * Retrieves the schemas with the highest version of each of the given
+     * subjects. The default implementation retrieves them one by one.
+     *
+     * @param subjects the subjects for which to retrieve the latest schemas
+     * 
+     * @return a Flux of the latest schema of each subject that has any, in no
+     *         particular order
+     */
+    default Flux<Schema> findLatestBySubjects(Collection<String> subjects) {
+        return Flux.fromIterable(subjects).concatMap(this::findLatestBySubject);
+    }
+
+    /**
+     * Retrieves the schemas registered under the given subject versions. The
+     * default implementation retrieves them one by one.
+     *
+     * @param subjectVersions the subject versions for which to retrieve schemas
+     * 
+     * @return a Flux of the schemas of the subject versions that exist, in no
+     *         particular order
+     */
+    default Flux<Schema> findBySubjectVersions(Collection<SubjectVersion> subjectVersions) {
+        return Flux
+                .fromIterable(subjectVersions)
+                .concatMap(subjectVersion -> findBySubjectAndVersionOrderedByVersionDesc(
+                        subjectVersion.subject(),
+                        subjectVersion.version()));
+    }
+
+    /**
+     * Retrieves the schemas with the given IDs. The returned schemas have no
+     * subject and version, as with {@link #findById(int)}. The default
+     * implementation retrieves them one by one.
+     *
+     * @param ids the IDs of the schemas
+     * 
+     * @return a Flux of the schemas with IDs that exist, in no particular order
+     */
+    default Flux<Schema> findByIds(Collection<Integer> ids) {
+        return Flux.fromIterable(ids).concatMap(this::findById);
+    }
+
+    /**
+     * Retrieves schemas for the given subject with the given schema definition,
+     * ordered by version in descending order. Schemas are matched by the
+     * fingerprint of their definition, so that only the matching versions are
+     * read.
+     *
+     * @param subject the subject for which to retrieve schemas
+     * @param schema  the schema definition to match
+     * 
+     * @return a Flux of schemas with the given definition, ordered from highest to
+     *         lowest version, or an empty Flux if none are found
+     */
+    Flux<Schema> findBySubjectAndSchemaOrderedByVersionDesc(String subject, String schema);
+
+    /**
+     * Retrieves the schemas registered under each of the given subjects with the
+     * schema definition paired with it. The default implementation retrieves
+     * them subject by subject.
+     *
+     * @param subjectSchemas the subjects with the schema definitions to match
+     * 
+     * @return a Flux of the matching schemas, in no particular order
+     */
+    default Flux<Schema> findBySubjectSchemas(Collection<SubjectSchema> subjectSchemas) {
+        return Flux
+                .fromIterable(subjectSchemas)
+                .concatMap(subjectSchema -> findBySubjectAndSchemaOrderedByVersionDesc(
+                        subjectSchema.subject(),
+                        subjectSchema.schema()));
+    }
+
     /**
      * Retrieves all schemas, ordered by schema ID in ascending order.
      *
@@ -53,4 +190,55 @@ public interface RelationalSchemaRepository {
      *         empty Flux if none are found
      */
     Flux<Schema> findAllOrderedBySchemaId();
+
+    /**
+     * Retrieves all schemas with an ID greater than the given one, ordered by
+     * schema ID in ascending order. The default implementation skips the
+     * schemas with lower IDs retrieved by {@link #findAllOrderedBySchemaId()}.
+     *
+     * @param schemaId the schema ID after which to retrieve schemas, or 0 to
+     *                 retrieve all schemas
+     * 
+     * @return a Flux of schemas, ordered by schema ID ascending, or an empty
+     *         Flux if none are found
+     */
+    default Flux<Schema> findAllAfterSchemaId(int schemaId) {
+        return findAllOrderedBySchemaId().skipWhile(schema -> schema.getId() <= schemaId);
+    }
+
+    /**
+     * Retrieves all schema versions following the given one in the order of
+     * {@link #findAllOrderedBySchemaId()}, i.e. by schema ID, subject and
+     * version, so that a read interrupted after any schema version can be
+     * resumed without skipping or repeating any. The given schema version need
+     * not exist. The default implementation skips the schemas retrieved by
+     * {@link #findAllOrderedBySchemaId()} up to and including the given one.
+     *
+     * @param schemaId the schema ID of the schema version after which to
+     *                 retrieve schemas
+     * @param subject  the subject of the schema version after which to retrieve
+     *                 schemas
+     * @param version  the version of the schema version after which to retrieve
+     *                 schemas
+     * 
+     * @return a Flux of schemas, ordered by schema ID, subject and version
+     *         ascending, or an empty Flux if none are found
+     */
+    default Flux<Schema> findAllAfter(int schemaId, String subject, int version) {
+        return findAllOrderedBySchemaId().skipWhile(schema -> schema.getId() < schemaId
+                || schema.getId() == schemaId && (schema.getSubject().compareTo(subject) < 0
+                        || schema.getSubject().equals(subject) && schema.getVersion() <= version));
+    }
+
+    /**
+     * Retrieves all schemas registered after the given sequence number, ordered
+     * by sequence number in ascending order.
+     *
+     * @param sequence the sequence number after which to retrieve schemas, or 0
+     *                 to retrieve all schemas
+     * 
+     * @return a Flux of schemas with their sequence numbers, ordered by sequence
+     *         number ascending, or an empty Flux if none are found
+     */
+    Flux<SequencedSchema> findAllAfterSequence(long sequence);
 }
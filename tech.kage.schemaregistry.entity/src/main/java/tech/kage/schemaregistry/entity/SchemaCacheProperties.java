@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration of the in-memory schema cache.
+ *
+ * @param enabled     whether schemas are cached in memory
+ * @param maxEntries  the maximum number of cached schema versions
+ * @param maxBytes    the maximum total size of cached schema definitions
+ * @param latestTtl   how long the list of versions of a subject, and thus its
+ *                    latest version, is cached
+ * @param negativeTtl how long a subject found to have no versions is cached as
+ *                    such
+ * @param ids         the configuration of the cache of schemas by ID
+ * @param subjects    the configuration of the filter of known subjects
+ * 
+ * @author Dariusz Szpakowski
+ */
+@ConfigurationProperties("schema-registry.cache")
+record SchemaCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("64MB") DataSize maxBytes,
+        @DefaultValue("5s") Duration latestTtl,
+        @DefaultValue("5s") Duration negativeTtl,
+        @DefaultValue Ids ids,
+        @DefaultValue Subjects subjects) {
+
+    /**
+     * Configuration of the cache of schemas by ID.
+     *
+     * @param maxEntries the maximum number of cached schemas
+     * @param maxBytes   the maximum total size of cached schema definitions
+     */
+    record Ids(
+            @DefaultValue("10000") int maxEntries,
+            @DefaultValue("64MB") DataSize maxBytes) {
+    }
+
+    /**
+     * Configuration of the filter of known subjects.
+     *
+     * @param enabled           whether subjects are checked against the filter
+     *                          before querying the database
+     * @param falsePositiveRate the rate of unknown subjects the filter lets
+     *                          through to the database
+     */
+    record Subjects(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0.01") double falsePositiveRate) {
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+/**
+ * A change of a subject version, as published by the database when a subject
+ * version is registered, updated or deleted.
+ *
+ * @param subject  the subject of the changed version
+ * @param version  the changed version
+ * @param schemaId the ID of the schema registered under the version
+ * 
+ * @author Dariusz Szpakowski
+ */
+record SchemaChange(String subject, int version, int schemaId) {
+    /**
+     * Parses a change from a notification payload in the
+     * {@code <version>,<schema id>,<subject>} format. The subject comes last, as
+     * it may contain commas.
+     *
+     * @param payload the notification payload
+     * 
+     * @return the parsed change
+     * 
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    static SchemaChange parse(String payload) {
+        var versionEnd = payload.indexOf(',');
+        var schemaIdEnd = versionEnd >= 0 ? payload.indexOf(',', versionEnd + 1) : -1;
+
+        if (schemaIdEnd < 0) {
+            throw new IllegalArgumentException("Malformed schema change: " + payload);
+        }
+
+        return new SchemaChange(
+                payload.substring(schemaIdEnd + 1),
+                Integer.parseInt(payload, 0, versionEnd, 10),
+                Integer.parseInt(payload, versionEnd + 1, schemaIdEnd, 10));
+    }
+}
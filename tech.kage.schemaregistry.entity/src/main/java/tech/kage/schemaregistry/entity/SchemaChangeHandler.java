@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.util.List;
+
+/**
+ * Handler of subject version changes published by the database, implemented by
+ * the components holding schemas in memory.
+ * 
+ * @author Dariusz Szpakowski
+ */
+interface SchemaChangeHandler {
+    /**
+     * Handles a change of a subject version.
+     *
+     * @param change the change
+     */
+    void schemaChanged(SchemaChange change);
+
+    /**
+     * Handles changes of subject versions notified together, e.g. by a bulk load.
+     * By default, each change is handled separately.
+     *
+     * @param changes the changes, in the order they were notified
+     */
+    default void schemasChanged(List<SchemaChange> changes) {
+        changes.forEach(this::schemaChanged);
+    }
+
+    /**
+     * Handles losing the connection listening to changes. Changes are not
+     * published to this instance until listening is restarted, which is followed
+     * by {@link #changesMissed()}. By default, nothing is done.
+     */
+    default void listeningFailed() {
+    }
+
+    /**
+     * Handles (re)starting listening to changes. Changes made while not listening
+     * are never published, so any of them may have been missed.
+     */
+    void changesMissed();
+}
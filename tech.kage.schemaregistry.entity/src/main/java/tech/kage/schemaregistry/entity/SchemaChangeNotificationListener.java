@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
+
+/**
+ * Listener of subject version changes published by the database triggers on
+ * {@code schemas.subjects} using LISTEN/NOTIFY, dispatching them to all
+ * {@link SchemaChangeHandler}s. A single dedicated connection, outside of the
+ * connection pool, is held for as long as the application runs and is reopened
+ * with a backoff whenever it fails. The handlers are told when it fails, and
+ * that changes may have been missed once listening again. Changes notified within a short window, e.g. one
+ * per row of a bulk load, are dispatched together.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+@ConditionalOnStore({ Type.POSTGRES, Type.MATERIALIZED })
+@ConditionalOnProperty(prefix = "schema-registry.notifications", name = "enabled", havingValue = "true", matchIfMissing = true)
+class SchemaChangeNotificationListener implements SmartLifecycle {
+    static final String CHANNEL = "schema_registry_subjects";
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaChangeNotificationListener.class);
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration COALESCING_WINDOW = Duration.ofMillis(100);
+    private static final int MAX_COALESCED_CHANGES = 1000;
+
+    private final PostgresNotifications notifications;
+    private final ObjectProvider<SchemaChangeHandler> handlers;
+
+    private volatile Disposable listening;
+
+    /**
+     * Constructs a new {@link SchemaChangeNotificationListener} instance.
+     *
+     * @param connectionFactory an instance of {@link ConnectionFactory}
+     * @param handlers          the handlers of changes
+     */
+    SchemaChangeNotificationListener(ConnectionFactory connectionFactory, ObjectProvider<SchemaChangeHandler> handlers) {
+        this.notifications = new PostgresNotifications(connectionFactory);
+        this.handlers = handlers;
+    }
+
+    @Override
+    public void start() {
+        var currentHandlers = handlers.orderedStream().toList();
+
+        if (currentHandlers.isEmpty()) {
+            log.debug("No schemas held in memory, not listening to schema changes");
+
+            return;
+        }
+
+        listening = notifications
+                .listen(CHANNEL)
+                .retryWhen(Retry
+                        .backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> {
+                            log.warn("Unable to listen to schema changes, reconnecting", signal.failure());
+
+                            currentHandlers.forEach(SchemaChangeHandler::listeningFailed);
+                        }))
+                .bufferTimeout(MAX_COALESCED_CHANGES, COALESCING_WINDOW)
+                .subscribe(payloads -> dispatch(payloads, currentHandlers));
+    }
+
+    @Override
+    public void stop() {
+        var currentListening = listening;
+
+        if (currentListening != null) {
+            currentListening.dispose();
+        }
+
+        listening = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listening != null;
+    }
+
+    private static void dispatch(List<String> payloads, Iterable<SchemaChangeHandler> handlers) {
+        var changes = new ArrayList<SchemaChange>(payloads.size());
+        var changesMissed = false;
+
+        for (var payload : payloads) {
+            if (payload.equals(PostgresNotifications.LISTENING)) {
+                log.info("Listening to schema changes");
+
+                changesMissed = true;
+
+                continue;
+            }
+
+            try {
+                changes.add(SchemaChange.parse(payload));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed schema change notification: {}", payload);
+
+                changesMissed = true;
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            log.debug("Schemas changed: {}", changes);
+
+            handlers.forEach(handler -> handler.schemasChanged(changes));
+        }
+
+        if (changesMissed) {
+            handlers.forEach(SchemaChangeHandler::changesMissed);
+        }
+    }
+}
@@ -0,0 +1,599 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.springframework.core.io.Resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * An immutable read model of the whole schema registry, held in memory.
+ * 
+ * <p>
+ * Schemas are held in structures indexed by subject, ID and schema definition,
+ * which are never modified after construction; changes produce a new read
+ * model. Lookups therefore need no locking and, apart from the returned
+ * publisher, allocate nothing: the versions of a subject and the schema IDs are
+ * kept in sorted primitive arrays searched by binary search, and IDs are
+ * indexed by the schema definition itself, which serves as its own
+ * fingerprint.
+ * 
+ * @author Dariusz Szpakowski
+ */
+final class SchemaReadModel implements RelationalSchemaRepository {
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final Comparator<Schema> BY_SCHEMA_ID = Comparator
+            .comparing(Schema::getId)
+            .thenComparing(Schema::getSubject)
+            .thenComparing(Schema::getVersion);
+
+    private final Map<String, SubjectVersions> subjects;
+    private final int[] ids;
+    private final Schema[] schemasById;
+    private final Map<String, int[]> idsBySchema;
+    private final Schema[] schemasBySchemaId;
+    private final long[] sequences;
+    private final SequencedSchema[] schemasBySequence;
+
+    /**
+     * Constructs a new {@link SchemaReadModel} instance holding the given schema
+     * versions.
+     *
+     * @param schemas the schema versions ordered by sequence number ascending
+     * 
+     * @throws IllegalStateException if a subject version is duplicated, an ID has
+     *                               conflicting definitions or the schema versions
+     *                               are not ordered by sequence number
+     */
+    SchemaReadModel(List<SequencedSchema> schemas) {
+        var versionsBySubject = new HashMap<String, TreeMap<Integer, Schema>>();
+        var schemasByIdMap = new TreeMap<Integer, Schema>();
+
+        sequences = new long[schemas.size()];
+        schemasBySequence = schemas.toArray(SequencedSchema[]::new);
+
+        for (var i = 0; i < schemasBySequence.length; i++) {
+            var sequence = schemasBySequence[i].sequence();
+            var schema = schemasBySequence[i].schema();
+
+            if (i > 0 && sequence <= sequences[i - 1]) {
+                throw new IllegalStateException("Schema versions not ordered by sequence at sequence " + sequence);
+            }
+
+            sequences[i] = sequence;
+
+            var previousVersion = versionsBySubject
+                    .computeIfAbsent(schema.getSubject(), subject -> new TreeMap<>())
+                    .putIfAbsent(schema.getVersion(), schema);
+
+            if (previousVersion != null) {
+                throw new IllegalStateException(
+                        "Duplicate version " + schema.getVersion() + " of subject " + schema.getSubject());
+            }
+
+            var schemaById = new Schema(null, null, schema.getId(), schema.getSchemaType(), schema.getReferences(),
+                    schema.getSchema());
+
+            var previousSchema = schemasByIdMap.putIfAbsent(schema.getId(), schemaById);
+
+            if (previousSchema != null) {
+                checkSameDefinition(previousSchema, schema);
+            }
+        }
+
+        subjects = new HashMap<>();
+
+        versionsBySubject.forEach((subject, versions) -> subjects.put(subject, new SubjectVersions(
+                versions.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                versions.values().toArray(Schema[]::new))));
+
+        ids = schemasByIdMap.keySet().stream().mapToInt(Integer::intValue).toArray();
+        schemasById = schemasByIdMap.values().toArray(Schema[]::new);
+
+        var idsBySchemaMap = new HashMap<String, List<Integer>>();
+
+        for (var schema : schemasById) {
+            idsBySchemaMap.computeIfAbsent(schema.getSchema(), definition -> new ArrayList<>()).add(schema.getId());
+        }
+
+        idsBySchema = new HashMap<>();
+
+        idsBySchemaMap.forEach((definition, schemaIds) -> idsBySchema.put(definition,
+                schemaIds.stream().mapToInt(Integer::intValue).sorted().toArray()));
+
+        schemasBySchemaId = Arrays
+                .stream(schemasBySequence)
+                .map(SequencedSchema::schema)
+                .sorted(BY_SCHEMA_ID)
+                .toArray(Schema[]::new);
+    }
+
+    private SchemaReadModel(
+            Map<String, SubjectVersions> subjects,
+            int[] ids,
+            Schema[] schemasById,
+            Map<String, int[]> idsBySchema,
+            Schema[] schemasBySchemaId,
+            long[] sequences,
+            SequencedSchema[] schemasBySequence) {
+        this.subjects = subjects;
+        this.ids = ids;
+        this.schemasById = schemasById;
+        this.idsBySchema = idsBySchema;
+        this.schemasBySchemaId = schemasBySchemaId;
+        this.sequences = sequences;
+        this.schemasBySequence = schemasBySequence;
+    }
+
+    /**
+     * Returns a new read model holding the schema versions of this one followed
+     * by the given ones.
+     * 
+     * <p>
+     * Only the changes are sorted; they are then merged into the already sorted
+     * structures of this read model, which are shared rather than rebuilt where
+     * unchanged, so that a refresh with few changes costs a linear copy instead
+     * of re-sorting the whole registry.
+     * 
+     * <p>
+     * A subject version already in this read model, e.g. deleted and registered
+     * again, is replaced by the changed one, as is a subject version changed more
+     * than once by the later change. The read model is then rebuilt from the
+     * remaining and the changed schema versions.
+     *
+     * @param changes the schema versions registered after the last one of this
+     *                read model, ordered by sequence number ascending
+     * 
+     * @return the new read model, or this one if there are no changes
+     * 
+     * @throws IllegalStateException if an ID has conflicting definitions or the
+     *                               schema versions are not ordered by sequence
+     *                               number
+     */
+    SchemaReadModel withChanges(List<SequencedSchema> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+
+        var changedVersions = new HashSet<SubjectVersion>();
+
+        for (var change : changes) {
+            var schema = change.schema();
+
+            if (!changedVersions.add(new SubjectVersion(schema.getSubject(), schema.getVersion()))
+                    || contains(schema.getSubject(), schema.getVersion())) {
+                return withReplacedVersions(changes);
+            }
+        }
+
+        var newSequences = Arrays.copyOf(sequences, sequences.length + changes.size());
+        var newSchemasBySequence = Arrays.copyOf(schemasBySequence, schemasBySequence.length + changes.size());
+        var changedSubjects = new HashMap<String, TreeMap<Integer, Schema>>();
+        var addedSchemasById = new TreeMap<Integer, Schema>();
+
+        for (var i = 0; i < changes.size(); i++) {
+            var index = sequences.length + i;
+            var sequence = changes.get(i).sequence();
+            var schema = changes.get(i).schema();
+
+            if (index > 0 && sequence <= newSequences[index - 1]) {
+                throw new IllegalStateException("Schema versions not ordered by sequence at sequence " + sequence);
+            }
+
+            newSequences[index] = sequence;
+            newSchemasBySequence[index] = changes.get(i);
+
+            changedSubjects
+                    .computeIfAbsent(schema.getSubject(), subject -> new TreeMap<>())
+                    .put(schema.getVersion(), schema);
+
+            var existingIndex = Arrays.binarySearch(ids, schema.getId());
+            var previousSchema = existingIndex >= 0
+                    ? schemasById[existingIndex]
+                    : addedSchemasById.putIfAbsent(schema.getId(), new Schema(null, null, schema.getId(),
+                            schema.getSchemaType(), schema.getReferences(), schema.getSchema()));
+
+            if (previousSchema != null) {
+                checkSameDefinition(previousSchema, schema);
+            }
+        }
+
+        var newSubjects = new HashMap<>(subjects);
+
+        changedSubjects.forEach((subject, versions) -> newSubjects.put(subject, SubjectVersions.merge(
+                subjects.get(subject),
+                versions.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                versions.values().toArray(Schema[]::new))));
+
+        var newIds = ids;
+        var newSchemasById = schemasById;
+        var newIdsBySchema = idsBySchema;
+
+        if (!addedSchemasById.isEmpty()) {
+            var added = addedSchemasById.values().toArray(Schema[]::new);
+
+            newIds = new int[ids.length + added.length];
+            newSchemasById = new Schema[newIds.length];
+
+            merge(schemasById, added, newSchemasById, Comparator.comparing(Schema::getId));
+
+            for (var i = 0; i < newSchemasById.length; i++) {
+                newIds[i] = newSchemasById[i].getId();
+            }
+
+            newIdsBySchema = new HashMap<>(idsBySchema);
+
+            for (var schema : added) {
+                newIdsBySchema.merge(
+                        schema.getSchema(),
+                        new int[] { schema.getId() },
+                        (existingIds, addedIds) -> {
+                            var mergedIds = Arrays.copyOf(existingIds, existingIds.length + 1);
+                            var position = -Arrays.binarySearch(existingIds, addedIds[0]) - 1;
+
+                            System.arraycopy(existingIds, position, mergedIds, position + 1,
+                                    existingIds.length - position);
+
+                            mergedIds[position] = addedIds[0];
+
+                            return mergedIds;
+                        });
+            }
+        }
+
+        var addedSchemas = changes.stream().map(SequencedSchema::schema).sorted(BY_SCHEMA_ID).toArray(Schema[]::new);
+        var newSchemasBySchemaId = new Schema[schemasBySchemaId.length + addedSchemas.length];
+
+        merge(schemasBySchemaId, addedSchemas, newSchemasBySchemaId, BY_SCHEMA_ID);
+
+        return new SchemaReadModel(newSubjects, newIds, newSchemasById, newIdsBySchema, newSchemasBySchemaId,
+                newSequences, newSchemasBySequence);
+    }
+
+    /**
+     * Returns a new read model holding the schema versions of this one not
+     * changed by the given ones, followed by the last change of each subject
+     * version.
+     */
+    private SchemaReadModel withReplacedVersions(List<SequencedSchema> changes) {
+        var lastChanges = new HashMap<SubjectVersion, SequencedSchema>();
+
+        for (var change : changes) {
+            lastChanges.put(new SubjectVersion(change.schema().getSubject(), change.schema().getVersion()), change);
+        }
+
+        var schemas = new ArrayList<SequencedSchema>(schemasBySequence.length + changes.size());
+
+        for (var schema : schemasBySequence) {
+            if (!lastChanges.containsKey(new SubjectVersion(schema.schema().getSubject(), schema.schema().getVersion()))) {
+                schemas.add(schema);
+            }
+        }
+
+        lastChanges
+                .values()
+                .stream()
+                .sorted(Comparator.comparingLong(SequencedSchema::sequence))
+                .forEach(schemas::add);
+
+        return new SchemaReadModel(schemas);
+    }
+
+    /**
+     * Returns whether the given subject version is in the read model.
+     *
+     * @param subject the subject
+     * @param version the version
+     * 
+     * @return true if the subject version is in the read model
+     */
+    boolean contains(String subject, int version) {
+        var subjectVersions = subjects.get(subject);
+
+        return subjectVersions != null && subjectVersions.find(version) != null;
+    }
+
+    /**
+     * Returns the sequence number of the last schema version of the read model.
+     *
+     * @return the last sequence number, or 0 if the read model is empty
+     */
+    long lastSequence() {
+        return sequences.length > 0 ? sequences[sequences.length - 1] : 0;
+    }
+
+    /**
+     * Returns the number of schema versions of the read model.
+     *
+     * @return the number of schema versions
+     */
+    int size() {
+        return schemasBySequence.length;
+    }
+
+    @Override
+    public Flux<Schema> findBySubjectAndVersionOrderedByVersionDesc(String subject, Integer version) {
+        var subjectVersions = subjects.get(subject);
+
+        if (subjectVersions == null) {
+            return Flux.empty();
+        }
+
+        if (version != null) {
+            var schema = subjectVersions.find(version);
+
+            return schema != null ? Flux.just(schema) : Flux.empty();
+        }
+
+        var schemas = subjectVersions.schemas();
+
+        return Flux
+                .range(0, schemas.length)
+                .map(i -> schemas[schemas.length - 1 - i]);
+    }
+
+    @Override
+    public Mono<Schema> findLatestBySubject(String subject) {
+        var subjectVersions = subjects.get(subject);
+
+        if (subjectVersions == null) {
+            return Mono.empty();
+        }
+
+        return Mono.just(subjectVersions.latest());
+    }
+
+    @Override
+    public Mono<Schema> findById(int id) {
+        var index = Arrays.binarySearch(ids, id);
+
+        return index >= 0 ? Mono.just(schemasById[index]) : Mono.empty();
+    }
+
+    @Override
+    public Flux<Schema> findBySubjectAndSchemaOrderedByVersionDesc(String subject, String schema) {
+        var subjectVersions = subjects.get(subject);
+        var schemaIds = idsBySchema.get(schema);
+
+        if (subjectVersions == null || schemaIds == null) {
+            return Flux.empty();
+        }
+
+        var schemas = subjectVersions.schemas();
+
+        return Flux
+                .range(0, schemas.length)
+                .map(i -> schemas[schemas.length - 1 - i])
+                .filter(version -> Arrays.binarySearch(schemaIds, version.getId()) >= 0);
+    }
+
+    @Override
+    public Flux<Schema> findAllOrderedBySchemaId() {
+        return Flux.fromArray(schemasBySchemaId);
+    }
+
+    @Override
+    public Flux<Schema> findAllAfterSchemaId(int schemaId) {
+        return findAllFrom(firstAfter(schema -> Integer.compare(schema.getId(), schemaId) <= 0));
+    }
+
+    @Override
+    public Flux<Schema> findAllAfter(int schemaId, String subject, int version) {
+        var last = new Schema(subject, version, schemaId, null, List.of(), null);
+
+        return findAllFrom(firstAfter(schema -> BY_SCHEMA_ID.compare(schema, last) <= 0));
+    }
+
+    @Override
+    public Flux<SequencedSchema> findAllAfterSequence(long sequence) {
+        var index = Arrays.binarySearch(sequences, sequence);
+        var from = index >= 0 ? index + 1 : -index - 1;
+
+        if (from >= schemasBySequence.length) {
+            return Flux.empty();
+        }
+
+        return Flux
+                .range(from, schemasBySequence.length - from)
+                .map(i -> schemasBySequence[i]);
+    }
+
+    /**
+     * Loads a read model from a file with one schema version per line, in the
+     * JSON format of Confluent Schema Registry responses. The position of a
+     * schema version in the file is its sequence number.
+     *
+     * @param location the location of the file
+     * 
+     * @return the loaded read model
+     */
+    static SchemaReadModel load(Resource location) {
+        if (location == null) {
+            throw new IllegalStateException("schema-registry.store.location is required by the memory store");
+        }
+
+        var schemas = new ArrayList<SequencedSchema>();
+
+        try (var reader = new BufferedReader(new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+            var lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (!line.isBlank()) {
+                    schemas.add(new SequencedSchema(schemas.size() + 1, parse(line, lineNumber, location)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load schemas from " + location, e);
+        }
+
+        return new SchemaReadModel(schemas);
+    }
+
+    private static Schema parse(String line, int lineNumber, Resource location) {
+        Schema schema;
+
+        try {
+            schema = objectMapper.readValue(line, Schema.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid schema at line " + lineNumber + " of " + location, e);
+        }
+
+        if (schema.getSubject() == null || schema.getVersion() == null || schema.getId() == null
+                || schema.getSchema() == null) {
+            throw new IllegalStateException(
+                    "Missing subject, version, ID or schema at line " + lineNumber + " of " + location);
+        }
+
+        var references = schema.getReferences() != null
+                ? schema.getReferences().stream().sorted(Comparator.comparing(SchemaReference::getName)).toList()
+                : List.<SchemaReference>of();
+
+        return new Schema(schema.getSubject(), schema.getVersion(), schema.getId(), "AVRO", references,
+                schema.getSchema());
+    }
+
+    /**
+     * Returns the index of the first schema in schema ID order not matched by
+     * the given predicate, which matches a prefix of them.
+     */
+    private int firstAfter(Predicate<Schema> notAfter) {
+        var low = 0;
+        var high = schemasBySchemaId.length;
+
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+
+            if (notAfter.test(schemasBySchemaId[middle])) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private Flux<Schema> findAllFrom(int from) {
+        return Flux
+                .range(from, schemasBySchemaId.length - from)
+                .map(i -> schemasBySchemaId[i]);
+    }
+
+    private static void checkSameDefinition(Schema previousSchema, Schema schema) {
+        if (!(previousSchema.getSchema().equals(schema.getSchema())
+                && previousSchema.getReferences().equals(schema.getReferences()))) {
+            throw new IllegalStateException("Conflicting definitions of schema ID " + schema.getId());
+        }
+    }
+
+    /**
+     * Merges two arrays sorted by the given comparator into the target array.
+     */
+    private static <T> void merge(T[] first, T[] second, T[] target, Comparator<? super T> comparator) {
+        var i = 0;
+        var j = 0;
+        var k = 0;
+
+        while (i < first.length && j < second.length) {
+            target[k++] = comparator.compare(first[i], second[j]) <= 0 ? first[i++] : second[j++];
+        }
+
+        System.arraycopy(first, i, target, k, first.length - i);
+        System.arraycopy(second, j, target, k + first.length - i, second.length - j);
+    }
+
+    /**
+     * Versions of a subject ordered by version ascending.
+     *
+     * @param versions the version numbers
+     * @param schemas  the schemas of the versions
+     */
+    private record SubjectVersions(int[] versions, Schema[] schemas) {
+        Schema find(int version) {
+            var index = Arrays.binarySearch(versions, version);
+
+            return index >= 0 ? schemas[index] : null;
+        }
+
+        Schema latest() {
+            return schemas[schemas.length - 1];
+        }
+
+        /**
+         * Merges the given versions, none of which is already present, into the
+         * given versions of a subject.
+         */
+        static SubjectVersions merge(SubjectVersions existing, int[] versions, Schema[] schemas) {
+            if (existing == null) {
+                return new SubjectVersions(versions, schemas);
+            }
+
+            var mergedVersions = new int[existing.versions.length + versions.length];
+            var mergedSchemas = new Schema[mergedVersions.length];
+            var i = 0;
+            var j = 0;
+
+            for (var k = 0; k < mergedVersions.length; k++) {
+                if (j == versions.length || i < existing.versions.length && existing.versions[i] < versions[j]) {
+                    mergedVersions[k] = existing.versions[i];
+                    mergedSchemas[k] = existing.schemas[i++];
+                } else {
+                    mergedVersions[k] = versions[j];
+                    mergedSchemas[k] = schemas[j++];
+                }
+            }
+
+            return new SubjectVersions(mergedVersions, mergedSchemas);
+        }
+    }
+}
@@ -26,14 +26,20 @@
 package tech.kage.schemaregistry.entity;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 
 /**
- * Auto-configuration of the {@code schema-registry entity} module.
+ * Auto-configuration of the {@code schema-registry entity} module. Depending on
+ * {@code schema-registry.store.type}, schemas are read from PostgreSQL, from a
+ * file loaded into memory on startup or from a read model materialized from
+ * PostgreSQL.
  * 
  * @author Dariusz Szpakowski
  */
 @AutoConfiguration
 @ComponentScan
+@EnableConfigurationProperties({ SchemaCacheProperties.class, SchemaScanProperties.class, SchemaStoreProperties.class,
+        SchemaSnapshotProperties.class })
 class SchemaRegistryEntityAutoConfiguration {
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static tech.kage.schemaregistry.entity.SchemaSnapshotWriter.FORMAT_VERSION;
+import static tech.kage.schemaregistry.entity.SchemaSnapshotWriter.HEADER_SIZE;
+import static tech.kage.schemaregistry.entity.SchemaSnapshotWriter.ID_ENTRY_SIZE;
+import static tech.kage.schemaregistry.entity.SchemaSnapshotWriter.MAGIC;
+import static tech.kage.schemaregistry.entity.SchemaSnapshotWriter.SUBJECT_ENTRY_SIZE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+
+/**
+ * A read-only snapshot of the schema registry, written by
+ * {@link SchemaSnapshotWriter} and memory-mapped on startup.
+ * 
+ * <p>
+ * Schemas are decoded straight from the mapped region on each lookup, by
+ * binary search over the ID and subject indexes, so opening a snapshot costs
+ * neither reading it into the heap nor querying the database. Only absolute
+ * reads of the mapped region are used, so lookups are safe to execute
+ * concurrently without locking.
+ * 
+ * <p>
+ * Only the header and the ranges of the indexes are checked against the size of
+ * the snapshot when it is opened, so that opening it touches none of the
+ * schemas. The strings and reference lists an index entry points to are checked
+ * when read, so that a corrupt entry fails only the lookups reading it, with
+ * {@link IllegalStateException} rather than {@link IndexOutOfBoundsException}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+@ConditionalOnProperty(prefix = "schema-registry.snapshot", name = "location")
+class SchemaSnapshot {
+    private final ByteBuffer buffer;
+    private final int ids;
+    private final int versions;
+    private final int idIndexOffset;
+    private final int subjectIndexOffset;
+
+    /**
+     * Constructs a new {@link SchemaSnapshot} instance, memory-mapping the
+     * configured snapshot file.
+     *
+     * @param properties the snapshot configuration
+     */
+    SchemaSnapshot(SchemaSnapshotProperties properties) {
+        this(map(properties.location()));
+    }
+
+    /**
+     * Constructs a new {@link SchemaSnapshot} instance reading the given
+     * snapshot.
+     *
+     * @param buffer the snapshot
+     * 
+     * @throws IllegalStateException if the header or the index ranges of the
+     *                               snapshot are not valid
+     */
+    SchemaSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a schema registry snapshot");
+        }
+
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported snapshot format version " + buffer.getInt(4));
+        }
+
+        this.ids = buffer.getInt(8);
+        this.versions = buffer.getInt(12);
+        this.idIndexOffset = buffer.getInt(16);
+        this.subjectIndexOffset = buffer.getInt(20);
+
+        checkRange(idIndexOffset, (long) ids * ID_ENTRY_SIZE, "ID index");
+        checkRange(subjectIndexOffset, (long) versions * SUBJECT_ENTRY_SIZE, "subject index");
+    }
+
+    /**
+     * Finds the schema with the given ID. The returned schema has no subject and
+     * version, as in {@link RelationalSchemaRepository#findById(int)}.
+     *
+     * @param id the ID of the schema
+     * 
+     * @return the schema, or null if not in the snapshot
+     * 
+     * @throws IllegalStateException if the entry of the schema is corrupt
+     */
+    Schema findById(int id) {
+        var low = 0;
+        var high = ids - 1;
+
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var entry = idIndexOffset + middle * ID_ENTRY_SIZE;
+            var entryId = buffer.getInt(entry);
+
+            if (entryId < id) {
+                low = middle + 1;
+            } else if (entryId > id) {
+                high = middle - 1;
+            } else {
+                return schema(null, null, id, buffer.getInt(entry + 4), buffer.getInt(entry + 8));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds the schema registered under the given subject and version.
+     *
+     * @param subject the subject of the schema
+     * @param version the version of the schema
+     * 
+     * @return the schema, or null if not in the snapshot
+     * 
+     * @throws IllegalStateException if the entry of the schema is corrupt
+     */
+    Schema findBySubjectAndVersion(String subject, int version) {
+        var subjectBytes = subject.getBytes(StandardCharsets.UTF_8);
+        var low = 0;
+        var high = versions - 1;
+
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var entry = subjectIndexOffset + middle * SUBJECT_ENTRY_SIZE;
+            var comparison = compareString(buffer.getInt(entry), subjectBytes);
+
+            if (comparison == 0) {
+                comparison = Integer.compare(buffer.getInt(entry + 4), version);
+            }
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return schema(subject, version, buffer.getInt(entry + 8), buffer.getInt(entry + 12),
+                        buffer.getInt(entry + 16));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the number of subject versions in the snapshot.
+     *
+     * @return the number of subject versions
+     */
+    int size() {
+        return versions;
+    }
+
+    private Schema schema(String subject, Integer version, int id, int blobOffset, int referencesOffset) {
+        var references = new ArrayList<SchemaReference>();
+
+        if (referencesOffset != 0) {
+            checkRange(referencesOffset, Integer.BYTES, "reference list");
+
+            var count = buffer.getInt(referencesOffset);
+
+            checkRange(referencesOffset, Integer.BYTES + (long) count * 3 * Integer.BYTES, "reference list");
+
+            for (var i = 0; i < count; i++) {
+                var reference = referencesOffset + Integer.BYTES + i * 3 * Integer.BYTES;
+
+                references.add(new SchemaReference(
+                        string(buffer.getInt(reference)),
+                        string(buffer.getInt(reference + 4)),
+                        buffer.getInt(reference + 8)));
+            }
+        }
+
+        return new Schema(subject, version, id, "AVRO", references, string(blobOffset));
+    }
+
+    private String string(int offset) {
+        checkString(offset);
+
+        var bytes = new byte[buffer.getInt(offset)];
+
+        buffer.get(offset + Integer.BYTES, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares the string at the given offset with the given UTF-8 bytes, byte by
+     * byte as unsigned values, without copying it out of the snapshot.
+     *
+     * @param offset the offset of the string in the snapshot
+     * @param other  the UTF-8 bytes to compare with
+     * 
+     * @return a negative number, zero or a positive number if the string is less
+     *         than, equal to or greater than the given bytes
+     */
+    private int compareString(int offset, byte[] other) {
+        checkString(offset);
+
+        var length = buffer.getInt(offset);
+        var start = offset + Integer.BYTES;
+        var common = Math.min(length, other.length);
+
+        for (var i = 0; i < common; i++) {
+            var comparison = Byte.compareUnsigned(buffer.get(start + i), other[i]);
+
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+
+        return Integer.compare(length, other.length);
+    }
+
+    private void checkString(int offset) {
+        checkRange(offset, Integer.BYTES, "string");
+        checkRange(offset, Integer.BYTES + (long) buffer.getInt(offset), "string");
+    }
+
+    private void checkRange(int offset, long size, String region) {
+        if (offset < HEADER_SIZE || size < 0 || offset + size > buffer.capacity()) {
+            throw new IllegalStateException("Corrupt snapshot: " + region + " at offset " + offset
+                    + " of size " + size + " is outside of the snapshot of size " + buffer.capacity());
+        }
+    }
+
+    private static ByteBuffer map(Path location) {
+        try (var channel = FileChannel.open(location, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open snapshot " + location, e);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+
+/**
+ * Writer of binary schema registry snapshots, read by memory-mapping by
+ * {@link SchemaSnapshot}.
+ * 
+ * <p>
+ * A snapshot consists of a header followed by strings, schema blobs and
+ * reference lists, in the order the schemas are written, and then an ID index
+ * and a subject index. Strings and blobs are stored once each as a length
+ * followed by UTF-8 bytes, and are referred to by their offset in the snapshot.
+ * All numbers are big-endian 32-bit integers, so a snapshot is at most 2 GiB.
+ * 
+ * <pre>
+ * header:          magic, format version, number of IDs, number of subject
+ *                  versions, ID index offset, subject index offset
+ * reference list:  count, then name offset, subject offset and version of each
+ *                  reference, ordered by name
+ * ID index entry:  ID, schema blob offset, reference list offset (0 if none),
+ *                  ordered by ID
+ * subject index entry: subject offset, version, ID, schema blob offset,
+ *                  reference list offset (0 if none), ordered by the UTF-8
+ *                  bytes of the subject and by version
+ * </pre>
+ * 
+ * <p>
+ * Schemas are streamed to a temporary file as they are written, so that only
+ * the entries of the indexes and the offsets of the strings are held in memory.
+ * The indexes and the header are written last, when the snapshot is committed,
+ * after which the temporary file is moved in place, so that the snapshot file
+ * is never seen partially written.
+ * 
+ * @author Dariusz Szpakowski
+ */
+public final class SchemaSnapshotWriter implements AutoCloseable {
+    static final int MAGIC = 0x5352534E; // "SRSN"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 6 * Integer.BYTES;
+    static final int ID_ENTRY_SIZE = 3 * Integer.BYTES;
+    static final int SUBJECT_ENTRY_SIZE = 5 * Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Comparator<byte[]> UNSIGNED_BYTES = Arrays::compareUnsigned;
+
+    private final Path path;
+    private final Path temporaryFile;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<String, byte[]> subjects = new HashMap<>();
+    private final TreeMap<Integer, IdEntry> ids = new TreeMap<>();
+    private final List<VersionEntry> versions = new ArrayList<>();
+
+    private long position;
+    private boolean committed;
+
+    private SchemaSnapshotWriter(Path path, Path temporaryFile, FileChannel channel) {
+        this.path = path;
+        this.temporaryFile = temporaryFile;
+        this.channel = channel;
+    }
+
+    /**
+     * Creates a writer of a snapshot to the given file. The snapshot is written
+     * to a temporary file in the same directory until it is committed.
+     *
+     * @param path the path of the snapshot file
+     * 
+     * @return the writer
+     * 
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static SchemaSnapshotWriter create(Path path) throws IOException {
+        var directory = path.toAbsolutePath().getParent();
+        var temporaryFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try {
+            var writer = new SchemaSnapshotWriter(
+                    path,
+                    temporaryFile,
+                    FileChannel.open(temporaryFile, StandardOpenOption.WRITE));
+
+            writer.buffer.put(new byte[HEADER_SIZE]);
+            writer.position = HEADER_SIZE;
+
+            return writer;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given schema versions to a file.
+     *
+     * @param schemas the schema versions, e.g. as returned by
+     *                {@link RelationalSchemaRepository#findAllOrderedBySchemaId()}
+     * @param path    the path of the snapshot file
+     * 
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(Iterable<Schema> schemas, Path path) throws IOException {
+        try (var writer = create(path)) {
+            for (var schema : schemas) {
+                writer.write(schema);
+            }
+
+            writer.commit();
+        }
+    }
+
+    /**
+     * Writes a schema version to the snapshot. The definition and the references
+     * of each schema ID are written once, with its first version.
+     *
+     * @param schema the schema version
+     * 
+     * @throws IOException           if the schema cannot be written
+     * @throws IllegalStateException if the snapshot would exceed 2 GiB
+     */
+    public void write(Schema schema) throws IOException {
+        var subjectOffset = writeString(schema.getSubject());
+        var subjectBytes = subjects.computeIfAbsent(
+                schema.getSubject(),
+                subject -> subject.getBytes(StandardCharsets.UTF_8));
+
+        if (!ids.containsKey(schema.getId())) {
+            var references = references(schema);
+
+            for (var reference : references) {
+                writeString(reference.getName());
+                writeString(reference.getSubject());
+            }
+
+            var blobOffset = writeUtf8(schema.getSchema().getBytes(StandardCharsets.UTF_8));
+            var referencesOffset = 0;
+
+            if (!references.isEmpty()) {
+                referencesOffset = reserve(Integer.BYTES + references.size() * 3 * Integer.BYTES);
+
+                putInt(references.size());
+
+                for (var reference : references) {
+                    putInt(strings.get(reference.getName()));
+                    putInt(strings.get(reference.getSubject()));
+                    putInt(reference.getVersion());
+                }
+            }
+
+            ids.put(schema.getId(), new IdEntry(blobOffset, referencesOffset));
+        }
+
+        versions.add(new VersionEntry(subjectBytes, subjectOffset, schema.getVersion(), schema.getId()));
+    }
+
+    /**
+     * Writes the indexes and the header of the snapshot and moves it in place of
+     * the snapshot file.
+     *
+     * @throws IOException           if the snapshot cannot be written
+     * @throws IllegalStateException if the snapshot would exceed 2 GiB
+     */
+    public void commit() throws IOException {
+        // ID index
+        var idIndexOffset = reserve((long) ids.size() * ID_ENTRY_SIZE);
+
+        for (var id : ids.entrySet()) {
+            putInt(id.getKey());
+            putInt(id.getValue().blobOffset());
+            putInt(id.getValue().referencesOffset());
+        }
+
+        // subject index
+        versions.sort(Comparator
+                .comparing(VersionEntry::subjectBytes, UNSIGNED_BYTES)
+                .thenComparingInt(VersionEntry::version));
+
+        var subjectIndexOffset = reserve((long) versions.size() * SUBJECT_ENTRY_SIZE);
+
+        for (var version : versions) {
+            var id = ids.get(version.id());
+
+            putInt(version.subjectOffset());
+            putInt(version.version());
+            putInt(version.id());
+            putInt(id.blobOffset());
+            putInt(id.referencesOffset());
+        }
+
+        flush();
+
+        var header = ByteBuffer
+                .allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(ids.size())
+                .putInt(versions.size())
+                .putInt(idIndexOffset)
+                .putInt(subjectIndexOffset)
+                .flip();
+
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+
+        channel.close();
+
+        Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        committed = true;
+    }
+
+    /**
+     * Closes the writer, deleting the temporary file unless the snapshot has been
+     * committed.
+     *
+     * @throws UncheckedIOException if the temporary file cannot be deleted
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+
+            if (!committed) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to delete " + temporaryFile, e);
+        }
+    }
+
+    private static List<SchemaReference> references(Schema schema) {
+        if (schema.getReferences() == null) {
+            return List.of();
+        }
+
+        return schema
+                .getReferences()
+                .stream()
+                .sorted(Comparator.comparing(SchemaReference::getName))
+                .toList();
+    }
+
+    private int writeString(String string) throws IOException {
+        var offset = strings.get(string);
+
+        if (offset == null) {
+            offset = writeUtf8(string.getBytes(StandardCharsets.UTF_8));
+
+            strings.put(string, offset);
+        }
+
+        return offset;
+    }
+
+    private int writeUtf8(byte[] bytes) throws IOException {
+        var offset = reserve(Integer.BYTES + (long) bytes.length);
+
+        putInt(bytes.length);
+
+        if (bytes.length <= buffer.remaining()) {
+            buffer.put(bytes);
+        } else {
+            flush();
+
+            var wrapped = ByteBuffer.wrap(bytes);
+
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+        }
+
+        return offset;
+    }
+
+    /**
+     * Returns the offset of the given number of bytes about to be written,
+     * rejecting them if they would not be addressable by a 32-bit offset.
+     */
+    private int reserve(long size) {
+        if (position + size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Snapshot exceeds the maximum size of " + Integer.MAX_VALUE + " bytes");
+        }
+
+        var offset = (int) position;
+
+        position += size;
+
+        return offset;
+    }
+
+    private void putInt(int value) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            flush();
+        }
+
+        buffer.putInt(value);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * The offsets of the blob and the reference list of a schema ID.
+     *
+     * @param blobOffset       the offset of the schema blob
+     * @param referencesOffset the offset of the reference list, or 0 if none
+     */
+    private record IdEntry(int blobOffset, int referencesOffset) {
+    }
+
+    /**
+     * An entry of the subject index.
+     *
+     * @param subjectBytes  the UTF-8 bytes of the subject
+     * @param subjectOffset the offset of the subject string
+     * @param version       the version
+     * @param id            the schema ID
+     */
+    private record VersionEntry(byte[] subjectBytes, int subjectOffset, int version, int id) {
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import tech.kage.schemaregistry.entity.PostgresSchemaRepository.Statement;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
+
+/**
+ * Metrics of the SQL statements executed by {@link PostgresSchemaRepository}.
+ * 
+ * <p>
+ * Every execution of a statement from the catalog reuses the same SQL text, so
+ * only its first execution on each connection prepares it, and subsequent ones
+ * are served from the driver's prepared statement cache. The driver does not
+ * expose its cache statistics, so executions are counted per statement.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+@ConditionalOnStore({ Type.POSTGRES, Type.MATERIALIZED })
+class SchemaStatementMetrics implements MeterBinder {
+    private final PostgresSchemaRepository schemaRepository;
+
+    /**
+     * Constructs a new {@link SchemaStatementMetrics} instance.
+     *
+     * @param schemaRepository an instance of {@link PostgresSchemaRepository}
+     */
+    SchemaStatementMetrics(PostgresSchemaRepository schemaRepository) {
+        this.schemaRepository = schemaRepository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var statement : Statement.values()) {
+            FunctionCounter
+                    .builder(
+                            "schema.registry.statements.executions",
+                            schemaRepository,
+                            repository -> repository.executions(statement))
+                    .description("Number of executions of a cataloged SQL statement")
+                    .tag("statement", statement.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
+
+/**
+ * Configuration of the store schemas are read from.
+ *
+ * @param type            the type of the store
+ * @param location        the location of the file schemas are loaded from by
+ *                        the in-memory store, e.g.
+ *                        {@code file:/etc/schemas.ndjson} or
+ *                        {@code classpath:schemas.ndjson}
+ * @param refreshInterval the interval of reading the schemas registered in
+ *                        PostgreSQL since the last refresh by the materialized
+ *                        store
+ * 
+ * @author Dariusz Szpakowski
+ */
+@ConfigurationProperties("schema-registry.store")
+record SchemaStoreProperties(
+        @DefaultValue("postgres") Type type,
+        Resource location,
+        @DefaultValue("30s") Duration refreshInterval) {
+
+    /**
+     * Types of schema stores.
+     */
+    enum Type {
+        /**
+         * Schemas are read from PostgreSQL.
+         */
+        POSTGRES,
+
+        /**
+         * Schemas are loaded from a file into memory on startup and never change.
+         */
+        MEMORY,
+
+        /**
+         * Schemas are read from PostgreSQL into memory on startup and refreshed
+         * periodically.
+         */
+        MATERIALIZED
+    }
+}
@@ -3,20 +3,59 @@ CREATE SCHEMA IF NOT EXISTS schemas;
 -- schemas
 CREATE TABLE IF NOT EXISTS schemas.schemas (
     id integer PRIMARY KEY,
-    schema text NOT NULL
+    schema text NOT NULL,
+    fingerprint bytea GENERATED ALWAYS AS (sha256(convert_to(schema, 'UTF8'))) STORED
 );
 
+CREATE INDEX IF NOT EXISTS schemas_fingerprint_idx ON schemas.schemas(fingerprint);
+
 -- subjects
 CREATE TABLE IF NOT EXISTS schemas.subjects (
     subject text,
     version integer,
     schema_id integer NOT NULL REFERENCES schemas.schemas,
+    seq bigint GENERATED ALWAYS AS IDENTITY,
 
     PRIMARY KEY (subject, version)
 );
 
 CREATE INDEX IF NOT EXISTS subjects_schema_id_fkey ON schemas.subjects(schema_id);
 
+CREATE UNIQUE INDEX IF NOT EXISTS subjects_seq_idx ON schemas.subjects(seq);
+
+CREATE INDEX IF NOT EXISTS subjects_schema_id_subject_version_idx ON schemas.subjects(schema_id, subject, version);
+
+-- registrations are serialized, so that sequence numbers are assigned in commit order
+CREATE OR REPLACE FUNCTION schemas.serialize_subject_registrations() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock('schemas.subjects'::regclass::oid::bigint);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER subjects_serialize_registrations
+    BEFORE INSERT ON schemas.subjects
+    FOR EACH STATEMENT EXECUTE FUNCTION schemas.serialize_subject_registrations();
+
+-- subject change notifications ('<version>,<schema id>,<subject>' on the schema_registry_subjects channel)
+CREATE OR REPLACE FUNCTION schemas.notify_subject_changes() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM pg_notify('schema_registry_subjects', OLD.version || ',' || OLD.schema_id || ',' || OLD.subject);
+    END IF;
+
+    IF TG_OP <> 'DELETE' THEN
+        PERFORM pg_notify('schema_registry_subjects', NEW.version || ',' || NEW.schema_id || ',' || NEW.subject);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER subjects_notify_subject_changes
+    AFTER INSERT OR UPDATE OR DELETE ON schemas.subjects
+    FOR EACH ROW EXECUTE FUNCTION schemas.notify_subject_changes();
+
 -- references
 CREATE TABLE IF NOT EXISTS schemas.references (
     schema_id integer,
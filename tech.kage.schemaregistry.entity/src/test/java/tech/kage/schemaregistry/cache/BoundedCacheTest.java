@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link BoundedCache}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class BoundedCacheTest {
+    @Test
+    void returnsCachedValue() {
+        // Given
+        var cache = new BoundedCache<String, String>(10, 1000, String::length);
+
+        cache.put("key", "value");
+
+        // When
+        var value = cache.get("key");
+
+        // Then
+        assertThat(value)
+                .describedAs("cached value")
+                .isEqualTo("value");
+    }
+
+    @Test
+    void returnsNullWhenValueNotCached() {
+        // Given
+        var cache = new BoundedCache<String, String>(10, 1000, String::length);
+
+        // When
+        var value = cache.get("key");
+
+        // Then
+        assertThat(value)
+                .describedAs("value not cached")
+                .isNull();
+    }
+
+    @Test
+    void keepsNumberOfEntriesWithinBound() {
+        // Given
+        var cache = new BoundedCache<Integer, String>(3, 1000, String::length);
+
+        // When
+        for (var i = 0; i < 10; i++) {
+            cache.get(i);
+            cache.get(i);
+            cache.put(i, "value" + i);
+        }
+
+        // Then
+        assertThat(cache.size())
+                .describedAs("number of cached entries")
+                .isEqualTo(3);
+    }
+
+    @Test
+    void keepsTotalWeightWithinBound() {
+        // Given
+        var cache = new BoundedCache<Integer, String>(100, 10, String::length);
+
+        // When
+        for (var i = 0; i < 10; i++) {
+            cache.get(i);
+            cache.get(i);
+            cache.put(i, "abcd");
+        }
+
+        // Then
+        assertThat(cache.weight())
+                .describedAs("total weight of cached entries")
+                .isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void doesNotCacheValueHeavierThanBound() {
+        // Given
+        var cache = new BoundedCache<String, String>(10, 3, String::length);
+
+        // When
+        cache.put("key", "value");
+
+        // Then
+        assertThat(cache.get("key"))
+                .describedAs("value heavier than bound")
+                .isNull();
+    }
+
+    @Test
+    void keepsFrequentlyUsedEntriesWhenRarelyUsedOnesAreAdded() {
+        // Given
+        var cache = new BoundedCache<String, String>(2, 1000, String::length);
+
+        for (var key : new String[] { "hot1", "hot2" }) {
+            cache.get(key);
+            cache.put(key, key);
+        }
+
+        for (var i = 0; i < 5; i++) {
+            cache.get("hot1");
+            cache.get("hot2");
+        }
+
+        // When
+        cache.get("cold");
+        cache.put("cold", "cold");
+
+        // Then
+        assertThat(cache.get("hot1"))
+                .describedAs("frequently used entry")
+                .isEqualTo("hot1");
+
+        assertThat(cache.get("hot2"))
+                .describedAs("other frequently used entry")
+                .isEqualTo("hot2");
+
+        assertThat(cache.get("cold"))
+                .describedAs("rarely used entry")
+                .isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryForMoreFrequentlyUsedOne() {
+        // Given
+        var cache = new BoundedCache<String, String>(2, 1000, String::length);
+
+        cache.put("first", "first");
+        cache.put("second", "second");
+
+        for (var i = 0; i < 3; i++) {
+            cache.get("third");
+        }
+
+        cache.get("second");
+
+        // When
+        cache.put("third", "third");
+
+        // Then
+        assertThat(cache.get("first"))
+                .describedAs("least recently used entry")
+                .isNull();
+
+        assertThat(cache.get("second"))
+                .describedAs("recently used entry")
+                .isEqualTo("second");
+
+        assertThat(cache.get("third"))
+                .describedAs("frequently used entry")
+                .isEqualTo("third");
+    }
+
+    @Test
+    void replacesCachedValueInPlace() {
+        // Given
+        var cache = new BoundedCache<String, String>(2, 10, String::length);
+
+        cache.put("first", "abc");
+        cache.put("second", "abc");
+
+        // When
+        cache.put("second", "abcdefgh");
+
+        // Then
+        assertThat(cache.get("second"))
+                .describedAs("replaced value")
+                .isEqualTo("abcdefgh");
+
+        assertThat(cache.get("first"))
+                .describedAs("other value exceeding weight bound")
+                .isNull();
+
+        assertThat(cache.weight())
+                .describedAs("total weight of cached entries")
+                .isEqualTo(8);
+    }
+
+    @Test
+    void recordsReadsBeyondReadBufferSize() {
+        // Given
+        var cache = new BoundedCache<String, String>(1, 1000, String::length);
+
+        cache.put("hot", "hot");
+
+        for (var i = 0; i < 1000; i++) {
+            cache.get("hot");
+        }
+
+        for (var i = 0; i < 10; i++) {
+            cache.get("cold");
+        }
+
+        // When
+        cache.put("cold", "cold");
+
+        // Then
+        assertThat(cache.get("hot"))
+                .describedAs("frequently read entry")
+                .isEqualTo("hot");
+
+        assertThat(cache.get("cold"))
+                .describedAs("less frequently read entry")
+                .isNull();
+    }
+
+    @Test
+    void invalidatesEntries() {
+        // Given
+        var cache = new BoundedCache<String, String>(10, 1000, String::length);
+
+        cache.put("a1", "value");
+        cache.put("a2", "value");
+        cache.put("b1", "value");
+
+        // When
+        cache.invalidate("b1");
+        cache.invalidateIf(key -> key.startsWith("a"));
+
+        // Then
+        assertThat(cache.size())
+                .describedAs("number of cached entries")
+                .isZero();
+
+        assertThat(cache.weight())
+                .describedAs("total weight of cached entries")
+                .isZero();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link IntKeyedCache}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class IntKeyedCacheTest {
+    @Test
+    void returnsCachedValue() {
+        // Given
+        var cache = new IntKeyedCache<String>(10, 1000, String::length);
+
+        cache.put(1001, "value");
+
+        // When
+        var value = cache.get(1001);
+
+        // Then
+        assertThat(value)
+                .describedAs("cached value")
+                .isEqualTo("value");
+    }
+
+    @Test
+    void returnsNullWhenValueNotCached() {
+        // Given
+        var cache = new IntKeyedCache<String>(10, 1000, String::length);
+
+        cache.put(1001, "value");
+
+        // When
+        var value = cache.get(1002);
+
+        // Then
+        assertThat(value)
+                .describedAs("value not cached")
+                .isNull();
+    }
+
+    @Test
+    void keepsNumberOfEntriesWithinBound() {
+        // Given
+        var cache = new IntKeyedCache<String>(3, 1000, String::length);
+
+        // When
+        for (var i = 0; i < 10; i++) {
+            cache.put(i, "value" + i);
+        }
+
+        // Then
+        assertThat(cache.size())
+                .describedAs("number of cached entries")
+                .isEqualTo(3);
+    }
+
+    @Test
+    void keepsTotalWeightWithinBound() {
+        // Given
+        var cache = new IntKeyedCache<String>(100, 10, String::length);
+
+        // When
+        for (var i = 0; i < 10; i++) {
+            cache.put(i, "abcd");
+        }
+
+        // Then
+        assertThat(cache.weight())
+                .describedAs("total weight of cached entries")
+                .isEqualTo(8);
+    }
+
+    @Test
+    void doesNotCacheValueHeavierThanBound() {
+        // Given
+        var cache = new IntKeyedCache<String>(10, 3, String::length);
+
+        // When
+        cache.put(1001, "value");
+
+        // Then
+        assertThat(cache.get(1001))
+                .describedAs("value heavier than bound")
+                .isNull();
+    }
+
+    @Test
+    void keepsRecentlyReadEntriesWhenNewOnesAreAdded() {
+        // Given
+        var cache = new IntKeyedCache<String>(3, 1000, String::length);
+
+        cache.put(1, "value1");
+        cache.put(2, "value2");
+        cache.put(3, "value3");
+
+        cache.get(1);
+
+        // When
+        cache.put(4, "value4");
+        cache.put(5, "value5");
+
+        // Then
+        assertThat(cache.get(1))
+                .describedAs("recently read entry")
+                .isEqualTo("value1");
+
+        assertThat(cache.get(5))
+                .describedAs("newly added entry")
+                .isEqualTo("value5");
+    }
+
+    @Test
+    void findsAllCachedEntriesAfterEvictions() {
+        // Given
+        var cache = new IntKeyedCache<String>(64, 100_000, String::length);
+
+        for (var i = 0; i < 10_000; i++) {
+            cache.put(i * 64, "value" + i);
+        }
+
+        // When
+        var foundEntries = 0;
+
+        for (var i = 0; i < 10_000; i++) {
+            var value = cache.get(i * 64);
+
+            if (value != null) {
+                assertThat(value)
+                        .describedAs("value of entry %d", i)
+                        .isEqualTo("value" + i);
+
+                foundEntries++;
+            }
+        }
+
+        // Then
+        assertThat(foundEntries)
+                .describedAs("number of found entries")
+                .isEqualTo(cache.size())
+                .isEqualTo(64);
+    }
+
+    @Test
+    void removesInvalidatedValueKeepingOthers() {
+        // Given
+        var cache = new IntKeyedCache<String>(10, 1000, String::length);
+
+        for (var i = 1; i <= 5; i++) {
+            cache.put(i * 64, "value" + i);
+        }
+
+        // When
+        cache.invalidate(2 * 64);
+
+        // Then
+        assertThat(cache.get(2 * 64))
+                .describedAs("invalidated value")
+                .isNull();
+
+        for (var i = 1; i <= 5; i++) {
+            if (i != 2) {
+                assertThat(cache.get(i * 64))
+                        .describedAs("value of entry %d", i)
+                        .isEqualTo("value" + i);
+            }
+        }
+
+        assertThat(cache.size())
+                .describedAs("number of entries")
+                .isEqualTo(4);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link BloomFilter}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class BloomFilterTest {
+    @Test
+    void containsAllAddedStrings() {
+        // Given
+        var filter = new BloomFilter(10_000, 0.01);
+
+        for (var i = 0; i < 10_000; i++) {
+            filter.add("subject-" + i);
+        }
+
+        // When
+        var missingStrings = 0;
+
+        for (var i = 0; i < 10_000; i++) {
+            if (!filter.mightContain("subject-" + i)) {
+                missingStrings++;
+            }
+        }
+
+        // Then
+        assertThat(missingStrings)
+                .describedAs("number of added strings not contained")
+                .isZero();
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearConfiguredOne() {
+        // Given
+        var filter = new BloomFilter(10_000, 0.01);
+
+        for (var i = 0; i < 10_000; i++) {
+            filter.add("subject-" + i);
+        }
+
+        // When
+        var falsePositives = 0;
+
+        for (var i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-subject-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0)
+                .describedAs("false positive rate")
+                .isLessThan(0.02);
+    }
+
+    @Test
+    void becomesSaturatedWhenMoreStringsAddedThanExpected() {
+        // Given
+        var filter = new BloomFilter(100, 0.01);
+
+        for (var i = 0; i < 100; i++) {
+            filter.add("subject-" + i);
+            filter.add("subject-" + i);
+        }
+
+        var saturatedBefore = filter.isSaturated();
+
+        // When
+        filter.add("subject-100");
+
+        // Then
+        assertThat(saturatedBefore)
+                .describedAs("saturated with expected number of strings")
+                .isFalse();
+
+        assertThat(filter.isSaturated())
+                .describedAs("saturated with more strings than expected")
+                .isTrue();
+    }
+}
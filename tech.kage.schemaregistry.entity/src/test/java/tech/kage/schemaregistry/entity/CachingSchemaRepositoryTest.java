@@ -0,0 +1,785 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.paymentSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.userSchema;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests of {@link CachingSchemaRepository}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class CachingSchemaRepositoryTest {
+    PostgresSchemaRepository delegate = mock(PostgresSchemaRepository.class);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loadsSchemaBySubjectAndVersionOnlyOnce() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var schema = paymentSchema(2, 1014, "2");
+
+        given(delegate.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2))
+                .willReturn(Flux.just(schema));
+
+        // When
+        var firstResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+        var secondResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult))
+                .expectNext(schema, schema)
+                .as("finds the same schema twice")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+    }
+
+    @Test
+    void servesVersionsFromSubjectListingWithinTtl() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var schemas = List.of(paymentSchema(3, 1024, "3"), paymentSchema(2, 1014, "2"), paymentSchema(1, 1004, ""));
+
+        given(delegate.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null))
+                .willReturn(Flux.fromIterable(schemas));
+
+        // When
+        var firstResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null);
+        var secondResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null);
+        var singleVersion = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult).concatWith(singleVersion))
+                .expectNextSequence(schemas)
+                .expectNextSequence(schemas)
+                .expectNext(schemas.get(1))
+                .as("finds the same schemas twice")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null);
+        verify(delegate, times(0)).findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+    }
+
+    @Test
+    void reloadsSubjectListingAfterTtl() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ZERO);
+        var schemasBefore = List.of(userSchema(1, 1001, ""));
+        var schemasAfter = List.of(userSchema(2, 1011, "2"), userSchema(1, 1001, ""));
+
+        given(delegate.findBySubjectAndVersionOrderedByVersionDesc("user-subject", null))
+                .willReturn(Flux.fromIterable(schemasBefore), Flux.fromIterable(schemasAfter));
+
+        // When
+        var firstResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("user-subject", null);
+        var secondResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("user-subject", null);
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult))
+                .expectNextSequence(schemasBefore)
+                .expectNextSequence(schemasAfter)
+                .as("finds newly registered version")
+                .verifyComplete();
+
+        verify(delegate, times(2)).findBySubjectAndVersionOrderedByVersionDesc("user-subject", null);
+    }
+
+    @Test
+    void doesNotCacheListingOfIncompletelyReadSubject() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var schemas = List.of(paymentSchema(3, 1024, "3"), paymentSchema(2, 1014, "2"), paymentSchema(1, 1004, ""));
+
+        given(delegate.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null))
+                .willReturn(Flux.fromIterable(schemas));
+
+        // When
+        var firstResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null).next();
+        var secondResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null);
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult))
+                .expectNext(schemas.getFirst())
+                .expectNextSequence(schemas)
+                .as("finds all schemas after partial read")
+                .verifyComplete();
+
+        verify(delegate, times(2)).findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null);
+    }
+
+    @Test
+    void loadsLatestSchemaOnlyOnceWithinTtl() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var schema = paymentSchema(3, 1024, "3");
+
+        given(delegate.findLatestBySubject("payment-subject"))
+                .willReturn(Mono.just(schema));
+
+        // When
+        var firstResult = schemaRepository.findLatestBySubject("payment-subject");
+        var secondResult = schemaRepository.findLatestBySubject("payment-subject");
+        var sameVersion = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 3);
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult).concatWith(sameVersion))
+                .expectNext(schema, schema, schema)
+                .as("finds the same latest schema twice")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findLatestBySubject("payment-subject");
+        verify(delegate, times(0)).findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 3);
+    }
+
+    @Test
+    void reloadsLatestSchemaAfterTtl() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ZERO);
+
+        given(delegate.findLatestBySubject("user-subject"))
+                .willReturn(Mono.just(userSchema(1, 1001, "")), Mono.just(userSchema(2, 1011, "2")));
+
+        // When
+        var firstResult = schemaRepository.findLatestBySubject("user-subject");
+        var secondResult = schemaRepository.findLatestBySubject("user-subject");
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult))
+                .expectNext(userSchema(1, 1001, ""), userSchema(2, 1011, "2"))
+                .as("finds newly registered latest version")
+                .verifyComplete();
+
+        verify(delegate, times(2)).findLatestBySubject("user-subject");
+    }
+
+    @Test
+    void servesLatestSchemaFromSubjectListingWithinTtl() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var schemas = List.of(paymentSchema(3, 1024, "3"), paymentSchema(2, 1014, "2"), paymentSchema(1, 1004, ""));
+
+        given(delegate.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null))
+                .willReturn(Flux.fromIterable(schemas));
+
+        // When
+        var allVersions = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null);
+        var latestVersion = schemaRepository.findLatestBySubject("payment-subject");
+
+        // Then
+        StepVerifier
+                .create(allVersions.concatWith(latestVersion))
+                .expectNextSequence(schemas)
+                .expectNext(schemas.getFirst())
+                .as("finds latest schema among cached versions")
+                .verifyComplete();
+
+        verify(delegate, times(0)).findLatestBySubject("payment-subject");
+    }
+
+    @Test
+    void doesNotCacheAllSchemas() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+
+        given(delegate.findAllOrderedBySchemaId())
+                .willReturn(Flux.just(userSchema(1, 1001, "")));
+
+        // When
+        var firstResult = schemaRepository.findAllOrderedBySchemaId();
+        var secondResult = schemaRepository.findAllOrderedBySchemaId();
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult))
+                .expectNextCount(2)
+                .as("finds all schemas twice")
+                .verifyComplete();
+
+        verify(delegate, times(2)).findAllOrderedBySchemaId();
+    }
+
+    @Test
+    void loadsSchemaByIdOnlyOnce() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var schema = paymentSchema(null, 1014, "2");
+
+        given(delegate.findById(1014)).willReturn(Mono.just(schema));
+
+        // When
+        var firstResult = schemaRepository.findById(1014);
+        var secondResult = schemaRepository.findById(1014);
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult))
+                .expectNext(schema, schema)
+                .as("finds the same schema twice")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findById(1014);
+    }
+
+    @Test
+    void doesNotCacheSchemasFoundBySchemaDefinition() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var schema = userSchema(1, 1001, "");
+        var definition = schema.getSchema();
+
+        given(delegate.findBySubjectAndSchemaOrderedByVersionDesc("user-subject", definition))
+                .willReturn(Flux.just(schema));
+
+        // When
+        var firstResult = schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc("user-subject", definition);
+        var secondResult = schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc("user-subject", definition);
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult))
+                .expectNext(schema, schema)
+                .as("finds schema twice")
+                .verifyComplete();
+
+        verify(delegate, times(2)).findBySubjectAndSchemaOrderedByVersionDesc("user-subject", definition);
+    }
+
+    @Test
+    void servesSchemasMissingInCacheFromSnapshot() throws IOException {
+        // Given
+        var snapshot = new SchemaSnapshot(SchemaSnapshotTest.snapshot(List.of(
+                userSchema(1, 1001, ""),
+                paymentSchema(2, 1014, "2")), tempDir));
+
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1), Optional.of(snapshot));
+        var schemaById = paymentSchema(null, 1014, "2");
+
+        schemaById.setSubject(null);
+
+        // When
+        var byVersion = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+        var byId = schemaRepository.findById(1014);
+
+        // Then
+        StepVerifier
+                .create(byVersion.concatWith(byId))
+                .expectNext(paymentSchema(2, 1014, "2"), schemaById)
+                .as("finds schemas in snapshot")
+                .verifyComplete();
+
+        verify(delegate, times(0)).findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+        verify(delegate, times(0)).findById(1014);
+    }
+
+    @Test
+    void fallsBackToDatabaseWhenSchemaNotInSnapshot() throws IOException {
+        // Given
+        var snapshot = new SchemaSnapshot(SchemaSnapshotTest.snapshot(List.of(
+                userSchema(1, 1001, "")), tempDir));
+
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1), Optional.of(snapshot));
+        var schema = paymentSchema(3, 1024, "3");
+
+        given(delegate.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 3))
+                .willReturn(Flux.just(schema));
+
+        // When
+        var result = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 3);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(schema)
+                .as("finds schema in database")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 3);
+    }
+
+    @Test
+    void reloadsSubjectVersionsWithinTtlWhenSubjectChanged() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+
+        given(delegate.findLatestBySubject("user-subject"))
+                .willReturn(Mono.just(userSchema(1, 1001, "")), Mono.just(userSchema(2, 1011, "2")));
+
+        var firstResult = schemaRepository.findLatestBySubject("user-subject").block();
+
+        // When
+        schemaRepository.schemaChanged(new SchemaChange("user-subject", 2, 1011));
+
+        // Then
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("user-subject"))
+                .expectNext(userSchema(2, 1011, "2"))
+                .as("finds latest version registered after change")
+                .verifyComplete();
+
+        assertThat(firstResult)
+                .describedAs("latest version before change")
+                .isEqualTo(userSchema(1, 1001, ""));
+
+        verify(delegate, times(2)).findLatestBySubject("user-subject");
+    }
+
+    @Test
+    void keepsOtherSubjectsCachedWhenSubjectChanged() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+
+        given(delegate.findLatestBySubject("payment-subject"))
+                .willReturn(Mono.just(paymentSchema(3, 1024, "3")));
+
+        schemaRepository.findLatestBySubject("payment-subject").block();
+
+        // When
+        schemaRepository.schemaChanged(new SchemaChange("user-subject", 2, 1011));
+
+        // Then
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("payment-subject"))
+                .expectNext(paymentSchema(3, 1024, "3"))
+                .as("finds cached latest version")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findLatestBySubject("payment-subject");
+    }
+
+    @Test
+    void doesNotCacheLatestVersionLoadedWhileSubjectChanged() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+
+        given(delegate.findLatestBySubject("user-subject"))
+                .willReturn(
+                        Mono.fromSupplier(() -> {
+                            schemaRepository.schemaChanged(new SchemaChange("user-subject", 2, 1011));
+
+                            return userSchema(1, 1001, "");
+                        }),
+                        Mono.just(userSchema(2, 1011, "2")));
+
+        // When
+        var result = schemaRepository
+                .findLatestBySubject("user-subject")
+                .concatWith(schemaRepository.findLatestBySubject("user-subject"));
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(userSchema(1, 1001, ""), userSchema(2, 1011, "2"))
+                .as("reloads latest version read before change")
+                .verifyComplete();
+    }
+
+    @Test
+    void reloadsAllSubjectVersionsWhenChangesMissed() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+
+        given(delegate.findLatestBySubject("payment-subject"))
+                .willReturn(Mono.just(paymentSchema(3, 1024, "3")));
+
+        schemaRepository.findLatestBySubject("payment-subject").block();
+
+        // When
+        schemaRepository.changesMissed();
+
+        // Then
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("payment-subject"))
+                .expectNext(paymentSchema(3, 1024, "3"))
+                .as("finds latest version")
+                .verifyComplete();
+
+        verify(delegate, times(2)).findLatestBySubject("payment-subject");
+    }
+
+    @Test
+    void answersSubjectWithoutVersionsFromNegativeCacheWithinTtl() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        given(delegate.findLatestBySubject("usr-subject"))
+                .willReturn(Mono.empty());
+
+        // When
+        var firstResult = schemaRepository.findLatestBySubject("usr-subject");
+        var secondResult = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("usr-subject", 1);
+
+        // Then
+        StepVerifier
+                .create(firstResult.concatWith(secondResult))
+                .as("finds no schemas")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findLatestBySubject("usr-subject");
+        verify(delegate, times(0)).findBySubjectAndVersionOrderedByVersionDesc("usr-subject", 1);
+    }
+
+    @Test
+    void queriesSubjectWithoutVersionsAgainWhenSubjectChanged() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        given(delegate.findBySubjectAndVersionOrderedByVersionDesc("user-subject", null))
+                .willReturn(Flux.empty(), Flux.just(userSchema(1, 1001, "")));
+
+        schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("user-subject", null).blockLast();
+
+        // When
+        schemaRepository.schemaChanged(new SchemaChange("user-subject", 1, 1001));
+
+        // Then
+        StepVerifier
+                .create(schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("user-subject", null))
+                .expectNext(userSchema(1, 1001, ""))
+                .as("finds schema registered after change")
+                .verifyComplete();
+
+        verify(delegate, times(2)).findBySubjectAndVersionOrderedByVersionDesc("user-subject", null);
+    }
+
+    @Test
+    void answersSubjectsNotKnownWithoutQueryingDatabase() {
+        // Given
+        var knownSubjects = new KnownSubjects(delegate, cacheProperties(Duration.ofMinutes(1), Duration.ZERO));
+
+        given(delegate.findAllSubjects())
+                .willReturn(Flux.just("user-subject"));
+
+        knownSubjects.load().block();
+
+        var schemaRepository = new CachingSchemaRepository(
+                delegate,
+                cacheProperties(Duration.ofMinutes(1), Duration.ZERO),
+                Optional.empty(),
+                Optional.of(knownSubjects));
+
+        // When
+        var latestSchema = schemaRepository.findLatestBySubject("usr-subject");
+        var schemas = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("usr-subject", null);
+        var lookedUpSchemas = schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc("usr-subject", "{}");
+
+        // Then
+        StepVerifier
+                .create(latestSchema.concatWith(schemas).concatWith(lookedUpSchemas))
+                .as("finds no schemas")
+                .verifyComplete();
+
+        verify(delegate, times(0)).findLatestBySubject("usr-subject");
+        verify(delegate, times(0)).findBySubjectAndVersionOrderedByVersionDesc("usr-subject", null);
+        verify(delegate, times(0)).findBySubjectAndSchemaOrderedByVersionDesc("usr-subject", "{}");
+    }
+
+    @Test
+    void readsSubjectsNotKnownFromDatabaseOnceListeningFailed() {
+        // Given
+        var knownSubjects = new KnownSubjects(delegate, cacheProperties(Duration.ofMinutes(1), Duration.ZERO));
+
+        given(delegate.findAllSubjects())
+                .willReturn(Flux.just("user-subject"));
+
+        given(delegate.findLatestBySubject("usr-subject"))
+                .willReturn(Mono.just(userSchema(1, 1101, "")));
+
+        knownSubjects.load().block();
+
+        var schemaRepository = new CachingSchemaRepository(
+                delegate,
+                cacheProperties(Duration.ofMinutes(1), Duration.ZERO),
+                Optional.empty(),
+                Optional.of(knownSubjects));
+
+        var beforeFailure = schemaRepository.findLatestBySubject("usr-subject").block();
+
+        // When
+        knownSubjects.listeningFailed();
+
+        var afterFailure = schemaRepository.findLatestBySubject("usr-subject");
+
+        // Then
+        assertThat(beforeFailure)
+                .describedAs("schema of subject not known before failure")
+                .isNull();
+
+        StepVerifier
+                .create(afterFailure.map(Schema::getId))
+                .expectNext(1101)
+                .as("finds schema registered while not listening")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findLatestBySubject("usr-subject");
+    }
+
+    @Test
+    void readsOnlyUncachedSchemasByIdsWithSingleQuery() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var cachedSchema = userSchema(null, 1001, "");
+        var uncachedSchemas = List.of(paymentSchema(null, 1014, "2"), paymentSchema(null, 1024, "3"));
+
+        given(delegate.findById(1001))
+                .willReturn(Mono.just(cachedSchema));
+
+        given(delegate.findByIds(new LinkedHashSet<>(List.of(1014, 999, 1024))))
+                .willReturn(Flux.fromIterable(uncachedSchemas));
+
+        schemaRepository.findById(1001).block();
+
+        // When
+        var result = schemaRepository.findByIds(List.of(1014, 1001, 999, 1024));
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(cachedSchema)
+                .expectNextSequence(uncachedSchemas)
+                .as("finds cached and uncached schemas")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findById(1024))
+                .expectNext(uncachedSchemas.get(1))
+                .as("finds cached schema")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findByIds(any());
+        verify(delegate, times(0)).findById(1024);
+    }
+
+    @Test
+    void readsOnlyUncachedLatestSchemasWithSingleQuery() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        given(delegate.findLatestBySubject("user-subject"))
+                .willReturn(Mono.just(userSchema(2, 1011, "2")));
+
+        given(delegate.findLatestBySubjects(new LinkedHashSet<>(List.of("payment-subject", "usr-subject"))))
+                .willReturn(Flux.just(paymentSchema(3, 1024, "3")));
+
+        schemaRepository.findLatestBySubject("user-subject").block();
+
+        // When
+        var result = schemaRepository.findLatestBySubjects(List.of("payment-subject", "user-subject", "usr-subject"));
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(userSchema(2, 1011, "2"), paymentSchema(3, 1024, "3"))
+                .as("finds cached and uncached latest schemas")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("payment-subject")
+                        .concatWith(schemaRepository.findLatestBySubject("usr-subject")))
+                .expectNext(paymentSchema(3, 1024, "3"))
+                .as("finds cached latest schema and no schema of missing subject")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findLatestBySubjects(any());
+        verify(delegate, times(0)).findLatestBySubject("payment-subject");
+        verify(delegate, times(0)).findLatestBySubject("usr-subject");
+    }
+
+    @Test
+    void looksUpOnlySchemasOfKnownSubjectsWithSingleQuery() {
+        // Given
+        var knownSubjects = new KnownSubjects(delegate, cacheProperties(Duration.ofMinutes(1), Duration.ZERO));
+
+        given(delegate.findAllSubjects())
+                .willReturn(Flux.just("user-subject", "payment-subject"));
+
+        knownSubjects.load().block();
+
+        var schemaRepository = new CachingSchemaRepository(
+                delegate,
+                cacheProperties(Duration.ofMinutes(1), Duration.ZERO),
+                Optional.empty(),
+                Optional.of(knownSubjects));
+
+        var userLookup = new SubjectSchema("user-subject", userSchema(null, null, "").getSchema());
+        var paymentLookup = new SubjectSchema("payment-subject", paymentSchema(null, null, "3").getSchema());
+
+        given(delegate.findBySubjectSchemas(List.of(userLookup, paymentLookup)))
+                .willReturn(Flux.just(userSchema(1, 1001, ""), paymentSchema(3, 1024, "3")));
+
+        // When
+        var result = schemaRepository.findBySubjectSchemas(List.of(
+                userLookup,
+                new SubjectSchema("usr-subject", "{}"),
+                paymentLookup));
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(userSchema(1, 1001, ""), paymentSchema(3, 1024, "3"))
+                .as("finds schemas of known subjects")
+                .verifyComplete();
+
+        verify(delegate, times(1)).findBySubjectSchemas(any());
+    }
+
+    @Test
+    void returnsCachedSchemasWithoutQueryingDatabase() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+
+        given(delegate.findLatestBySubject("user-subject"))
+                .willReturn(Mono.just(userSchema(1, 1001, "")));
+
+        // When
+        var beforeLoad = schemaRepository.findCachedLatestBySubject("user-subject");
+
+        schemaRepository.findLatestBySubject("user-subject").block();
+
+        var latestSchema = schemaRepository.findCachedLatestBySubject("user-subject");
+        var schema = schemaRepository.findCachedBySubjectAndVersion("user-subject", 1);
+
+        // Then
+        assertThat(beforeLoad)
+                .describedAs("latest schema before load")
+                .isNull();
+
+        assertThat(latestSchema)
+                .describedAs("cached latest schema")
+                .isEqualTo(userSchema(1, 1001, ""));
+
+        assertThat(schema)
+                .describedAs("cached schema")
+                .isEqualTo(userSchema(1, 1001, ""));
+
+        verify(delegate, times(1)).findLatestBySubject("user-subject");
+    }
+
+    @Test
+    void returnsSchemaCachedByIdWithoutQueryingDatabase() {
+        // Given
+        var schemaRepository = cachingSchemaRepository(Duration.ofMinutes(1));
+        var schema = userSchema(null, 1001, "");
+
+        given(delegate.findById(1001))
+                .willReturn(Mono.just(schema));
+
+        schemaRepository.findById(1001).block();
+
+        // When
+        var cachedSchema = schemaRepository.findCachedById(1001);
+
+        // Then
+        assertThat(cachedSchema)
+                .describedAs("cached schema")
+                .isEqualTo(schema);
+
+        assertThat(schemaRepository.findCachedById(1002))
+                .describedAs("schema not cached")
+                .isNull();
+
+        verify(delegate, times(1)).findById(1001);
+    }
+
+    @Test
+    void weighsSchemasByEncodedSize() {
+        // Given
+        var schema = userSchema(1, 1001, "");
+
+        schema.setSchema("{\"doc\":\"zażółć 😀\"}");
+
+        // When
+        var size = CachingSchemaRepository.sizeOf(schema);
+
+        // Then
+        assertThat(size)
+                .describedAs("size of schema definition")
+                .isEqualTo(schema.getSchema().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private CachingSchemaRepository cachingSchemaRepository(Duration latestTtl) {
+        return cachingSchemaRepository(latestTtl, Optional.empty());
+    }
+
+    private CachingSchemaRepository cachingSchemaRepository(Duration latestTtl, Duration negativeTtl) {
+        return new CachingSchemaRepository(
+                delegate,
+                cacheProperties(latestTtl, negativeTtl),
+                Optional.empty(),
+                Optional.empty());
+    }
+
+    private CachingSchemaRepository cachingSchemaRepository(Duration latestTtl, Optional<SchemaSnapshot> snapshot) {
+        return new CachingSchemaRepository(
+                delegate,
+                cacheProperties(latestTtl, Duration.ZERO),
+                snapshot,
+                Optional.empty());
+    }
+
+    private static SchemaCacheProperties cacheProperties(Duration latestTtl, Duration negativeTtl) {
+        return new SchemaCacheProperties(
+                true,
+                100,
+                DataSize.ofMegabytes(1),
+                latestTtl,
+                negativeTtl,
+                new SchemaCacheProperties.Ids(100, DataSize.ofMegabytes(1)),
+                new SchemaCacheProperties.Subjects(true, 0.01));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.orderSchema;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import reactor.test.StepVerifier;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
+
+/**
+ * Tests of {@link InMemorySchemaRepository}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class InMemorySchemaRepositoryTest {
+    @Test
+    void servesSchemasLoadedFromConfiguredLocation() {
+        // Given
+        var schemaRepository = new InMemorySchemaRepository(new SchemaStoreProperties(
+                Type.MEMORY,
+                new ClassPathResource("test-data/schemas/schemas.ndjson"),
+                Duration.ofSeconds(30)));
+
+        // When
+        var result = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("order-subject", 2);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(orderSchema(2, 1023, "2"))
+                .as("finds loaded schema")
+                .verifyComplete();
+    }
+
+    @Test
+    void requiresLocation() {
+        // Given
+        var properties = new SchemaStoreProperties(Type.MEMORY, null, Duration.ofSeconds(30));
+
+        // When
+        var thrown = assertThrows(IllegalStateException.class, () -> new InMemorySchemaRepository(properties));
+
+        // Then
+        assertThat(thrown.getMessage())
+                .describedAs("error message")
+                .isEqualTo("schema-registry.store.location is required by the memory store");
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Tests of {@link KnownSubjects}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class KnownSubjectsTest {
+    PostgresSchemaRepository repository = mock(PostgresSchemaRepository.class);
+
+    // UUT
+    KnownSubjects knownSubjects = new KnownSubjects(
+            repository,
+            new SchemaCacheProperties(
+                    true,
+                    100,
+                    DataSize.ofMegabytes(1),
+                    Duration.ofSeconds(5),
+                    Duration.ofSeconds(5),
+                    new SchemaCacheProperties.Ids(100, DataSize.ofMegabytes(1)),
+                    new SchemaCacheProperties.Subjects(true, 0.01)));
+
+    @Test
+    void letsAnySubjectThroughUntilLoaded() {
+        // When
+        var mightExist = knownSubjects.mightExist("usr-subject");
+
+        // Then
+        assertThat(mightExist)
+                .describedAs("unknown subject might exist")
+                .isTrue();
+    }
+
+    @Test
+    void filtersOutSubjectsNotLoaded() {
+        // Given
+        given(repository.findAllSubjects())
+                .willReturn(Flux.just("user-subject", "payment-subject"));
+
+        // When
+        knownSubjects.load().block();
+
+        // Then
+        assertThat(knownSubjects.mightExist("user-subject"))
+                .describedAs("loaded subject might exist")
+                .isTrue();
+
+        assertThat(knownSubjects.mightExist("usr-subject"))
+                .describedAs("unknown subject filtered out")
+                .isFalse();
+    }
+
+    @Test
+    void letsAnySubjectThroughOnceListeningFailed() {
+        // Given
+        given(repository.findAllSubjects())
+                .willReturn(Flux.just("user-subject"));
+
+        knownSubjects.load().block();
+
+        // When
+        knownSubjects.listeningFailed();
+
+        // Then
+        assertThat(knownSubjects.mightExist("order-subject"))
+                .describedAs("subject possibly registered while not listening might exist")
+                .isTrue();
+    }
+
+    @Test
+    void discardsSubjectsLoadedWhileListeningFailed() {
+        // Given
+        given(repository.findAllSubjects())
+                .willReturn(Flux.defer(() -> {
+                    knownSubjects.listeningFailed();
+
+                    return Flux.just("user-subject");
+                }));
+
+        // When
+        knownSubjects.load().block();
+
+        // Then
+        assertThat(knownSubjects.mightExist("order-subject"))
+                .describedAs("subject possibly registered while loading might exist")
+                .isTrue();
+    }
+
+    @Test
+    void filtersOutSubjectsLoadedOnceListeningAgain() {
+        // Given
+        given(repository.findAllSubjects())
+                .willReturn(Flux.just("user-subject"));
+
+        knownSubjects.listeningFailed();
+
+        // When
+        knownSubjects.load().block();
+
+        // Then
+        assertThat(knownSubjects.mightExist("order-subject"))
+                .describedAs("unknown subject filtered out")
+                .isFalse();
+    }
+
+    @Test
+    void letsNotifiedSubjectsThrough() {
+        // Given
+        given(repository.findAllSubjects())
+                .willReturn(Flux.just("user-subject"));
+
+        knownSubjects.load().block();
+
+        // When
+        knownSubjects.schemaChanged(new SchemaChange("order-subject", 1, 1003));
+
+        // Then
+        assertThat(knownSubjects.mightExist("order-subject"))
+                .describedAs("notified subject might exist")
+                .isTrue();
+    }
+
+    @Test
+    void keepsSubjectsNotifiedWhileLoading() {
+        // Given
+        given(repository.findAllSubjects())
+                .willReturn(Flux.defer(() -> {
+                    knownSubjects.schemaChanged(new SchemaChange("order-subject", 1, 1003));
+
+                    return Flux.just("user-subject");
+                }));
+
+        // When
+        knownSubjects.load().block();
+
+        // Then
+        assertThat(knownSubjects.mightExist("order-subject"))
+                .describedAs("subject notified while loading might exist")
+                .isTrue();
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.paymentSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.userSchema;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import tech.kage.schemaregistry.entity.SchemaStoreProperties.Type;
+
+/**
+ * Tests of {@link MaterializedSchemaRepository}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class MaterializedSchemaRepositoryTest {
+    PostgresSchemaRepository source = mock(PostgresSchemaRepository.class);
+
+    // UUT
+    MaterializedSchemaRepository schemaRepository = new MaterializedSchemaRepository(
+            source,
+            new SchemaStoreProperties(Type.MATERIALIZED, null, Duration.ofHours(1)));
+
+    @AfterEach
+    void tearDown() {
+        schemaRepository.stop();
+    }
+
+    @Test
+    void loadsAllSchemasOnStart() {
+        // Given
+        given(source.findAllAfterSequence(0))
+                .willReturn(Flux.just(
+                        new SequencedSchema(1, userSchema(1, 1001, "")),
+                        new SequencedSchema(2, paymentSchema(1, 1004, ""))));
+
+        // When
+        schemaRepository.start();
+
+        // Then
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("payment-subject"))
+                .expectNext(paymentSchema(1, 1004, ""))
+                .as("finds loaded schema")
+                .verifyComplete();
+
+        assertThat(schemaRepository.isRunning())
+                .describedAs("running")
+                .isTrue();
+    }
+
+    @Test
+    void refreshesWithSchemasRegisteredSinceLastOne() {
+        // Given
+        given(source.findAllAfterSequence(0))
+                .willReturn(Flux.just(new SequencedSchema(1, paymentSchema(1, 1004, ""))));
+
+        given(source.findAllAfterSequence(1))
+                .willReturn(Flux.just(new SequencedSchema(7, paymentSchema(2, 1014, "2"))));
+
+        schemaRepository.start();
+
+        // When
+        var refreshed = schemaRepository.refresh();
+
+        // Then
+        StepVerifier
+                .create(refreshed.map(SchemaReadModel::size))
+                .expectNext(2)
+                .as("refreshes read model")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null))
+                .expectNext(paymentSchema(2, 1014, "2"), paymentSchema(1, 1004, ""))
+                .as("finds refreshed schemas")
+                .verifyComplete();
+    }
+
+    @Test
+    void keepsReadModelWhenRefreshFails() {
+        // Given
+        given(source.findAllAfterSequence(0))
+                .willReturn(Flux.just(new SequencedSchema(1, paymentSchema(1, 1004, ""))));
+
+        given(source.findAllAfterSequence(1))
+                .willReturn(Flux.error(new IllegalStateException("Some database error")));
+
+        schemaRepository.start();
+
+        // When
+        var refreshed = schemaRepository.refresh();
+
+        // Then
+        StepVerifier
+                .create(refreshed)
+                .as("fails to refresh")
+                .verifyError(IllegalStateException.class);
+
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("payment-subject"))
+                .expectNext(paymentSchema(1, 1004, ""))
+                .as("finds previously loaded schema")
+                .verifyComplete();
+    }
+
+    @Test
+    void refreshesWhenSchemaChanged() {
+        // Given
+        given(source.findAllAfterSequence(0))
+                .willReturn(Flux.just(new SequencedSchema(1, paymentSchema(1, 1004, ""))));
+
+        given(source.findAllAfterSequence(1))
+                .willReturn(Flux.just(new SequencedSchema(7, paymentSchema(2, 1014, "2"))));
+
+        schemaRepository.start();
+
+        // When
+        schemaRepository.schemaChanged(new SchemaChange("payment-subject", 2, 1014));
+
+        // Then
+        verify(source, timeout(5000)).findAllAfterSequence(1);
+    }
+
+    @Test
+    void refreshesOnceWhenSchemasChangedTogether() {
+        // Given
+        given(source.findAllAfterSequence(0))
+                .willReturn(Flux.just(new SequencedSchema(1, paymentSchema(1, 1004, ""))));
+
+        given(source.findAllAfterSequence(1))
+                .willReturn(Flux.just(
+                        new SequencedSchema(7, paymentSchema(2, 1014, "2")),
+                        new SequencedSchema(8, paymentSchema(3, 1024, "3"))));
+
+        schemaRepository.start();
+
+        // When
+        schemaRepository.schemasChanged(List.of(
+                new SchemaChange("payment-subject", 2, 1014),
+                new SchemaChange("payment-subject", 3, 1024)));
+
+        // Then
+        verify(source, after(500).times(1)).findAllAfterSequence(1);
+    }
+
+    @Test
+    void reloadsWhenMaterializedSchemaChanged() {
+        // Given
+        given(source.findAllAfterSequence(0))
+                .willReturn(
+                        Flux.just(
+                                new SequencedSchema(1, paymentSchema(1, 1004, "")),
+                                new SequencedSchema(2, paymentSchema(2, 1014, "2"))),
+                        Flux.just(new SequencedSchema(1, paymentSchema(1, 1004, ""))));
+
+        schemaRepository.start();
+
+        // When
+        schemaRepository.schemaChanged(new SchemaChange("payment-subject", 2, 1014));
+
+        // Then
+        verify(source, timeout(5000).times(2)).findAllAfterSequence(0);
+
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("payment-subject"))
+                .expectNext(paymentSchema(1, 1004, ""))
+                .as("finds no deleted schema")
+                .verifyComplete();
+    }
+
+    @Test
+    void reloadsWhenChangesMissed() {
+        // Given
+        given(source.findAllAfterSequence(0))
+                .willReturn(
+                        Flux.just(new SequencedSchema(1, paymentSchema(1, 1004, ""))),
+                        Flux.just(new SequencedSchema(1, paymentSchema(1, 1024, "3"))));
+
+        schemaRepository.start();
+
+        // When
+        schemaRepository.changesMissed();
+
+        // Then
+        verify(source, timeout(5000).times(2)).findAllAfterSequence(0);
+
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("payment-subject"))
+                .expectNext(paymentSchema(1, 1024, "3"))
+                .as("finds schema updated while not listening")
+                .verifyComplete();
+    }
+
+    @Test
+    void reloadsAgainWhenReloadFails() {
+        // Given
+        given(source.findAllAfterSequence(0))
+                .willReturn(
+                        Flux.just(new SequencedSchema(1, paymentSchema(1, 1004, ""))),
+                        Flux.error(new IllegalStateException("Some database error")),
+                        Flux.just(new SequencedSchema(1, paymentSchema(1, 1024, "3"))));
+
+        schemaRepository.refresh().block();
+        schemaRepository.requestReload();
+
+        StepVerifier
+                .create(schemaRepository.refresh())
+                .as("fails to reload")
+                .verifyError(IllegalStateException.class);
+
+        // When
+        var refreshed = schemaRepository.refresh();
+
+        // Then
+        StepVerifier
+                .create(refreshed.flatMap(readModel -> readModel.findLatestBySubject("payment-subject")))
+                .expectNext(paymentSchema(1, 1024, "3"))
+                .as("reloads schemas")
+                .verifyComplete();
+    }
+}
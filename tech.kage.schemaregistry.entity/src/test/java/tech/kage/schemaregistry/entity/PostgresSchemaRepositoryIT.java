@@ -25,6 +25,7 @@
 
 package tech.kage.schemaregistry.entity;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static tech.kage.schemaregistry.entity.test.data.TestSchemas.addressSchema;
@@ -37,12 +38,14 @@ import static tech.kage.schemaregistry.entity.test.data.TestSchemas.userSchema;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -55,7 +58,12 @@ import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.test.context.ActiveProfiles;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import tech.kage.schemaregistry.entity.PostgresSchemaRepository.Statement;
 
 /**
  * Integration tests for {@link PostgresSchemaRepository}.
@@ -166,6 +174,164 @@ class PostgresSchemaRepositoryIT {
                 .expectComplete();
     }
 
+    @ParameterizedTest
+    @MethodSource("testLatestSchemasBySubject")
+    void findsLatestSchemaBySubject(
+            String subject,
+            Schema expectedSchema,
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // When
+        var foundSchema = schemaRepository.findLatestBySubject(subject);
+
+        // Then
+        StepVerifier
+                .create(foundSchema)
+                .expectNext(expectedSchema)
+                .as("finds expected latest schema")
+                .verifyComplete();
+    }
+
+    @Test
+    void returnsEmptyMonoWhenLatestSchemaNotFoundBySubject() {
+        // Given
+        var invalidSubject = "invalid-subject";
+
+        // When
+        var foundSchema = schemaRepository.findLatestBySubject(invalidSubject);
+
+        // Then
+        StepVerifier
+                .create(foundSchema)
+                .as("returns empty mono when latest schema not found by subject")
+                .verifyComplete();
+    }
+
+    @ParameterizedTest
+    @MethodSource("testSchemasById")
+    void findsSchemaById(
+            int id,
+            Schema expectedSchema,
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // When
+        var foundSchema = schemaRepository.findById(id);
+
+        // Then
+        StepVerifier
+                .create(foundSchema)
+                .expectNext(expectedSchema)
+                .as("finds expected schema")
+                .verifyComplete();
+    }
+
+    @Test
+    void returnsEmptyMonoWhenSchemaNotFoundById() {
+        // Given
+        var invalidId = 999;
+
+        // When
+        var foundSchema = schemaRepository.findById(invalidId);
+
+        // Then
+        StepVerifier
+                .create(foundSchema)
+                .as("returns empty mono when schema not found by ID")
+                .verifyComplete();
+    }
+
+    @ParameterizedTest
+    @MethodSource("testSchemasBySubjectAndSchema")
+    void findsSchemasBySubjectAndSchema(
+            String subject,
+            String schema,
+            List<Schema> expectedSchemas,
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // When
+        var foundSchemas = schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc(subject, schema);
+
+        // Then
+        StepVerifier
+                .create(foundSchemas)
+                .expectNextSequence(expectedSchemas)
+                .as("finds expected schemas")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsSchemasBySubjectSchemas(
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // When
+        var foundSchemas = schemaRepository
+                .findBySubjectSchemas(List.of(
+                        new SubjectSchema("payment-subject", paymentSchema(null, null, "3").getSchema()),
+                        new SubjectSchema("address-subject", userSchema(null, null, "").getSchema()),
+                        new SubjectSchema("user-subject", userSchema(null, null, "").getSchema()),
+                        new SubjectSchema("invalid-subject", userSchema(null, null, "").getSchema())))
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(foundSchemas)
+                .describedAs("found schemas")
+                .containsExactlyInAnyOrder(paymentSchema(3, 1024, "3"), userSchema(1, 1001, ""));
+    }
+
+    @Test
+    void returnsEmptyFluxWhenSchemaNotFoundBySubjectAndSchema(
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        var schemaOfOtherSubject = userSchema(1, 1001, "").getSchema();
+
+        // When
+        var foundSchemas = schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc(
+                "address-subject",
+                schemaOfOtherSubject);
+
+        // Then
+        StepVerifier
+                .create(foundSchemas)
+                .as("returns empty flux when schema not found by subject and schema")
+                .verifyComplete();
+    }
+
     @Test
     void findsAllSchemasOrderedBySchemaId(
             @Autowired DatabaseClient dbClient,
@@ -203,6 +369,261 @@ class PostgresSchemaRepositoryIT {
                 .verifyComplete();
     }
 
+    @ParameterizedTest
+    @CsvSource({ "true, 1", "true, 2", "true, 13", "true, 100", "false, 1" })
+    void findsAllSchemasOrderedBySchemaIdInPages(
+            boolean paged,
+            int pageSize,
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        var pagedSchemaRepository = new PostgresSchemaRepository(
+                dbClient,
+                new SchemaScanProperties(paged, pageSize, 1));
+
+        var expectedSchemas = List.of(
+                userSchema(1, 1001, ""),
+                addressSchema(1, 1002, ""),
+                orderSchema(1, 1003, ""),
+                paymentSchema(1, 1004, ""),
+                customerProfileSchema(1, 1005, ""),
+                transactionSchema(1, 1006, ""),
+                paymentSchema(2, 1014, "2"),
+                transactionSchema(2, 1016, "2"),
+                addressSchema(2, 1022, "2"),
+                orderSchema(2, 1023, "2"),
+                paymentSchema(3, 1024, "3"),
+                transactionSchema(3, 1026, "3"),
+                transactionSchema(4, 1036, "4"));
+
+        // When
+        var foundSchemas = pagedSchemaRepository.findAllOrderedBySchemaId();
+
+        // Then
+        StepVerifier
+                .create(foundSchemas, 0)
+                .thenRequest(1)
+                .expectNext(expectedSchemas.getFirst())
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextSequence(expectedSchemas.subList(1, expectedSchemas.size()))
+                .as("finds all schemas ordered by schema ID ascending")
+                .verifyComplete();
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "1", "2", "13", "100" })
+    void findsAllSchemasAfterSchemaIdOrderedBySchemaId(
+            int pageSize,
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        var pagedSchemaRepository = new PostgresSchemaRepository(
+                dbClient,
+                new SchemaScanProperties(true, pageSize, 1));
+
+        var expectedSchemas = List.of(
+                transactionSchema(2, 1016, "2"),
+                addressSchema(2, 1022, "2"),
+                orderSchema(2, 1023, "2"),
+                paymentSchema(3, 1024, "3"),
+                transactionSchema(3, 1026, "3"),
+                transactionSchema(4, 1036, "4"));
+
+        // When
+        var foundSchemas = pagedSchemaRepository.findAllAfterSchemaId(1014);
+
+        // Then
+        StepVerifier
+                .create(foundSchemas, 0)
+                .thenRequest(1)
+                .expectNext(expectedSchemas.getFirst())
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextSequence(expectedSchemas.subList(1, expectedSchemas.size()))
+                .as("finds schemas after schema ID ordered by schema ID ascending")
+                .verifyComplete();
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "1", "2", "13", "100" })
+    void findsAllSchemasAfterSchemaVersionOrderedBySchemaId(
+            int pageSize,
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        var pagedSchemaRepository = new PostgresSchemaRepository(
+                dbClient,
+                new SchemaScanProperties(true, pageSize, 1));
+
+        var expectedSchemas = List.of(
+                transactionSchema(2, 1016, "2"),
+                addressSchema(2, 1022, "2"),
+                orderSchema(2, 1023, "2"),
+                paymentSchema(3, 1024, "3"),
+                transactionSchema(3, 1026, "3"),
+                transactionSchema(4, 1036, "4"));
+
+        // When
+        var afterVersion = pagedSchemaRepository.findAllAfter(1014, "payment-subject", 2);
+        var beforeVersion = pagedSchemaRepository.findAllAfter(1014, "address-subject", 2);
+
+        // Then
+        StepVerifier
+                .create(afterVersion)
+                .expectNextSequence(expectedSchemas)
+                .as("finds schemas after schema version ordered by schema ID ascending")
+                .verifyComplete();
+
+        StepVerifier
+                .create(beforeVersion)
+                .expectNext(paymentSchema(2, 1014, "2"))
+                .expectNextSequence(expectedSchemas)
+                .as("finds schemas after schema version preceding one of same schema ID")
+                .verifyComplete();
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "1", "2", "13", "100" })
+    void findsAllSchemasAfterSequenceInRegistrationOrder(
+            int pageSize,
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        var pagedSchemaRepository = new PostgresSchemaRepository(
+                dbClient,
+                new SchemaScanProperties(true, pageSize, 1));
+
+        var expectedSchemas = List.of(
+                userSchema(1, 1001, ""),
+                addressSchema(1, 1002, ""),
+                addressSchema(2, 1022, "2"),
+                orderSchema(1, 1003, ""),
+                orderSchema(2, 1023, "2"),
+                paymentSchema(1, 1004, ""),
+                paymentSchema(2, 1014, "2"),
+                paymentSchema(3, 1024, "3"),
+                customerProfileSchema(1, 1005, ""),
+                transactionSchema(1, 1006, ""),
+                transactionSchema(2, 1016, "2"),
+                transactionSchema(3, 1026, "3"),
+                transactionSchema(4, 1036, "4"));
+
+        // When
+        var allSchemas = pagedSchemaRepository.findAllAfterSequence(0).collectList().block();
+        var remainingSchemas = pagedSchemaRepository.findAllAfterSequence(allSchemas.get(4).sequence());
+
+        // Then
+        assertThat(allSchemas)
+                .describedAs("all schemas")
+                .extracting(SequencedSchema::schema)
+                .isEqualTo(expectedSchemas);
+
+        assertThat(allSchemas)
+                .describedAs("sequence numbers of all schemas")
+                .extracting(SequencedSchema::sequence)
+                .isSorted()
+                .doesNotHaveDuplicates();
+
+        StepVerifier
+                .create(remainingSchemas)
+                .expectNextSequence(allSchemas.subList(5, allSchemas.size()))
+                .as("finds schemas registered after the given sequence number")
+                .verifyComplete();
+    }
+
+    @Test
+    void assignsSequenceNumbersInCommitOrder(
+            @Autowired ConnectionFactory connectionFactory,
+            @Autowired DatabaseClient dbClient) throws Exception {
+        // Given
+        dbClient
+                .sql("INSERT INTO schemas.schemas (id, schema) VALUES (2001, '\"string\"')")
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        var firstConnection = Mono.from(connectionFactory.create()).block();
+
+        try {
+            Mono.from(firstConnection.beginTransaction()).block();
+
+            Flux
+                    .from(firstConnection
+                            .createStatement("INSERT INTO schemas.subjects (subject, version, schema_id) "
+                                    + "VALUES ('first-subject', 1, 2001)")
+                            .execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .blockLast();
+
+            // When
+            var secondInsert = dbClient
+                    .sql("INSERT INTO schemas.subjects (subject, version, schema_id) VALUES ('second-subject', 1, 2001)")
+                    .fetch()
+                    .rowsUpdated()
+                    .toFuture();
+
+            Thread.sleep(500);
+
+            var schemasBeforeFirstCommit = schemaRepository.findAllAfterSequence(0).collectList().block();
+
+            Mono.from(firstConnection.commitTransaction()).block();
+
+            secondInsert.get(10, TimeUnit.SECONDS);
+
+            var schemasAfterFirstCommit = schemaRepository.findAllAfterSequence(0).collectList().block();
+
+            // Then
+            assertThat(schemasBeforeFirstCommit)
+                    .describedAs("schemas visible before the first registration commits")
+                    .isEmpty();
+
+            assertThat(schemasAfterFirstCommit)
+                    .describedAs("subjects of schemas visible after both registrations commit")
+                    .extracting(sequencedSchema -> sequencedSchema.schema().getSubject())
+                    .containsExactly("first-subject", "second-subject");
+        } finally {
+            Mono.from(firstConnection.close()).block();
+        }
+    }
+
+    @Test
+    void returnsEmptyFluxWhenNoSchemasExistAfterSequence() {
+        // Given
+        // No data loaded, tables are empty after ddl.sql
+
+        // When
+        var foundSchemas = schemaRepository.findAllAfterSequence(0);
+
+        // Then
+        StepVerifier
+                .create(foundSchemas)
+                .as("returns empty flux when no schemas exist after sequence")
+                .verifyComplete();
+    }
+
     @Test
     void returnsEmptyFluxWhenNoSchemasExist() {
         // Given
@@ -218,6 +639,173 @@ class PostgresSchemaRepositoryIT {
                 .expectComplete();
     }
 
+    @Test
+    void findsLatestSchemasOfSubjects(
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // When
+        var foundSchemas = schemaRepository
+                .findLatestBySubjects(List.of("transaction-subject", "invalid-subject", "user-subject"))
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(foundSchemas)
+                .describedAs("found latest schemas")
+                .containsExactlyInAnyOrder(transactionSchema(4, 1036, "4"), userSchema(1, 1001, ""));
+    }
+
+    @Test
+    void findsSchemasBySubjectVersions(
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // When
+        var foundSchemas = schemaRepository
+                .findBySubjectVersions(List.of(
+                        new SubjectVersion("payment-subject", 2),
+                        new SubjectVersion("payment-subject", 9),
+                        new SubjectVersion("order-subject", 1)))
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(foundSchemas)
+                .describedAs("found schemas")
+                .containsExactlyInAnyOrder(paymentSchema(2, 1014, "2"), orderSchema(1, 1003, ""));
+    }
+
+    @Test
+    void findsSchemasByIds(
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        var expectedSchemas = List.of(withoutSubject(orderSchema(null, 1023, "2")), withoutSubject(userSchema(null, 1001, "")));
+
+        // When
+        var foundSchemas = schemaRepository
+                .findByIds(List.of(1023, 999, 1001))
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(foundSchemas)
+                .describedAs("found schemas")
+                .containsExactlyInAnyOrderElementsOf(expectedSchemas);
+    }
+
+    @Test
+    void findsAllSubjects(
+            @Autowired PostgresSchemaRepository postgresSchemaRepository,
+            @Autowired DatabaseClient dbClient,
+            @Value("classpath:/test-data/schemas/data.sql") Resource prepareData) throws IOException {
+        // Given
+        dbClient
+                .sql(prepareData.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // When
+        var foundSubjects = postgresSchemaRepository.findAllSubjects().collectList().block();
+
+        // Then
+        assertThat(foundSubjects)
+                .describedAs("found subjects")
+                .containsExactlyInAnyOrder(
+                        "user-subject",
+                        "address-subject",
+                        "order-subject",
+                        "payment-subject",
+                        "customer-profile-subject",
+                        "transaction-subject");
+    }
+
+    @Test
+    void readsPagesOfAllSchemasFromIndex(@Autowired DatabaseClient dbClient) {
+        // Given
+        dbClient
+                .sql("""
+                        INSERT INTO schemas.schemas (id, schema)
+                            SELECT id, '"string"' || id FROM generate_series(100001, 150000) id;
+
+                        INSERT INTO schemas.subjects (subject, version, schema_id)
+                            SELECT 'subject-' || id, 1, id FROM generate_series(100001, 150000) id;
+
+                        ANALYZE schemas.schemas;
+                        ANALYZE schemas.subjects;
+                        """)
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // When
+        var firstPagePlan = dbClient
+                .sql("EXPLAIN " + Statement.FIRST_PAGE_OF_SCHEMAS_AFTER_SCHEMA_ID.sql())
+                .bind("schema_id", 120000)
+                .bind("limit", 1000)
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collectList()
+                .block();
+
+        var nextPagePlan = dbClient
+                .sql("EXPLAIN " + Statement.NEXT_PAGE_OF_ALL_SCHEMAS.sql())
+                .bind("schema_id", 120000)
+                .bind("subject", "subject-120000")
+                .bind("version", 1)
+                .bind("limit", 1000)
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(firstPagePlan)
+                .describedAs("plan of first page of schemas after schema ID")
+                .anyMatch(line -> line.contains("Index Scan using subjects_schema_id_subject_version_idx"))
+                .noneMatch(line -> line.contains("Seq Scan on subjects"));
+
+        assertThat(nextPagePlan)
+                .describedAs("plan of next page of all schemas")
+                .anyMatch(line -> line.contains("Index Scan using subjects_schema_id_subject_version_idx"))
+                .noneMatch(line -> line.contains("Seq Scan on subjects"));
+    }
+
+    @Test
+    void countsStatementExecutions(@Autowired PostgresSchemaRepository postgresSchemaRepository) {
+        // Given
+        var executionsBefore = postgresSchemaRepository.executions(Statement.LATEST_SCHEMA_BY_SUBJECT);
+
+        // When
+        postgresSchemaRepository.findLatestBySubject("user-subject").block();
+        postgresSchemaRepository.findLatestBySubject("address-subject").block();
+
+        // Then
+        assertThat(postgresSchemaRepository.executions(Statement.LATEST_SCHEMA_BY_SUBJECT) - executionsBefore)
+                .describedAs("number of executions of latest schema statement")
+                .isEqualTo(2);
+    }
+
     static Stream<Arguments> testSchemasBySubject() {
         return Stream.of(
                 arguments(
@@ -247,6 +835,46 @@ class PostgresSchemaRepositoryIT {
                                         transactionSchema(1, 1006, "")))));
     }
 
+    static Stream<Arguments> testLatestSchemasBySubject() {
+        return Stream.of(
+                arguments("user-subject", named("user schema 1", userSchema(1, 1001, ""))),
+                arguments("address-subject", named("address schema 2", addressSchema(2, 1022, "2"))),
+                arguments("order-subject", named("order schema 2", orderSchema(2, 1023, "2"))),
+                arguments("payment-subject", named("payment schema 3", paymentSchema(3, 1024, "3"))),
+                arguments("customer-profile-subject",
+                        named("customer profile schema 1", customerProfileSchema(1, 1005, ""))),
+                arguments("transaction-subject", named("transaction schema 4", transactionSchema(4, 1036, "4"))));
+    }
+
+    static Stream<Arguments> testSchemasById() {
+        return Stream.of(
+                arguments(1001, named("user schema", withoutSubject(userSchema(null, 1001, "")))),
+                arguments(1022, named("address schema 2", withoutSubject(addressSchema(null, 1022, "2")))),
+                arguments(1023, named("order schema 2", withoutSubject(orderSchema(null, 1023, "2")))),
+                arguments(1024, named("payment schema 3", withoutSubject(paymentSchema(null, 1024, "3")))),
+                arguments(1036, named("transaction schema 4", withoutSubject(transactionSchema(null, 1036, "4")))));
+    }
+
+    static Stream<Arguments> testSchemasBySubjectAndSchema() {
+        return Stream.of(
+                arguments(
+                        "user-subject",
+                        named("user schema definition", userSchema(1, 1001, "").getSchema()),
+                        named("user schemas", List.of(userSchema(1, 1001, "")))),
+                arguments(
+                        "address-subject",
+                        named("address schema 1 definition", addressSchema(1, 1002, "").getSchema()),
+                        named("address schemas", List.of(addressSchema(1, 1002, "")))),
+                arguments(
+                        "payment-subject",
+                        named("payment schema 2 definition", paymentSchema(2, 1014, "2").getSchema()),
+                        named("payment schemas", List.of(paymentSchema(2, 1014, "2")))),
+                arguments(
+                        "transaction-subject",
+                        named("transaction schema 4 definition", transactionSchema(4, 1036, "4").getSchema()),
+                        named("transaction schemas", List.of(transactionSchema(4, 1036, "4")))));
+    }
+
     static Stream<Arguments> testSchemasBySubjectAndVersion() {
         return Stream.of(
                 arguments("user-subject", 1, named("user schema", userSchema(1, 1001, ""))),
@@ -257,4 +885,12 @@ class PostgresSchemaRepositoryIT {
                         named("customer profile schema", customerProfileSchema(1, 1005, ""))),
                 arguments("transaction-subject", 4, named("transaction schema", transactionSchema(4, 1036, "4"))));
     }
+
+    private static Schema withoutSubject(Schema schema) {
+        var schemaById = schema.copy();
+
+        schemaById.setSubject(null);
+
+        return schemaById;
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * Integration tests for {@link SchemaChangeNotificationListener}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@DataR2dbcTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class SchemaChangeNotificationListenerIT {
+    static final String CHANGES_MISSED = "changes missed";
+    static final String LISTENING_FAILED = "listening failed";
+
+    @Autowired
+    RecordingSchemaChangeHandler handler;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(SchemaChangeNotificationListener.class)
+    static class TestConfig {
+        @Bean
+        RecordingSchemaChangeHandler recordingSchemaChangeHandler() {
+            return new RecordingSchemaChangeHandler();
+        }
+    }
+
+    static class RecordingSchemaChangeHandler implements SchemaChangeHandler {
+        final Sinks.Many<Object> events = Sinks.many().replay().all();
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void schemasChanged(List<SchemaChange> changes) {
+            batchSizes.add(changes.size());
+
+            SchemaChangeHandler.super.schemasChanged(changes);
+        }
+
+        @Override
+        public void schemaChanged(SchemaChange change) {
+            events.tryEmitNext(change);
+        }
+
+        @Override
+        public void listeningFailed() {
+            events.tryEmitNext(LISTENING_FAILED);
+        }
+
+        @Override
+        public void changesMissed() {
+            events.tryEmitNext(CHANGES_MISSED);
+        }
+
+        Flux<Object> events() {
+            return events.asFlux();
+        }
+    }
+
+    @BeforeEach
+    void setUp(@Autowired DatabaseClient dbClient, @Value("classpath:/test-data/schemas/ddl.sql") Resource ddl)
+            throws IOException {
+        dbClient
+                .sql(ddl.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    @Test
+    void dispatchesRegisteredAndDeletedSubjectVersions(@Autowired DatabaseClient dbClient) {
+        // Given
+        var register = dbClient
+                .sql("""
+                        INSERT INTO schemas.schemas (id, schema) VALUES (1001, '"string"');
+                        INSERT INTO schemas.subjects (subject, version, schema_id) VALUES ('user,subject', 1, 1001);
+                        """)
+                .then();
+
+        var delete = dbClient
+                .sql("DELETE FROM schemas.subjects WHERE subject = 'user,subject'")
+                .then();
+
+        // When
+        var events = handler.events();
+
+        // Then
+        StepVerifier
+                .create(events)
+                .expectNext(CHANGES_MISSED)
+                .then(() -> register.block())
+                .expectNext(new SchemaChange("user,subject", 1, 1001))
+                .then(() -> delete.block())
+                .expectNext(new SchemaChange("user,subject", 1, 1001))
+                .as("dispatches changes once listening")
+                .thenCancel()
+                .verify(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void dispatchesChangesNotifiedTogetherAtOnce(@Autowired DatabaseClient dbClient) {
+        // Given
+        var bulkLoad = dbClient
+                .sql("""
+                        INSERT INTO schemas.schemas (id, schema) VALUES (2001, '"string"'), (2002, '"int"');
+                        INSERT INTO schemas.subjects (subject, version, schema_id) VALUES
+                            ('bulk-subject', 1, 2001), ('bulk-subject', 2, 2002), ('other-bulk-subject', 1, 2002);
+                        """)
+                .then();
+
+        // When
+        var events = handler.events();
+
+        // Then
+        StepVerifier
+                .create(events)
+                .expectNext(CHANGES_MISSED)
+                .then(() -> bulkLoad.block())
+                .expectNext(
+                        new SchemaChange("bulk-subject", 1, 2001),
+                        new SchemaChange("bulk-subject", 2, 2002),
+                        new SchemaChange("other-bulk-subject", 1, 2002))
+                .as("dispatches changes of bulk load")
+                .thenCancel()
+                .verify(Duration.ofSeconds(30));
+
+        assertThat(handler.batchSizes)
+                .describedAs("numbers of changes dispatched at once")
+                .containsExactly(3);
+    }
+
+    @Test
+    void tellsListeningFailedUntilListeningAgain(@Autowired DatabaseClient dbClient) {
+        // Given
+        var terminateListening = dbClient
+                .sql("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE query = 'LISTEN "
+                        + SchemaChangeNotificationListener.CHANNEL + "'")
+                .then();
+
+        // When
+        var events = handler.events();
+
+        // Then
+        StepVerifier
+                .create(events)
+                .expectNext(CHANGES_MISSED)
+                .then(() -> terminateListening.block())
+                .expectNext(LISTENING_FAILED, CHANGES_MISSED)
+                .as("tells listening failed and changes missed once listening again")
+                .thenCancel()
+                .verify(Duration.ofSeconds(30));
+    }
+}
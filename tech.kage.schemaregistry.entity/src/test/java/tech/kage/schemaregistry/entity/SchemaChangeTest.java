@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests of {@link SchemaChange}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class SchemaChangeTest {
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            1,1001,user-subject     | user-subject     | 1  | 1001
+            12,1034,a,b,c           | a,b,c            | 12 | 1034
+            """)
+    void parsesNotificationPayload(String payload, String subject, int version, int schemaId) {
+        // When
+        var change = SchemaChange.parse(payload);
+
+        // Then
+        assertThat(change)
+                .describedAs("parsed change")
+                .isEqualTo(new SchemaChange(subject, version, schemaId));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "user-subject", "1,user-subject", "x,1001,user-subject" })
+    void rejectsMalformedNotificationPayload(String payload) {
+        // When
+        var thrown = assertThrows(IllegalArgumentException.class, () -> SchemaChange.parse(payload));
+
+        // Then
+        assertThat(thrown)
+                .describedAs("thrown exception")
+                .isNotNull();
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.addressSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.customerProfileSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.orderSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.paymentSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.transactionSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.userSchema;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests of {@link SchemaReadModel}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class SchemaReadModelTest {
+    // UUT
+    SchemaReadModel schemaRepository = SchemaReadModel.load(new ClassPathResource("test-data/schemas/schemas.ndjson"));
+
+    @Test
+    void findsSchemaBySubjectAndVersion() {
+        // When
+        var result = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(paymentSchema(2, 1014, "2"))
+                .as("finds schema by subject and version")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsAllVersionsOfSubjectInDescendingOrder() {
+        // When
+        var result = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", null);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(paymentSchema(3, 1024, "3"), paymentSchema(2, 1014, "2"), paymentSchema(1, 1004, ""))
+                .as("finds all versions in descending order")
+                .verifyComplete();
+    }
+
+    @Test
+    void returnsEmptyFluxWhenSubjectOrVersionNotFound() {
+        // When
+        var unknownSubject = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("invalid-subject", null);
+        var unknownVersion = schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 123);
+
+        // Then
+        StepVerifier
+                .create(unknownSubject.concatWith(unknownVersion))
+                .as("returns empty flux")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsLatestSchemaBySubject() {
+        // When
+        var result = schemaRepository.findLatestBySubject("transaction-subject");
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(transactionSchema(4, 1036, "4"))
+                .as("finds latest schema")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsSchemaByIdWithoutSubjectAndVersion() {
+        // Given
+        var expectedSchema = customerProfileSchema(null, 1005, "");
+
+        expectedSchema.setSubject(null);
+
+        // When
+        var result = schemaRepository.findById(1005);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(expectedSchema)
+                .as("finds schema by ID")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findById(999))
+                .as("returns empty mono when schema not found by ID")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsVersionsOfSubjectWithMatchingSchema() {
+        // Given
+        var schema = addressSchema(null, null, "2").getSchema();
+
+        // When
+        var result = schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc("address-subject", schema);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(addressSchema(2, 1022, "2"))
+                .as("finds versions with matching schema")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc("user-subject", schema))
+                .as("returns empty flux when schema not registered under subject")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsAllSchemasOrderedBySchemaId() {
+        // When
+        var result = schemaRepository.findAllOrderedBySchemaId().map(Schema::getId);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(1001, 1002, 1003, 1004, 1005, 1006, 1014, 1016, 1022, 1023, 1024, 1026, 1036)
+                .as("finds all schemas ordered by schema ID")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsAllSchemasAfterSchemaIdOrderedBySchemaId() {
+        // When
+        var result = schemaRepository.findAllAfterSchemaId(1014).map(Schema::getId);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(1016, 1022, 1023, 1024, 1026, 1036)
+                .as("finds schemas after schema ID ordered by schema ID")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findAllAfterSchemaId(1015).map(Schema::getId))
+                .expectNext(1016, 1022, 1023, 1024, 1026, 1036)
+                .as("finds schemas after schema ID not registered")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findAllAfterSchemaId(1036))
+                .as("returns empty flux when no schemas exist after schema ID")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsAllSchemasAfterSchemaVersionOrderedBySchemaId() {
+        // Given
+        var changedReadModel = schemaRepository.withChanges(List.of(
+                new SequencedSchema(20, userSchema(2, 1001, ""))));
+
+        // When
+        var afterFirstVersion = changedReadModel.findAllAfter(1001, "user-subject", 1);
+        var afterSecondVersion = changedReadModel.findAllAfter(1001, "user-subject", 2);
+
+        // Then
+        StepVerifier
+                .create(afterFirstVersion.take(2))
+                .expectNext(userSchema(2, 1001, ""), addressSchema(1, 1002, ""))
+                .as("finds schemas after schema version including next version of same schema ID")
+                .verifyComplete();
+
+        StepVerifier
+                .create(afterSecondVersion.take(1))
+                .expectNext(addressSchema(1, 1002, ""))
+                .as("finds schemas after last version of schema ID")
+                .verifyComplete();
+
+        StepVerifier
+                .create(changedReadModel.findAllAfter(1036, "transaction-subject", 4))
+                .as("returns empty flux when no schemas exist after schema version")
+                .verifyComplete();
+    }
+
+    @Test
+    void findsAllSchemasAfterSequenceInFileOrder() {
+        // When
+        var result = schemaRepository.findAllAfterSequence(10);
+
+        // Then
+        StepVerifier
+                .create(result)
+                .expectNext(
+                        new SequencedSchema(11, transactionSchema(2, 1016, "2")),
+                        new SequencedSchema(12, transactionSchema(3, 1026, "3")),
+                        new SequencedSchema(13, transactionSchema(4, 1036, "4")))
+                .as("finds schemas after sequence in file order")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findAllAfterSequence(13))
+                .as("returns empty flux when no schemas exist after sequence")
+                .verifyComplete();
+    }
+
+    @Test
+    void includesChangesInNewReadModel() {
+        // Given
+        var changes = List.of(
+                new SequencedSchema(20, userSchema(2, 1011, "2")),
+                new SequencedSchema(21, paymentSchema(4, 1034, "4")));
+
+        // When
+        var changedReadModel = schemaRepository.withChanges(changes);
+
+        // Then
+        StepVerifier
+                .create(changedReadModel
+                        .findLatestBySubject("user-subject")
+                        .concatWith(changedReadModel.findLatestBySubject("payment-subject")))
+                .expectNext(userSchema(2, 1011, "2"), paymentSchema(4, 1034, "4"))
+                .as("finds changed schemas in new read model")
+                .verifyComplete();
+
+        StepVerifier
+                .create(schemaRepository.findLatestBySubject("user-subject"))
+                .expectNext(userSchema(1, 1001, ""))
+                .as("finds unchanged schema in previous read model")
+                .verifyComplete();
+
+        assertThat(changedReadModel.lastSequence())
+                .describedAs("last sequence of new read model")
+                .isEqualTo(21);
+
+        StepVerifier
+                .create(changedReadModel.findAllAfterSequence(15).map(SequencedSchema::sequence))
+                .expectNext(20L, 21L)
+                .as("finds schemas after sequence between sequences")
+                .verifyComplete();
+    }
+
+    @Test
+    void mergesChangesIntoOrderedSchemas() {
+        // Given
+        var changes = List.of(
+                new SequencedSchema(20, userSchema(2, 1011, "2")),
+                new SequencedSchema(21, orderSchema(3, 1000, "3")),
+                new SequencedSchema(22, userSchema(3, 1001, "")));
+
+        // When
+        var changedReadModel = schemaRepository.withChanges(changes);
+
+        // Then
+        StepVerifier
+                .create(changedReadModel.findAllOrderedBySchemaId().map(Schema::getId))
+                .expectNext(1000, 1001, 1001, 1002, 1003, 1004, 1005, 1006, 1011, 1014, 1016, 1022, 1023, 1024, 1026,
+                        1036)
+                .as("finds all schemas ordered by schema ID")
+                .verifyComplete();
+
+        StepVerifier
+                .create(changedReadModel.findById(1000).map(Schema::getSchema))
+                .expectNext(orderSchema(3, 1000, "3").getSchema())
+                .as("finds schema by added ID")
+                .verifyComplete();
+
+        StepVerifier
+                .create(changedReadModel.findBySubjectAndVersionOrderedByVersionDesc("user-subject", null)
+                        .map(Schema::getVersion))
+                .expectNext(3, 2, 1)
+                .as("finds all versions of changed subject in descending order")
+                .verifyComplete();
+
+        StepVerifier
+                .create(changedReadModel
+                        .findBySubjectAndSchemaOrderedByVersionDesc("user-subject", userSchema(1, 1001, "").getSchema())
+                        .map(Schema::getVersion))
+                .expectNext(3, 1)
+                .as("finds versions of changed subject with matching schema")
+                .verifyComplete();
+
+        StepVerifier
+                .create(changedReadModel.findAllAfterSchemaId(1006).map(Schema::getId))
+                .expectNext(1011, 1014, 1016, 1022, 1023, 1024, 1026, 1036)
+                .as("finds all schemas after schema ID including added ones")
+                .verifyComplete();
+    }
+
+    @Test
+    void replacesSubjectVersionRegisteredAgain() {
+        // Given
+        var changes = List.of(
+                new SequencedSchema(20, paymentSchema(2, 1034, "4")),
+                new SequencedSchema(21, userSchema(2, 1011, "2")),
+                new SequencedSchema(22, userSchema(2, 1021, "3")));
+
+        // When
+        var changedReadModel = schemaRepository.withChanges(changes);
+
+        // Then
+        StepVerifier
+                .create(changedReadModel
+                        .findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2)
+                        .concatWith(changedReadModel.findBySubjectAndVersionOrderedByVersionDesc("user-subject", 2)))
+                .expectNext(paymentSchema(2, 1034, "4"), userSchema(2, 1021, "3"))
+                .as("finds replaced subject versions")
+                .verifyComplete();
+
+        StepVerifier
+                .create(changedReadModel.findById(1014))
+                .as("finds no schema by ID no longer registered")
+                .verifyComplete();
+
+        assertThat(changedReadModel.size())
+                .describedAs("number of schema versions")
+                .isEqualTo(schemaRepository.size() + 1);
+
+        assertThat(changedReadModel.lastSequence())
+                .describedAs("last sequence of new read model")
+                .isEqualTo(22);
+    }
+
+    @Test
+    void rejectsChangesConflictingWithSchemaId() {
+        // Given
+        var changes = List.of(new SequencedSchema(20, paymentSchema(4, 1001, "4")));
+
+        // When
+        var thrown = assertThrows(IllegalStateException.class, () -> schemaRepository.withChanges(changes));
+
+        // Then
+        assertThat(thrown.getMessage())
+                .describedAs("error message")
+                .isEqualTo("Conflicting definitions of schema ID 1001");
+    }
+
+    @Test
+    void rejectsDuplicateSubjectVersion() {
+        // Given
+        var schemas = List.of(
+                new SequencedSchema(1, userSchema(1, 1001, "")),
+                new SequencedSchema(2, userSchema(1, 1011, "2")));
+
+        // When
+        var thrown = assertThrows(IllegalStateException.class, () -> new SchemaReadModel(schemas));
+
+        // Then
+        assertThat(thrown.getMessage())
+                .describedAs("error message")
+                .isEqualTo("Duplicate version 1 of subject user-subject");
+    }
+
+    @Test
+    void rejectsInvalidLine() {
+        // Given
+        var location = new ByteArrayResource("""
+                {"subject":"order-subject","version":1,"id":1003,"schema":"{}"}
+                {"subject":"order-subject"}
+                """.getBytes());
+
+        // When
+        var thrown = assertThrows(IllegalStateException.class, () -> SchemaReadModel.load(location));
+
+        // Then
+        assertThat(thrown.getMessage())
+                .describedAs("error message")
+                .startsWith("Missing subject, version, ID or schema at line 2");
+    }
+}
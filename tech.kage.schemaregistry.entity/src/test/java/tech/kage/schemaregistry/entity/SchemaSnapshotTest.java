@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.addressSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.customerProfileSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.paymentSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.transactionSchema;
+import static tech.kage.schemaregistry.entity.test.data.TestSchemas.userSchema;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+
+/**
+ * Tests of {@link SchemaSnapshot} and {@link SchemaSnapshotWriter}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class SchemaSnapshotTest {
+    static final List<Schema> SCHEMAS = List.of(
+            userSchema(1, 1001, ""),
+            addressSchema(1, 1002, ""),
+            paymentSchema(1, 1004, ""),
+            customerProfileSchema(1, 1005, ""),
+            paymentSchema(2, 1014, "2"),
+            addressSchema(2, 1022, "2"),
+            transactionSchema(4, 1036, "4"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void findsSchemaBySubjectAndVersion() throws IOException {
+        // Given
+        var snapshot = new SchemaSnapshot(snapshot(SCHEMAS, tempDir));
+
+        // When
+        var schemas = List.of(
+                snapshot.findBySubjectAndVersion("user-subject", 1),
+                snapshot.findBySubjectAndVersion("address-subject", 2),
+                snapshot.findBySubjectAndVersion("payment-subject", 1),
+                snapshot.findBySubjectAndVersion("customer-profile-subject", 1),
+                snapshot.findBySubjectAndVersion("transaction-subject", 4));
+
+        // Then
+        assertThat(schemas)
+                .describedAs("schemas found by subject and version")
+                .containsExactly(
+                        userSchema(1, 1001, ""),
+                        addressSchema(2, 1022, "2"),
+                        paymentSchema(1, 1004, ""),
+                        customerProfileSchema(1, 1005, ""),
+                        transactionSchema(4, 1036, "4"));
+    }
+
+    @Test
+    void findsSchemaByIdWithoutSubjectAndVersion() throws IOException {
+        // Given
+        var snapshot = new SchemaSnapshot(snapshot(SCHEMAS, tempDir));
+        var expectedSchema = paymentSchema(null, 1014, "2");
+
+        expectedSchema.setSubject(null);
+
+        // When
+        var schema = snapshot.findById(1014);
+
+        // Then
+        assertThat(schema)
+                .describedAs("schema found by ID")
+                .isEqualTo(expectedSchema);
+    }
+
+    @Test
+    void returnsNullWhenSchemaNotInSnapshot() throws IOException {
+        // Given
+        var snapshot = new SchemaSnapshot(snapshot(SCHEMAS, tempDir));
+
+        // When
+        var unknownId = snapshot.findById(999);
+        var unknownSubject = snapshot.findBySubjectAndVersion("invalid-subject", 1);
+        var unknownVersion = snapshot.findBySubjectAndVersion("payment-subject", 3);
+
+        // Then
+        assertThat(unknownId)
+                .describedAs("schema found by unknown ID")
+                .isNull();
+
+        assertThat(unknownSubject)
+                .describedAs("schema found by unknown subject")
+                .isNull();
+
+        assertThat(unknownVersion)
+                .describedAs("schema found by unknown version")
+                .isNull();
+    }
+
+    @Test
+    void opensWrittenSnapshotFile() throws IOException {
+        // Given
+        var location = tempDir.resolve("schemas.snapshot");
+
+        SchemaSnapshotWriter.write(SCHEMAS, location);
+
+        // When
+        var snapshot = new SchemaSnapshot(new SchemaSnapshotProperties(location));
+
+        // Then
+        assertThat(snapshot.size())
+                .describedAs("number of subject versions")
+                .isEqualTo(SCHEMAS.size());
+
+        assertThat(snapshot.findBySubjectAndVersion("customer-profile-subject", 1))
+                .describedAs("schema found by subject and version")
+                .isEqualTo(customerProfileSchema(1, 1005, ""));
+    }
+
+    @Test
+    void rejectsInvalidSnapshot() {
+        // Given
+        var invalidSnapshot = ByteBuffer.wrap(new byte[64]);
+
+        // When
+        var thrown = assertThrows(IllegalStateException.class, () -> new SchemaSnapshot(invalidSnapshot));
+
+        // Then
+        assertThat(thrown.getMessage())
+                .describedAs("error message")
+                .isEqualTo("Not a schema registry snapshot");
+    }
+
+    @Test
+    void writesSchemasLargerThanWriteBuffer() throws IOException {
+        // Given
+        var largeSchema = new Schema(
+                "large-subject",
+                1,
+                1100,
+                "AVRO",
+                List.of(new SchemaReference("com.example.User", "user-subject", 1)),
+                "{\"type\":\"string\",\"doc\":\"" + "x".repeat(200_000) + "\"}");
+
+        var schemas = List.of(userSchema(1, 1001, ""), largeSchema, paymentSchema(1, 1004, ""));
+
+        // When
+        var snapshot = new SchemaSnapshot(snapshot(schemas, tempDir));
+
+        // Then
+        assertThat(List.of(
+                snapshot.findBySubjectAndVersion("user-subject", 1),
+                snapshot.findBySubjectAndVersion("large-subject", 1),
+                snapshot.findBySubjectAndVersion("payment-subject", 1)))
+                .describedAs("schemas found by subject and version")
+                .containsExactly(userSchema(1, 1001, ""), largeSchema, paymentSchema(1, 1004, ""));
+    }
+
+    @Test
+    void leavesNoFileWhenSnapshotNotCommitted() throws IOException {
+        // Given
+        var location = tempDir.resolve("schemas.snapshot");
+
+        // When
+        try (var writer = SchemaSnapshotWriter.create(location)) {
+            writer.write(userSchema(1, 1001, ""));
+        }
+
+        // Then
+        try (var files = Files.list(tempDir)) {
+            assertThat(files)
+                    .describedAs("files left in snapshot directory")
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    void rejectsTruncatedSnapshot() throws IOException {
+        // Given
+        var snapshot = snapshot(SCHEMAS, tempDir);
+        var truncatedSnapshot = ByteBuffer.wrap(snapshot.array(), 0, snapshot.capacity() - 1).slice();
+
+        // When
+        var thrown = assertThrows(IllegalStateException.class, () -> new SchemaSnapshot(truncatedSnapshot));
+
+        // Then
+        assertThat(thrown.getMessage())
+                .describedAs("error message")
+                .startsWith("Corrupt snapshot: subject index");
+    }
+
+    @Test
+    void failsOnlyLookupOfCorruptEntry() throws IOException {
+        // Given
+        var corruptSnapshot = snapshot(SCHEMAS, tempDir);
+        var idIndexOffset = corruptSnapshot.getInt(16);
+
+        corruptSnapshot.putInt(idIndexOffset + 4, corruptSnapshot.capacity() - 2);
+
+        var snapshot = new SchemaSnapshot(corruptSnapshot);
+
+        // When
+        var thrown = assertThrows(IllegalStateException.class, () -> snapshot.findById(1001));
+
+        // Then
+        assertThat(thrown.getMessage())
+                .describedAs("error message")
+                .startsWith("Corrupt snapshot: string");
+
+        assertThat(snapshot.findBySubjectAndVersion("address-subject", 1))
+                .describedAs("schema of intact entry")
+                .isEqualTo(addressSchema(1, 1002, ""));
+    }
+
+    /**
+     * Writes a snapshot of the given schemas to a file in the given directory and
+     * reads it back.
+     */
+    static ByteBuffer snapshot(List<Schema> schemas, Path directory) throws IOException {
+        var location = Files.createTempFile(directory, "schemas", ".snapshot");
+
+        SchemaSnapshotWriter.write(schemas, location);
+
+        return ByteBuffer.wrap(Files.readAllBytes(location));
+    }
+}
@@ -43,18 +43,25 @@ module tech.kage.schemaregistry.replicator {
     requires transitive spring.core;
 
     requires org.slf4j;
+    requires micrometer.core;
 
     // Entity
+    requires spring.r2dbc;
+    requires r2dbc.spi;
+    requires r2dbc.postgresql;
     requires spring.kafka;
     requires reactor.kafka;
     requires kafka.clients;
+    requires com.fasterxml.jackson.core;
     requires com.fasterxml.jackson.databind;
 
     exports tech.kage.schemaregistry.replicator to spring.beans, spring.context;
     exports tech.kage.schemaregistry.replicator.boundary to spring.beans;
     exports tech.kage.schemaregistry.replicator.control to spring.beans;
-    exports tech.kage.schemaregistry.replicator.entity to spring.beans, spring.context;
+    exports tech.kage.schemaregistry.replicator.entity to spring.beans, spring.context, kafka.clients;
 
     opens tech.kage.schemaregistry.replicator to spring.core;
+    opens tech.kage.schemaregistry.replicator.boundary to com.fasterxml.jackson.databind;
+    opens tech.kage.schemaregistry.replicator.control to spring.core, com.fasterxml.jackson.databind;
     opens tech.kage.schemaregistry.replicator.entity to spring.core, com.fasterxml.jackson.databind;
 }
@@ -25,16 +25,23 @@
 
 package tech.kage.schemaregistry.replicator;
 
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.kafka.receiver.ReceiverOptions;
 import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.MicrometerProducerListener;
 import reactor.kafka.sender.SenderOptions;
+import tech.kage.schemaregistry.replicator.control.ReplicationProperties;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRecordSerializer;
 
 /**
  * Spring Boot application running the process of schema replication.
@@ -42,6 +49,7 @@ import reactor.kafka.sender.SenderOptions;
  * @author Dariusz Szpakowski
  */
 @SpringBootApplication
+@EnableConfigurationProperties(ReplicationProperties.class)
 public class Application {
     /**
      * The application's entry point.
@@ -60,12 +68,33 @@ public class Application {
     }
 
     @Bean
-    SenderOptions<?, ?> kafkaSenderOptions(KafkaProperties properties) {
+    SenderOptions<?, ?> kafkaSenderOptions(
+            KafkaProperties properties,
+            ReplicationProperties replicationProperties,
+            MeterRegistry meterRegistry) {
         var props = properties.buildProducerProperties(null);
 
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ConfluentSchemaRecordSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ConfluentSchemaRecordSerializer.class);
 
-        return SenderOptions.create(props);
+        // keep the order of pipelined schemas on retries
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+
+        return SenderOptions
+                .create(props)
+                .maxInFlight(replicationProperties.maxInFlight())
+                .producerListener(new MicrometerProducerListener(meterRegistry));
+    }
+
+    @Bean
+    ReceiverOptions<byte[], byte[]> schemasReceiverOptions(KafkaProperties properties) {
+        var props = properties.buildConsumerProperties(null);
+
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        return ReceiverOptions.create(props);
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.boundary;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import tech.kage.schemaregistry.replicator.control.ReplicationMetrics.Snapshot;
+import tech.kage.schemaregistry.replicator.control.ReplicationProperties.Mode;
+
+/**
+ * Machine-readable summary of a finished schema replication.
+ *
+ * @param mode              the replication mode
+ * @param status            the outcome of the replication
+ * @param error             the message of the error the replication failed
+ *                          with, or null
+ * @param startedAt         the start time of the replication
+ * @param durationMillis    the duration of the replication in milliseconds
+ * @param recordsPerSecond  the rate of schemas acknowledged by Kafka
+ * @param bytesPerSecond    the rate of serialized bytes acknowledged by Kafka
+ * @param metrics           the values of replication metrics at the end of the
+ *                          replication
+ * 
+ * @author Dariusz Szpakowski
+ */
+record ReplicationReport(
+        Mode mode,
+        Status status,
+        String error,
+        String startedAt,
+        long durationMillis,
+        double recordsPerSecond,
+        double bytesPerSecond,
+        Snapshot metrics) {
+
+    /**
+     * Outcome of a replication.
+     */
+    enum Status {
+        COMPLETED, FAILED
+    }
+
+    /**
+     * Creates a report of a replication.
+     *
+     * @param mode      the replication mode
+     * @param error     the error the replication failed with, or null
+     * @param startedAt the start time of the replication
+     * @param duration  the duration of the replication
+     * @param metrics   the values of replication metrics at the end of the
+     *                  replication
+     *
+     * @return the report of the replication
+     */
+    static ReplicationReport of(Mode mode, Throwable error, Instant startedAt, Duration duration, Snapshot metrics) {
+        var seconds = Math.max(duration.toNanos(), 1) / 1e9;
+
+        return new ReplicationReport(
+                mode,
+                error == null ? Status.COMPLETED : Status.FAILED,
+                error == null ? null : String.valueOf(error.getMessage()),
+                startedAt.toString(),
+                duration.toMillis(),
+                metrics.replicated() / seconds,
+                metrics.bytes() / seconds,
+                metrics);
+    }
+}
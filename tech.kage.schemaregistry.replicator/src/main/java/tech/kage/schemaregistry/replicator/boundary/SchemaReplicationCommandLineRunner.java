@@ -25,11 +25,23 @@
 
 package tech.kage.schemaregistry.replicator.boundary;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import tech.kage.schemaregistry.replicator.control.ReplicationMetrics;
+import tech.kage.schemaregistry.replicator.control.ReplicationProperties;
 import tech.kage.schemaregistry.replicator.control.SchemaReplication;
 
 /**
@@ -42,14 +54,31 @@ import tech.kage.schemaregistry.replicator.control.SchemaReplication;
 public class SchemaReplicationCommandLineRunner implements CommandLineRunner {
     private static final Logger log = LoggerFactory.getLogger(SchemaReplicationCommandLineRunner.class);
 
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     private final SchemaReplication schemaReplication;
+    private final ReplicationMetrics metrics;
+    private final ReplicationProperties properties;
 
-    public SchemaReplicationCommandLineRunner(SchemaReplication schemaReplication) {
+    /**
+     * Constructs a new {@link SchemaReplicationCommandLineRunner} instance.
+     *
+     * @param schemaReplication the schema replication use case
+     * @param metrics           the metrics of schema replication
+     * @param properties        the replication configuration
+     */
+    public SchemaReplicationCommandLineRunner(
+            SchemaReplication schemaReplication,
+            ReplicationMetrics metrics,
+            ReplicationProperties properties) {
         this.schemaReplication = schemaReplication;
+        this.metrics = metrics;
+        this.properties = properties;
     }
 
     /**
-     * Initiates schema replication to the Confluent Schema Registry.
+     * Initiates schema replication to the Confluent Schema Registry, logging its
+     * progress periodically and its report when it finishes.
      *
      * @param args command-line arguments (unused)
      */
@@ -57,12 +86,70 @@ public class SchemaReplicationCommandLineRunner implements CommandLineRunner {
     public void run(String... args) {
         log.info("Starting schema replication...");
 
-        schemaReplication
-                .replicateAllSchemas()
-                .doOnNext(schema -> log.info("Replicated schema ID: {} for {} v{}", schema.getId(), schema.getSubject(),
-                        schema.getVersion()))
-                .blockLast();
+        var startedAt = Instant.now();
+        var start = System.nanoTime();
+
+        var progress = Flux
+                .interval(properties.progressInterval())
+                .subscribe(tick -> logProgress());
+
+        Throwable error = null;
+
+        try {
+            schemaReplication
+                    .replicateSchemas()
+                    .doOnNext(schema -> log.debug("Replicated schema ID: {} for {} v{}", schema.getId(),
+                            schema.getSubject(), schema.getVersion()))
+                    .blockLast();
+        } catch (RuntimeException e) {
+            error = e;
+
+            throw e;
+        } finally {
+            progress.dispose();
+
+            // a failure to report must not mask the outcome of the replication
+            try {
+                report(ReplicationReport.of(
+                        properties.mode(),
+                        error,
+                        startedAt,
+                        Duration.ofNanos(System.nanoTime() - start),
+                        metrics.snapshot()));
+            } catch (RuntimeException e) {
+                log.error("Unable to report schema replication", e);
+            }
+        }
 
         log.info("Schema replication completed successfully.");
     }
+
+    private void logProgress() {
+        var snapshot = metrics.snapshot();
+
+        log.info("Replication progress: read {}, converted {}, sent {}, replicated {} ({} bytes), failed {}, "
+                + "in flight {}, retries {}, send latency p99 {} ms",
+                snapshot.read(), snapshot.converted(), snapshot.sent(), snapshot.replicated(), snapshot.bytes(),
+                snapshot.failed(), snapshot.inFlight(), snapshot.retries(), snapshot.sendLatency().p99());
+    }
+
+    private void report(ReplicationReport report) {
+        String json;
+
+        try {
+            json = objectMapper.writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Replication report: {}", json);
+
+        if (properties.reportFile() != null) {
+            try {
+                Files.writeString(properties.reportFile(), json);
+            } catch (IOException e) {
+                log.error("Unable to write replication report to {}", properties.reportFile(), e);
+            }
+        }
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.control;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Metrics of schema replication: schemas read from the database, converted to
+ * Kafka records, sent to, acknowledged by and failed to be acknowledged by
+ * Kafka, schemas in flight and the latency of sends.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+public class ReplicationMetrics {
+    static final String SENT_BYTES = "schema.replicator.sent.bytes";
+    static final String PRODUCER_RETRIES = "kafka.producer.record.retry.total";
+    static final String CONVERSION = "schema.replicator.conversion";
+
+    private final MeterRegistry registry;
+    private final Counter read;
+    private final Counter sent;
+    private final Counter replicated;
+    private final Counter failed;
+    private final Timer sendLatency;
+    private final AtomicLong inFlight = new AtomicLong();
+
+    /**
+     * Constructs a new {@link ReplicationMetrics} instance.
+     *
+     * @param registry the registry of meters
+     */
+    public ReplicationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        read = Counter
+                .builder("schema.replicator.records.read")
+                .description("Number of schemas read from the database")
+                .register(registry);
+
+        sent = Counter
+                .builder("schema.replicator.records.sent")
+                .description("Number of schemas sent to Kafka")
+                .register(registry);
+
+        replicated = Counter
+                .builder("schema.replicator.records.replicated")
+                .description("Number of schemas acknowledged by Kafka")
+                .register(registry);
+
+        failed = Counter
+                .builder("schema.replicator.records.failed")
+                .description("Number of schemas sent to Kafka and never acknowledged")
+                .register(registry);
+
+        sendLatency = Timer
+                .builder("schema.replicator.send.latency")
+                .description("Time from sending a schema to its acknowledgement by Kafka")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+
+        Gauge
+                .builder("schema.replicator.in.flight", inFlight, AtomicLong::get)
+                .description("Number of schemas sent to Kafka and not yet acknowledged")
+                .register(registry);
+    }
+
+    /**
+     * Records a schema read from the database.
+     */
+    void read() {
+        read.increment();
+    }
+
+    /**
+     * Records a schema sent to Kafka.
+     *
+     * @return the start time of the send in nanoseconds
+     */
+    long sendStarted() {
+        sent.increment();
+        inFlight.incrementAndGet();
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a schema acknowledged by Kafka.
+     *
+     * @param startNanos the start time of the send in nanoseconds
+     */
+    void sendCompleted(long startNanos) {
+        inFlight.decrementAndGet();
+        replicated.increment();
+        sendLatency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records schemas sent to Kafka that will never be acknowledged, e.g. because
+     * their send or the replication failed or was cancelled.
+     *
+     * @param count the number of schemas
+     */
+    void sendFailed(long count) {
+        if (count > 0) {
+            inFlight.addAndGet(-count);
+            failed.increment(count);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the current values of the metrics, including the
+     * conversions of schemas to Kafka records, the bytes sent and the retries of
+     * the Kafka producer.
+     *
+     * @return the snapshot of the metrics
+     */
+    public Snapshot snapshot() {
+        var latency = sendLatency.takeSnapshot();
+        var p50 = 0.0;
+        var p99 = 0.0;
+
+        for (var percentile : latency.percentileValues()) {
+            if (percentile.percentile() == 0.5) {
+                p50 = percentile.value(TimeUnit.MILLISECONDS);
+            } else if (percentile.percentile() == 0.99) {
+                p99 = percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+
+        var conversions = registry.find(CONVERSION).functionTimer();
+
+        return new Snapshot(
+                (long) read.count(),
+                conversions != null ? (long) conversions.count() : 0,
+                conversions != null ? conversions.totalTime(TimeUnit.MILLISECONDS) : 0.0,
+                (long) sent.count(),
+                (long) replicated.count(),
+                (long) failed.count(),
+                inFlight.get(),
+                (long) sum(SENT_BYTES),
+                (long) sum(PRODUCER_RETRIES),
+                new Snapshot.Latency(
+                        latency.mean(TimeUnit.MILLISECONDS),
+                        p50,
+                        p99,
+                        latency.max(TimeUnit.MILLISECONDS)));
+    }
+
+    private double sum(String functionCounter) {
+        return registry
+                .find(functionCounter)
+                .functionCounters()
+                .stream()
+                .mapToDouble(FunctionCounter::count)
+                .filter(Double::isFinite)
+                .sum();
+    }
+
+    /**
+     * Values of replication metrics at a point in time.
+     *
+     * @param read             the number of schemas read from the database
+     * @param converted        the number of schemas converted to Kafka records
+     * @param conversionMillis the total time of converting schemas to Kafka
+     *                         records in milliseconds
+     * @param sent             the number of schemas sent to Kafka
+     * @param replicated       the number of schemas acknowledged by Kafka
+     * @param failed           the number of schemas sent and never acknowledged
+     * @param inFlight         the number of schemas sent and not yet acknowledged
+     * @param bytes            the number of serialized bytes acknowledged by Kafka
+     * @param retries          the number of retried sends of the Kafka producer
+     * @param sendLatency      the latency of sends
+     */
+    public record Snapshot(
+            long read,
+            long converted,
+            double conversionMillis,
+            long sent,
+            long replicated,
+            long failed,
+            long inFlight,
+            long bytes,
+            long retries,
+            Latency sendLatency) {
+
+        /**
+         * Latency of sends in milliseconds.
+         *
+         * @param mean the mean latency
+         * @param p50  the median latency
+         * @param p99  the 99th percentile of latency
+         * @param max  the maximum latency
+         */
+        public record Latency(double mean, double p50, double p99, double max) {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.control;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of schema replication.
+ *
+ * @param mode             the replication mode
+ * @param watermark        the name of the watermark recording the last
+ *                         replicated schema in the incremental mode
+ * @param watermarkBatch   the number of confirmed schemas after which the
+ *                         watermark is advanced in the incremental mode
+ * @param pipelined        whether schemas are sent without waiting for the
+ *                         previous ones to be acknowledged
+ * @param maxInFlight      the maximum number of schemas sent but not yet
+ *                         acknowledged when pipelined
+ * @param progressInterval the interval of logging replication progress
+ * @param reportFile       the path of the file the JSON report of the
+ *                         replication is written to when it finishes, or null
+ *                         to only log the report
+ * @param snapshotFile     the path of the snapshot file written in the
+ *                         snapshot mode
+ * 
+ * @author Dariusz Szpakowski
+ */
+@ConfigurationProperties("replicator")
+public record ReplicationProperties(
+        @DefaultValue("full") Mode mode,
+        @DefaultValue("schemas") String watermark,
+        @DefaultValue("1000") int watermarkBatch,
+        @DefaultValue("false") boolean pipelined,
+        @DefaultValue("256") int maxInFlight,
+        @DefaultValue("10s") Duration progressInterval,
+        Path reportFile,
+        Path snapshotFile) {
+
+    /**
+     * Replication modes.
+     */
+    public enum Mode {
+        /**
+         * Replicates all schemas on every run.
+         */
+        FULL,
+
+        /**
+         * Replicates only the schemas missing in the Kafka schema registry topic
+         * or differing from the ones present in it.
+         */
+        DIFF,
+
+        /**
+         * Replicates only the schemas registered since the last replicated one,
+         * recording progress after each batch of confirmed sends.
+         */
+        INCREMENTAL,
+
+        /**
+         * Replicates incrementally and then keeps running, replicating schemas as
+         * soon as they are registered.
+         */
+        CONTINUOUS,
+
+        /**
+         * Writes a binary snapshot of all schemas to a file instead of
+         * replicating them to Kafka.
+         */
+        SNAPSHOT
+    }
+}
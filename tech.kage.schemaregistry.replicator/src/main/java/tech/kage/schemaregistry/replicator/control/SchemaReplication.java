@@ -25,12 +25,27 @@
 
 package tech.kage.schemaregistry.replicator.control;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+import tech.kage.schemaregistry.entity.SchemaSnapshotWriter;
+import tech.kage.schemaregistry.entity.SequencedSchema;
 import tech.kage.schemaregistry.replicator.entity.KafkaSchemaRepository;
+import tech.kage.schemaregistry.replicator.entity.ReplicationWatermarkRepository;
+import tech.kage.schemaregistry.replicator.entity.SchemaChangeListener;
 
 /**
  * Implementation of the Schema Replication use case.
@@ -39,8 +54,17 @@ import tech.kage.schemaregistry.replicator.entity.KafkaSchemaRepository;
  */
 @Component
 public class SchemaReplication {
+    private static final Logger log = LoggerFactory.getLogger(SchemaReplication.class);
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
     private final RelationalSchemaRepository relationalSchemaRepository;
     private final KafkaSchemaRepository kafkaSchemaRepository;
+    private final ReplicationWatermarkRepository watermarkRepository;
+    private final SchemaChangeListener schemaChangeListener;
+    private final ReplicationMetrics metrics;
+    private final ReplicationProperties properties;
 
     /**
      * Constructs a new {@link SchemaReplication} instance.
@@ -49,23 +73,224 @@ public class SchemaReplication {
      *                                   {@link RelationalSchemaRepository}
      * @param kafkaSchemaRepository      an instance of
      *                                   {@link KafkaSchemaRepository}
+     * @param watermarkRepository        an instance of
+     *                                   {@link ReplicationWatermarkRepository}
+     * @param schemaChangeListener       an instance of
+     *                                   {@link SchemaChangeListener}
+     * @param metrics                    an instance of {@link ReplicationMetrics}
+     * @param properties                 the replication configuration
      */
     public SchemaReplication(
             RelationalSchemaRepository relationalSchemaRepository,
-            KafkaSchemaRepository kafkaSchemaRepository) {
+            KafkaSchemaRepository kafkaSchemaRepository,
+            ReplicationWatermarkRepository watermarkRepository,
+            SchemaChangeListener schemaChangeListener,
+            ReplicationMetrics metrics,
+            ReplicationProperties properties) {
         this.relationalSchemaRepository = relationalSchemaRepository;
         this.kafkaSchemaRepository = kafkaSchemaRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.schemaChangeListener = schemaChangeListener;
+        this.metrics = metrics;
+        this.properties = properties;
+    }
+
+    /**
+     * Replicates schemas to the Kafka repository according to the configured
+     * replication mode.
+     *
+     * @return a {@link Flux} emitting each replicated {@link Schema}, completing
+     *         when all schemas are replicated, or erroring on failure
+     */
+    public Flux<Schema> replicateSchemas() {
+        return switch (properties.mode()) {
+            case FULL -> replicateAllSchemas();
+            case DIFF -> replicateDifferingSchemas();
+            case INCREMENTAL -> replicateChangedSchemas();
+            case CONTINUOUS -> replicateContinuously();
+            case SNAPSHOT -> writeSnapshot();
+        };
     }
 
     /**
-     * Replicates all schemas to the Kafka repository in schema ID order.
+     * Replicates all schemas to the Kafka repository in schema ID order. If
+     * enabled, schemas are pipelined, i.e. sent without waiting for the previous
+     * ones to be acknowledged.
      *
      * @return a {@link Flux} emitting each replicated {@link Schema}, completing
      *         when all schemas are replicated, or erroring on failure
      */
     public Flux<Schema> replicateAllSchemas() {
+        return save(readAllSchemas(), Function.identity());
+    }
+
+    /**
+     * Replicates the schemas missing in the Kafka repository or differing from
+     * the ones present in it, in schema ID order. The Kafka repository is read
+     * and indexed first, so that unchanged schemas are not rewritten.
+     *
+     * @return a {@link Flux} emitting each replicated {@link Schema}, completing
+     *         when all differing schemas are replicated, or erroring on failure
+     */
+    public Flux<Schema> replicateDifferingSchemas() {
+        return kafkaSchemaRepository
+                .findIndex()
+                .flatMapMany(index -> save(
+                        readAllSchemas().filter(schema -> !index.contains(schema)),
+                        Function.identity()));
+    }
+
+    /**
+     * Writes a binary snapshot of all schemas, in schema ID order, to the
+     * configured snapshot file, for the registry to memory-map on startup. The
+     * schemas are streamed to the snapshot as the pages of them are read, so that
+     * only the entries of its indexes are held in memory, and the snapshot file
+     * is replaced once the indexes are written after all schemas.
+     *
+     * @return a {@link Flux} emitting each {@link Schema} written to the
+     *         snapshot, completing when the snapshot is written, or erroring on
+     *         failure
+     */
+    public Flux<Schema> writeSnapshot() {
+        var snapshotFile = properties.snapshotFile();
+
+        if (snapshotFile == null) {
+            return Flux.error(new IllegalStateException("replicator.snapshot-file is required by the snapshot mode"));
+        }
+
+        return Flux
+                .using(
+                        () -> SchemaSnapshotWriter.create(snapshotFile),
+                        writer -> readAllSchemas()
+                                .publishOn(Schedulers.boundedElastic())
+                                .<Schema>handle((schema, sink) -> {
+                                    try {
+                                        writer.write(schema);
+
+                                        sink.next(schema);
+                                    } catch (IOException e) {
+                                        sink.error(e);
+                                    }
+                                })
+                                .concatWith(Mono.<Schema>fromCallable(() -> {
+                                    writer.commit();
+
+                                    return null;
+                                })),
+                        SchemaSnapshotWriter::close)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Replicates the schemas registered after the last replicated one to the
+     * Kafka repository in registration order. The watermark is advanced with a
+     * single write after each batch of schemas confirmed by the Kafka repository,
+     * including the schemas confirmed before a failure of a later one, so that an
+     * interrupted replication resumes after the last confirmed schema. Schemas are
+     * emitted once the watermark covering them is saved.
+     *
+     * @return a {@link Flux} emitting each replicated {@link Schema}, completing
+     *         when all changed schemas are replicated, or erroring on failure
+     */
+    public Flux<Schema> replicateChangedSchemas() {
+        var changedSchemas = watermarkRepository
+                .findByName(properties.watermark())
+                .defaultIfEmpty(0L)
+                .flatMapMany(relationalSchemaRepository::findAllAfterSequence)
+                .doOnNext(sequencedSchema -> metrics.read());
+
+        return Flux.defer(() -> {
+            var failure = new AtomicReference<Throwable>();
+
+            return save(changedSchemas, SequencedSchema::schema)
+                    .onErrorResume(e -> {
+                        failure.set(e);
+
+                        return Mono.empty();
+                    })
+                    .buffer(properties.watermarkBatch())
+                    .concatMap(batch -> watermarkRepository
+                            .save(properties.watermark(), batch.getLast().sequence())
+                            .thenMany(Flux.fromIterable(batch)))
+                    .map(SequencedSchema::schema)
+                    .concatWith(Mono.defer(() -> failure.get() != null ? Mono.error(failure.get()) : Mono.empty()));
+        });
+    }
+
+    /**
+     * Replicates the schemas registered after the last replicated one and then
+     * keeps replicating schemas as soon as changes are notified. Notifications
+     * arriving while a replication is in progress are coalesced into a single
+     * subsequent replication of all schemas registered in the meantime. A failed
+     * replication is retried with a backoff, resuming after the last schema
+     * covered by the watermark, so that a transient failure of Kafka or the
+     * database does not stop replicating.
+     *
+     * @return a {@link Flux} emitting each replicated {@link Schema}, never
+     *         completing unless cancelled, or erroring if the changes cannot be
+     *         listened to
+     */
+    public Flux<Schema> replicateContinuously() {
+        return schemaChangeListener
+                .changes()
+                .onBackpressureLatest()
+                .concatMap(change -> replicateChangedSchemas()
+                        .retryWhen(Retry
+                                .backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                                .maxBackoff(MAX_BACKOFF)
+                                .doBeforeRetry(signal -> log.warn(
+                                        "Unable to replicate changed schemas, retrying",
+                                        signal.failure()))), 1);
+    }
+
+    private Flux<Schema> readAllSchemas() {
         return relationalSchemaRepository
                 .findAllOrderedBySchemaId()
-                .concatMap(kafkaSchemaRepository::save);
+                .doOnNext(schema -> metrics.read());
+    }
+
+    private <T> Flux<T> save(Flux<T> items, Function<? super T, Schema> schemaOf) {
+        return Flux.defer(() -> {
+            var unacknowledged = new AtomicLong();
+
+            Function<T, InFlight<T>> sendStarted = item -> {
+                unacknowledged.incrementAndGet();
+
+                return new InFlight<>(item, metrics.sendStarted());
+            };
+
+            Function<InFlight<T>, T> sendCompleted = inFlight -> {
+                unacknowledged.decrementAndGet();
+                metrics.sendCompleted(inFlight.startNanos());
+
+                return inFlight.item();
+            };
+
+            var saved = properties.pipelined()
+                    ? kafkaSchemaRepository.saveAll(
+                            items.map(sendStarted),
+                            inFlight -> schemaOf.apply(inFlight.item()))
+                    : items.concatMap(item -> {
+                        var inFlight = sendStarted.apply(item);
+
+                        return kafkaSchemaRepository
+                                .save(schemaOf.apply(item))
+                                .thenReturn(inFlight);
+                    });
+
+            // sends not acknowledged by the time the replication terminates never will be
+            return saved
+                    .map(sendCompleted)
+                    .doFinally(signal -> metrics.sendFailed(unacknowledged.getAndSet(0)));
+        });
+    }
+
+    /**
+     * An item sent to Kafka together with the start time of its send.
+     *
+     * @param item       the sent item
+     * @param startNanos the start time of the send in nanoseconds
+     */
+    private record InFlight<T>(T item, long startNanos) {
     }
 }
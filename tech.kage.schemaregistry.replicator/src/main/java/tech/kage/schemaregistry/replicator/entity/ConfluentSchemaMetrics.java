@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Metrics of the records converted and written by
+ * {@link ConfluentSchemaRepository}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+class ConfluentSchemaMetrics implements MeterBinder {
+    private final ConfluentSchemaRepository schemaRepository;
+
+    /**
+     * Constructs a new {@link ConfluentSchemaMetrics} instance.
+     *
+     * @param schemaRepository an instance of {@link ConfluentSchemaRepository}
+     */
+    ConfluentSchemaMetrics(ConfluentSchemaRepository schemaRepository) {
+        this.schemaRepository = schemaRepository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter
+                .builder("schema.replicator.sent.bytes", schemaRepository, ConfluentSchemaRepository::sentBytes)
+                .description("Number of serialized bytes of schema records acknowledged by Kafka")
+                .baseUnit("bytes")
+                .register(registry);
+
+        FunctionTimer
+                .builder(
+                        "schema.replicator.conversion",
+                        schemaRepository,
+                        ConfluentSchemaRepository::converted,
+                        ConfluentSchemaRepository::conversionNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Time of converting schemas to Kafka records")
+                .register(registry);
+    }
+}
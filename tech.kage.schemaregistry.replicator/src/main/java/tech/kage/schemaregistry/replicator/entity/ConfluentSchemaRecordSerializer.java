@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import java.io.IOException;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.SchemaKey;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.SchemaValue;
+
+/**
+ * Kafka serializer of schema keys and values in the JSON format of Confluent
+ * Schema Registry. Fields are written directly with a streaming generator, with
+ * no reflection and no type headers, into a buffer reused by each thread, so
+ * that the only allocation per record is the resulting byte array.
+ * 
+ * @author Dariusz Szpakowski
+ */
+public final class ConfluentSchemaRecordSerializer implements Serializer<Object> {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final ThreadLocal<ByteArrayBuilder> BUFFERS = ThreadLocal.withInitial(ByteArrayBuilder::new);
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+
+        var buffer = BUFFERS.get();
+
+        try {
+            try (var generator = JSON_FACTORY.createGenerator(buffer)) {
+                switch (data) {
+                    case SchemaKey key -> write(generator, key);
+                    case SchemaValue value -> write(generator, value);
+                    default -> throw new SerializationException("Unsupported type: " + data.getClass().getName());
+                }
+            }
+
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize " + data, e);
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    private static void write(JsonGenerator generator, SchemaKey key) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("keytype", key.keytype());
+        generator.writeStringField("subject", key.subject());
+        generator.writeNumberField("version", key.version());
+        generator.writeNumberField("magic", key.magic());
+        generator.writeEndObject();
+    }
+
+    private static void write(JsonGenerator generator, SchemaValue value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("subject", value.subject());
+        generator.writeNumberField("version", value.version());
+        generator.writeNumberField("id", value.id());
+
+        generator.writeFieldName("references");
+
+        if (value.references() != null) {
+            generator.writeStartArray();
+
+            for (var reference : value.references()) {
+                generator.writeStartObject();
+                generator.writeStringField("name", reference.getName());
+                generator.writeStringField("subject", reference.getSubject());
+                generator.writeFieldName("version");
+
+                if (reference.getVersion() != null) {
+                    generator.writeNumber(reference.getVersion());
+                } else {
+                    generator.writeNull();
+                }
+
+                generator.writeEndObject();
+            }
+
+            generator.writeEndArray();
+        } else {
+            generator.writeNull();
+        }
+
+        generator.writeStringField("schema", value.schema());
+        generator.writeBooleanField("deleted", value.deleted());
+        generator.writeEndObject();
+    }
+}
@@ -25,17 +25,34 @@
 
 package tech.kage.schemaregistry.replicator.entity;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
 import reactor.kafka.sender.KafkaSender;
 import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
 
 /**
  * Confluent Schema Registry compatible implementation of
@@ -47,36 +64,206 @@ import reactor.kafka.sender.SenderRecord;
 class ConfluentSchemaRepository implements KafkaSchemaRepository {
     static final String SCHEMAS_TOPIC = "_schemas";
 
+    private static final TopicPartition SCHEMAS_PARTITION = new TopicPartition(SCHEMAS_TOPIC, 0);
+    private static final Duration POSITION_CHECK_INTERVAL = Duration.ofMillis(500);
+
+    private static final String SCHEMA_KEY_TYPE = "SCHEMA";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final Converter<Schema, ProducerRecord<SchemaKey, SchemaValue>> schemaConverter;
     private final KafkaSender<SchemaKey, SchemaValue> kafkaSender;
+    private final ReceiverOptions<byte[], byte[]> schemasReceiverOptions;
+    private final LongAdder sentBytes = new LongAdder();
+    private final LongAdder converted = new LongAdder();
+    private final LongAdder conversionNanos = new LongAdder();
 
     /**
      * Constructs a new {@link ConfluentSchemaRepository} instance.
      *
-     * @param schemaConverter an instance of {@link Converter}
-     * @param kafkaSender     an instance of {@link KafkaSender}
+     * @param schemaConverter        an instance of {@link Converter}
+     * @param kafkaSender            an instance of {@link KafkaSender}
+     * @param schemasReceiverOptions the options of reading the schemas topic
      */
     ConfluentSchemaRepository(
             Converter<Schema, ProducerRecord<SchemaKey, SchemaValue>> schemaConverter,
-            KafkaSender<SchemaKey, SchemaValue> kafkaSender) {
+            KafkaSender<SchemaKey, SchemaValue> kafkaSender,
+            ReceiverOptions<byte[], byte[]> schemasReceiverOptions) {
         this.schemaConverter = schemaConverter;
         this.kafkaSender = kafkaSender;
+        this.schemasReceiverOptions = schemasReceiverOptions;
     }
 
     @Override
     public Mono<Schema> save(Schema schema) {
         return Mono
                 .just(schema)
-                .map(schemaConverter::convert)
+                .map(this::convert)
                 .map(producerRecord -> SenderRecord.create(producerRecord, null))
                 .map(Mono::just)
                 .flatMapMany(kafkaSender::send)
                 .single()
+                .doOnNext(this::countSentBytes)
                 .flatMap(senderResult -> Mono.justOrEmpty(senderResult.exception()))
                 .flatMap(Mono::error)
                 .thenReturn(schema);
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * All records are sent through a single continuous send, bounded by the
+     * maximum number of in-flight records of the {@link KafkaSender}. Each record
+     * carries its item as correlation metadata, so that acknowledgements are
+     * matched back to the items they confirm.
+     */
+    @Override
+    public <T> Flux<T> saveAll(Flux<T> items, Function<? super T, Schema> schemaOf) {
+        return kafkaSender
+                .send(items.map(item -> SenderRecord.create(convert(schemaOf.apply(item)), item)))
+                .handle((senderResult, sink) -> {
+                    if (senderResult.exception() != null) {
+                        sink.error(senderResult.exception());
+                    } else {
+                        countSentBytes(senderResult);
+                        sink.next(senderResult.correlationMetadata());
+                    }
+                });
+    }
+
+    /**
+     * Returns the number of serialized bytes of keys and values acknowledged by
+     * Kafka.
+     *
+     * @return the number of bytes sent
+     */
+    long sentBytes() {
+        return sentBytes.sum();
+    }
+
+    /**
+     * Returns the number of schemas converted to Kafka records.
+     *
+     * @return the number of converted schemas
+     */
+    long converted() {
+        return converted.sum();
+    }
+
+    /**
+     * Returns the total time of converting schemas to Kafka records.
+     *
+     * @return the conversion time in nanoseconds
+     */
+    long conversionNanos() {
+        return conversionNanos.sum();
+    }
+
+    private ProducerRecord<SchemaKey, SchemaValue> convert(Schema schema) {
+        var start = System.nanoTime();
+        var producerRecord = schemaConverter.convert(schema);
+
+        conversionNanos.add(System.nanoTime() - start);
+        converted.increment();
+
+        return producerRecord;
+    }
+
+    private void countSentBytes(SenderResult<?> senderResult) {
+        if (senderResult.exception() == null && senderResult.recordMetadata() != null) {
+            var metadata = senderResult.recordMetadata();
+
+            sentBytes.add(Math.max(metadata.serializedKeySize(), 0) + Math.max(metadata.serializedValueSize(), 0));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The schemas topic is read from the beginning up to its end offset at the
+     * time of reading, i.e. until the record preceding the end offset is received
+     * or, if the last offsets hold no records, until the position of the consumer
+     * reaches the end offset. Records other than schemas are skipped and
+     * tombstones remove the schemas they follow.
+     */
+    @Override
+    public Mono<SchemaIndex> findIndex() {
+        return readSchemasTopic().reduceWith(SchemaIndex::new, ConfluentSchemaRepository::index);
+    }
+
+    private Flux<ReceiverRecord<byte[], byte[]>> readSchemasTopic() {
+        return Flux.defer(() -> {
+            var endOffset = new AtomicLong(Long.MAX_VALUE);
+            var empty = Sinks.<Boolean>one();
+
+            var options = schemasReceiverOptions
+                    .assignment(List.of(SCHEMAS_PARTITION))
+                    .addAssignListener(partitions -> partitions.forEach(partition -> {
+                        partition.seekToBeginning();
+                        endOffset.set(partition.endOffset());
+
+                        if (partition.endOffset() <= partition.beginningOffset()) {
+                            empty.tryEmitValue(true);
+                        }
+                    }));
+
+            var receiver = KafkaReceiver.create(options);
+
+            // the last offsets may hold no record, e.g. a transaction marker or a compacted record
+            var positionReachedEnd = Flux
+                    .interval(POSITION_CHECK_INTERVAL)
+                    .concatMap(tick -> receiver
+                            .doOnConsumer(consumer -> consumer.position(SCHEMAS_PARTITION))
+                            .onErrorResume(IllegalStateException.class, e -> Mono.empty()))
+                    .filter(position -> position >= endOffset.get())
+                    .next();
+
+            return receiver
+                    .receive()
+                    .takeUntilOther(empty.asMono())
+                    .takeUntilOther(positionReachedEnd)
+                    .takeUntil(record -> record.offset() >= endOffset.get() - 1);
+        });
+    }
+
+    private static SchemaIndex index(SchemaIndex index, ConsumerRecord<byte[], byte[]> record) {
+        try {
+            var key = OBJECT_MAPPER.readTree(record.key());
+
+            if (!SCHEMA_KEY_TYPE.equals(key.path("keytype").asText())) {
+                return index;
+            }
+
+            var subject = key.path("subject").asText();
+            var version = key.path("version").asInt();
+
+            if (record.value() == null) {
+                index.remove(subject, version);
+
+                return index;
+            }
+
+            var value = OBJECT_MAPPER.readTree(record.value());
+            var references = new ArrayList<SchemaReference>();
+
+            for (var reference : value.path("references")) {
+                references.add(new SchemaReference(
+                        reference.path("name").asText(),
+                        reference.path("subject").asText(),
+                        reference.path("version").asInt()));
+            }
+
+            index.put(subject, version, value.path("id").asInt(), references, value.path("schema").asText(),
+                    value.path("deleted").asBoolean());
+
+            return index;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid record in " + SCHEMAS_TOPIC + " at offset " + record.offset(), e);
+        }
+    }
+
     /**
      * Converts {@link Schema} objects to Confluent Schema Registry compatible Kafka
      * {@link ProducerRecord}s for schema replication.
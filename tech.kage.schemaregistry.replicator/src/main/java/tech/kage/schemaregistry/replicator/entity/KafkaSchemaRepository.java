@@ -25,7 +25,10 @@
 
 package tech.kage.schemaregistry.replicator.entity;
 
+import java.util.function.Function;
+
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -42,4 +45,27 @@ public interface KafkaSchemaRepository {
      * @return a Mono emitting the saved schema, or erroring on failure
      */
     Mono<Schema> save(Schema schema);
+
+    /**
+     * Saves schemas to the Kafka schema registry topic, sending the next schemas
+     * without waiting for the previous ones to be acknowledged. Schemas are
+     * written in the order of the given items.
+     *
+     * @param <T>      the type of items carrying the schemas
+     * @param items    the items carrying the schemas to save
+     * @param schemaOf the function returning the schema carried by an item
+     * 
+     * @return a Flux emitting each item once its schema is saved, in the order of
+     *         the given items, or erroring on the first failure
+     */
+    <T> Flux<T> saveAll(Flux<T> items, Function<? super T, Schema> schemaOf);
+
+    /**
+     * Reads the Kafka schema registry topic and indexes the schemas present in
+     * it.
+     *
+     * @return a Mono emitting the index of the schemas present in the topic, or
+     *         erroring on failure
+     */
+    Mono<SchemaIndex> findIndex();
 }
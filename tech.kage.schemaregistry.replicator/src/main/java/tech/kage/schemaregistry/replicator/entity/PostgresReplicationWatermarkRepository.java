@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A PostgreSQL-based implementation of {@link ReplicationWatermarkRepository}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+class PostgresReplicationWatermarkRepository implements ReplicationWatermarkRepository {
+    private static final String SELECT_WATERMARK_SQL = """
+                SELECT sequence
+                FROM schemas.replication_watermarks
+                WHERE name = :name
+            """;
+
+    private static final String UPSERT_WATERMARK_SQL = """
+                INSERT INTO schemas.replication_watermarks (name, sequence)
+                VALUES (:name, :sequence)
+                ON CONFLICT (name) DO UPDATE
+                SET sequence = GREATEST(schemas.replication_watermarks.sequence, EXCLUDED.sequence)
+            """;
+
+    private static final String NAME = "name";
+    private static final String SEQUENCE = "sequence";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructs a new {@link PostgresReplicationWatermarkRepository} instance.
+     *
+     * @param databaseClient an instance of {@link DatabaseClient}
+     */
+    PostgresReplicationWatermarkRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> findByName(String name) {
+        return databaseClient
+                .sql(SELECT_WATERMARK_SQL)
+                .bind(NAME, name)
+                .map(row -> row.get(SEQUENCE, Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> save(String name, long sequence) {
+        return databaseClient
+                .sql(UPSERT_WATERMARK_SQL)
+                .bind(NAME, name)
+                .bind(SEQUENCE, sequence)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+}
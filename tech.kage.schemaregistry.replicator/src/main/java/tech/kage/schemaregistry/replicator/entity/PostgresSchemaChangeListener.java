@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+import tech.kage.schemaregistry.entity.PostgresNotifications;
+
+/**
+ * A PostgreSQL-based implementation of {@link SchemaChangeListener} using
+ * LISTEN/NOTIFY on the channel the registry's triggers on
+ * {@code schemas.subjects} publish changed subject versions to. A dedicated
+ * connection, outside of the connection pool, is held for as long as changes
+ * are listened to and is reopened with a backoff whenever it fails.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+class PostgresSchemaChangeListener implements SchemaChangeListener {
+    static final String CHANNEL = "schema_registry_subjects";
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresSchemaChangeListener.class);
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final PostgresNotifications notifications;
+
+    /**
+     * Constructs a new {@link PostgresSchemaChangeListener} instance.
+     *
+     * @param connectionFactory an instance of {@link ConnectionFactory}
+     */
+    PostgresSchemaChangeListener(ConnectionFactory connectionFactory) {
+        this.notifications = new PostgresNotifications(connectionFactory);
+    }
+
+    @Override
+    public Flux<String> changes() {
+        return notifications
+                .listen(CHANNEL)
+                .map(payload -> CHANNEL)
+                .retryWhen(Retry
+                        .backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> log.warn(
+                                "Unable to listen to schema changes, reconnecting",
+                                signal.failure())));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Repository for persisting replication watermarks, i.e. the sequence numbers
+ * of the last schemas confirmed as replicated.
+ * 
+ * @author Dariusz Szpakowski
+ */
+public interface ReplicationWatermarkRepository {
+    /**
+     * Retrieves the watermark with the given name.
+     *
+     * @param name the name of the watermark
+     * 
+     * @return a Mono emitting the sequence number of the last replicated schema,
+     *         or an empty Mono if nothing has been replicated yet
+     */
+    Mono<Long> findByName(String name);
+
+    /**
+     * Saves the watermark with the given name. A watermark never moves
+     * backwards, so saving a sequence number lower than the one already saved
+     * leaves the watermark unchanged.
+     *
+     * @param name     the name of the watermark
+     * @param sequence the sequence number of the last replicated schema
+     * 
+     * @return a Mono completing when the watermark is saved, or erroring on
+     *         failure
+     */
+    Mono<Void> save(String name, long sequence);
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+
+/**
+ * Index of the schemas present in the Kafka schema registry topic. Holds a
+ * 128-bit fingerprint of the schema ID, definition, references and deletion
+ * flag for each subject version, so that its memory use does not depend on
+ * the size of schema definitions.
+ * 
+ * @author Dariusz Szpakowski
+ */
+public final class SchemaIndex {
+    private static final Comparator<SchemaReference> REFERENCE_ORDER = Comparator
+            .comparing(SchemaReference::getName)
+            .thenComparing(SchemaReference::getSubject)
+            .thenComparing(SchemaReference::getVersion);
+
+    private final Map<SubjectVersion, Fingerprint> fingerprints = new HashMap<>();
+
+    SchemaIndex() {
+    }
+
+    /**
+     * Checks whether the given schema is present in the topic with the same ID,
+     * definition and references, and not deleted.
+     *
+     * @param schema the schema to check
+     * 
+     * @return true if the schema is present and unchanged
+     */
+    public boolean contains(Schema schema) {
+        var fingerprint = fingerprints.get(new SubjectVersion(schema.getSubject(), schema.getVersion()));
+
+        return fingerprint != null && fingerprint.equals(
+                Fingerprint.of(schema.getId(), schema.getReferences(), schema.getSchema(), false));
+    }
+
+    /**
+     * Returns the number of indexed subject versions.
+     *
+     * @return the number of indexed subject versions
+     */
+    public int size() {
+        return fingerprints.size();
+    }
+
+    void put(String subject, int version, int id, List<SchemaReference> references, String schema, boolean deleted) {
+        fingerprints.put(new SubjectVersion(subject, version), Fingerprint.of(id, references, schema, deleted));
+    }
+
+    void remove(String subject, int version) {
+        fingerprints.remove(new SubjectVersion(subject, version));
+    }
+
+    private record SubjectVersion(String subject, int version) {
+    }
+
+    private record Fingerprint(long high, long low) {
+        private static Fingerprint of(int id, List<SchemaReference> references, String schema, boolean deleted) {
+            MessageDigest digest;
+
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not supported", e);
+            }
+
+            digest.update(ByteBuffer.allocate(Integer.BYTES + 1).putInt(id).put((byte) (deleted ? 1 : 0)).flip());
+
+            if (references != null) {
+                for (var reference : references.stream().sorted(REFERENCE_ORDER).toList()) {
+                    digest.update((reference.getName() + '\0' + reference.getSubject() + '\0'
+                            + reference.getVersion() + '\n').getBytes(StandardCharsets.UTF_8));
+                }
+            }
+
+            digest.update((byte) 0);
+            digest.update(schema.getBytes(StandardCharsets.UTF_8));
+
+            var hash = ByteBuffer.wrap(digest.digest());
+
+            return new Fingerprint(hash.getLong(), hash.getLong());
+        }
+    }
+}
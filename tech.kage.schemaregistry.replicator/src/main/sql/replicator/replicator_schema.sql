@@ -0,0 +1,6 @@
+-- replication watermarks
+CREATE TABLE IF NOT EXISTS schemas.replication_watermarks (
+    name text PRIMARY KEY,
+    sequence bigint NOT NULL
+);
+
@@ -26,19 +26,33 @@
 package tech.kage.schemaregistry.replicator.boundary;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.userSchema;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Flux;
+import tech.kage.schemaregistry.replicator.control.ReplicationMetrics;
+import tech.kage.schemaregistry.replicator.control.ReplicationMetrics.Snapshot;
+import tech.kage.schemaregistry.replicator.control.ReplicationProperties;
+import tech.kage.schemaregistry.replicator.control.ReplicationProperties.Mode;
 import tech.kage.schemaregistry.replicator.control.SchemaReplication;
 
 /**
@@ -55,9 +69,14 @@ class SchemaReplicationCommandLineRunnerTest {
     @Mock
     SchemaReplication schemaReplication;
 
+    ReplicationMetrics metrics = new ReplicationMetrics(new SimpleMeterRegistry());
+
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
-        cli = new SchemaReplicationCommandLineRunner(schemaReplication);
+        cli = new SchemaReplicationCommandLineRunner(schemaReplication, metrics, properties(null));
     }
 
     @Test
@@ -65,14 +84,14 @@ class SchemaReplicationCommandLineRunnerTest {
         // Given
         var schema = userSchema(1, 1001, "");
 
-        given(schemaReplication.replicateAllSchemas())
+        given(schemaReplication.replicateSchemas())
                 .willReturn(Flux.just(schema));
 
         // When
         cli.run();
 
         // Then
-        verify(schemaReplication, times(1)).replicateAllSchemas();
+        verify(schemaReplication, times(1)).replicateSchemas();
     }
 
     @Test
@@ -80,7 +99,7 @@ class SchemaReplicationCommandLineRunnerTest {
         // Given
         var expectedException = new IllegalStateException("Some replication error");
 
-        given(schemaReplication.replicateAllSchemas())
+        given(schemaReplication.replicateSchemas())
                 .willReturn(Flux.error(expectedException));
 
         // When
@@ -91,4 +110,88 @@ class SchemaReplicationCommandLineRunnerTest {
                 .describedAs("thrown exception")
                 .isEqualTo(expectedException);
     }
+
+    @Test
+    void writesReportWhenReplicationCompleted() throws IOException {
+        // Given
+        var reportFile = tempDir.resolve("report.json");
+        var metrics = mock(ReplicationMetrics.class);
+
+        cli = new SchemaReplicationCommandLineRunner(schemaReplication, metrics, properties(reportFile));
+
+        given(schemaReplication.replicateSchemas())
+                .willReturn(Flux.just(userSchema(1, 1001, "")));
+
+        given(metrics.snapshot())
+                .willReturn(new Snapshot(1, 1, 0.5, 1, 1, 0, 0, 512, 0, new Snapshot.Latency(2.0, 2.0, 2.0, 2.0)));
+
+        // When
+        cli.run();
+
+        // Then
+        var report = new ObjectMapper().readTree(reportFile.toFile());
+
+        assertThat(report.get("mode").asText())
+                .describedAs("reported mode")
+                .isEqualTo("FULL");
+
+        assertThat(report.get("status").asText())
+                .describedAs("reported status")
+                .isEqualTo("COMPLETED");
+
+        assertThat(report.get("metrics").get("replicated").asLong())
+                .describedAs("reported replicated schemas")
+                .isEqualTo(1);
+    }
+
+    @Test
+    void completesReplicationWhenReportFails() {
+        // Given
+        var metrics = mock(ReplicationMetrics.class);
+
+        cli = new SchemaReplicationCommandLineRunner(schemaReplication, metrics, properties(null));
+
+        given(schemaReplication.replicateSchemas())
+                .willReturn(Flux.just(userSchema(1, 1001, "")));
+
+        given(metrics.snapshot())
+                .willThrow(new IllegalStateException("Some metrics error"));
+
+        // When
+        var thrown = catchThrowable(() -> cli.run());
+
+        // Then
+        assertThat(thrown)
+                .describedAs("thrown exception")
+                .isNull();
+    }
+
+    @Test
+    void writesReportWhenReplicationFailed() throws IOException {
+        // Given
+        var reportFile = tempDir.resolve("report.json");
+
+        cli = new SchemaReplicationCommandLineRunner(schemaReplication, metrics, properties(reportFile));
+
+        given(schemaReplication.replicateSchemas())
+                .willReturn(Flux.error(new IllegalStateException("Some replication error")));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> cli.run());
+
+        // Then
+        var report = new ObjectMapper().readTree(reportFile.toFile());
+
+        assertThat(report.get("status").asText())
+                .describedAs("reported status")
+                .isEqualTo("FAILED");
+
+        assertThat(report.get("error").asText())
+                .describedAs("reported error")
+                .isEqualTo("Some replication error");
+    }
+
+    private static ReplicationProperties properties(Path reportFile) {
+        return new ReplicationProperties(Mode.FULL, "schemas", 1000, true, 256, Duration.ofSeconds(10), reportFile, null);
+    }
 }
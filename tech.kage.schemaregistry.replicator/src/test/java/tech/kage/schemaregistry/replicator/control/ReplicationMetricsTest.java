@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.control;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link ReplicationMetrics}.
+ *
+ * @author Dariusz Szpakowski
+ */
+class ReplicationMetricsTest {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // UUT
+    ReplicationMetrics metrics = new ReplicationMetrics(registry);
+
+    @Test
+    void countsReadSentAndReplicatedSchemas() {
+        // Given
+        metrics.read();
+        metrics.read();
+        metrics.read();
+
+        var firstSend = metrics.sendStarted();
+        metrics.sendStarted();
+
+        metrics.sendCompleted(firstSend);
+
+        // When
+        var snapshot = metrics.snapshot();
+
+        // Then
+        assertThat(snapshot.read())
+                .describedAs("read schemas")
+                .isEqualTo(3);
+
+        assertThat(snapshot.sent())
+                .describedAs("sent schemas")
+                .isEqualTo(2);
+
+        assertThat(snapshot.replicated())
+                .describedAs("replicated schemas")
+                .isEqualTo(1);
+
+        assertThat(snapshot.inFlight())
+                .describedAs("schemas in flight")
+                .isEqualTo(1);
+
+        assertThat(registry.get("schema.replicator.send.latency").timer().count())
+                .describedAs("recorded send latencies")
+                .isEqualTo(1);
+    }
+
+    @Test
+    void includesSentBytesAndProducerRetries() {
+        // Given
+        FunctionCounter.builder(ReplicationMetrics.SENT_BYTES, this, metrics -> 2048).register(registry);
+
+        FunctionCounter
+                .builder(ReplicationMetrics.PRODUCER_RETRIES, this, metrics -> 2)
+                .tag("client.id", "producer-1")
+                .register(registry);
+
+        FunctionCounter
+                .builder(ReplicationMetrics.PRODUCER_RETRIES, this, metrics -> 3)
+                .tag("client.id", "producer-2")
+                .register(registry);
+
+        // When
+        var snapshot = metrics.snapshot();
+
+        // Then
+        assertThat(snapshot.bytes())
+                .describedAs("sent bytes")
+                .isEqualTo(2048);
+
+        assertThat(snapshot.retries())
+                .describedAs("producer retries summed over producers")
+                .isEqualTo(5);
+    }
+
+    @Test
+    void countsFailedSendsOutOfFlight() {
+        // Given
+        metrics.sendStarted();
+        metrics.sendStarted();
+        metrics.sendStarted();
+
+        metrics.sendFailed(2);
+
+        // When
+        var snapshot = metrics.snapshot();
+
+        // Then
+        assertThat(snapshot.failed())
+                .describedAs("failed schemas")
+                .isEqualTo(2);
+
+        assertThat(snapshot.inFlight())
+                .describedAs("schemas in flight")
+                .isEqualTo(1);
+    }
+
+    @Test
+    void includesConversions() {
+        // Given
+        FunctionTimer
+                .builder(ReplicationMetrics.CONVERSION, this, metrics -> 4, metrics -> 3_000_000, TimeUnit.NANOSECONDS)
+                .register(registry);
+
+        // When
+        var snapshot = metrics.snapshot();
+
+        // Then
+        assertThat(snapshot.converted())
+                .describedAs("converted schemas")
+                .isEqualTo(4);
+
+        assertThat(snapshot.conversionMillis())
+                .describedAs("conversion time in milliseconds")
+                .isEqualTo(3.0);
+    }
+}
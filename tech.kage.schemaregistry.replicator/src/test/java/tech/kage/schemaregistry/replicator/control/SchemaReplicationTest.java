@@ -27,7 +27,12 @@ package tech.kage.schemaregistry.replicator.control;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.addressSchema;
@@ -37,21 +42,33 @@ import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.paymentS
 import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.transactionSchema;
 import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.userSchema;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+import tech.kage.schemaregistry.entity.SequencedSchema;
+import tech.kage.schemaregistry.replicator.control.ReplicationProperties.Mode;
 import tech.kage.schemaregistry.replicator.entity.KafkaSchemaRepository;
+import tech.kage.schemaregistry.replicator.entity.ReplicationWatermarkRepository;
+import tech.kage.schemaregistry.replicator.entity.SchemaChangeListener;
+import tech.kage.schemaregistry.replicator.entity.SchemaIndex;
 
 /**
  * Specification of the Schema Replication use case.
@@ -69,9 +86,21 @@ class SchemaReplicationTest {
     @Mock
     KafkaSchemaRepository kafkaSchemaRepository;
 
+    @Mock
+    ReplicationWatermarkRepository watermarkRepository;
+
+    @Mock
+    SchemaChangeListener schemaChangeListener;
+
     @BeforeEach
     void setUp() {
-        schemaReplication = new SchemaReplication(relationalSchemaRepository, kafkaSchemaRepository);
+        schemaReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                new ReplicationMetrics(new SimpleMeterRegistry()),
+                new ReplicationProperties(Mode.INCREMENTAL, "schemas", 1000, false, 1, Duration.ofSeconds(10), null, null));
     }
 
     @Test
@@ -116,4 +145,435 @@ class SchemaReplicationTest {
                 .describedAs("replicated schemas")
                 .isEqualTo(allSchemas);
     }
+
+    @Test
+    void replicatesSchemasRegisteredAfterWatermark() {
+        // Given
+        var changedSchemas = List.of(
+                new SequencedSchema(14, paymentSchema(3, 1024, "3")),
+                new SequencedSchema(15, transactionSchema(3, 1026, "3")),
+                new SequencedSchema(17, paymentSchema(4, 1024, "3")));
+
+        given(watermarkRepository.findByName("schemas")).willReturn(Mono.just(13L));
+        given(watermarkRepository.save(eq("schemas"), anyLong())).willReturn(Mono.empty());
+
+        given(relationalSchemaRepository.findAllAfterSequence(13))
+                .willReturn(Flux.fromIterable(changedSchemas));
+
+        given(kafkaSchemaRepository.save(any(Schema.class)))
+                .willAnswer(inv -> Mono.just(inv.getArguments()[0]));
+
+        // When
+        var replicationResult = schemaReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNextSequence(changedSchemas.stream().map(SequencedSchema::schema).toList())
+                .as("replicates changed schemas successfully")
+                .verifyComplete();
+
+        var inOrder = inOrder(kafkaSchemaRepository, watermarkRepository);
+
+        for (var changedSchema : changedSchemas) {
+            inOrder.verify(kafkaSchemaRepository).save(changedSchema.schema());
+        }
+
+        inOrder.verify(watermarkRepository).save("schemas", 17);
+
+        verify(watermarkRepository, times(1)).save(eq("schemas"), anyLong());
+    }
+
+    @Test
+    void advancesWatermarkOncePerBatchOfConfirmedSchemas() {
+        // Given
+        var batchedReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                new ReplicationMetrics(new SimpleMeterRegistry()),
+                new ReplicationProperties(Mode.INCREMENTAL, "schemas", 2, false, 1, Duration.ofSeconds(10), null, null));
+
+        var changedSchemas = List.of(
+                new SequencedSchema(14, paymentSchema(3, 1024, "3")),
+                new SequencedSchema(15, transactionSchema(3, 1026, "3")),
+                new SequencedSchema(17, paymentSchema(4, 1024, "3")));
+
+        given(watermarkRepository.findByName("schemas")).willReturn(Mono.just(13L));
+        given(watermarkRepository.save(eq("schemas"), anyLong())).willReturn(Mono.empty());
+
+        given(relationalSchemaRepository.findAllAfterSequence(13))
+                .willReturn(Flux.fromIterable(changedSchemas));
+
+        given(kafkaSchemaRepository.save(any(Schema.class)))
+                .willAnswer(inv -> Mono.just(inv.getArguments()[0]));
+
+        // When
+        var replicationResult = batchedReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNextSequence(changedSchemas.stream().map(SequencedSchema::schema).toList())
+                .as("replicates changed schemas successfully")
+                .verifyComplete();
+
+        var inOrder = inOrder(watermarkRepository);
+
+        inOrder.verify(watermarkRepository).save("schemas", 15);
+        inOrder.verify(watermarkRepository).save("schemas", 17);
+
+        verify(watermarkRepository, times(2)).save(eq("schemas"), anyLong());
+    }
+
+    @Test
+    void replicatesAllSchemasWhenNoWatermarkSaved() {
+        // Given
+        var allSchemas = List.of(
+                new SequencedSchema(1, userSchema(1, 1001, "")),
+                new SequencedSchema(2, addressSchema(1, 1002, "")));
+
+        given(watermarkRepository.findByName("schemas")).willReturn(Mono.empty());
+        given(watermarkRepository.save(eq("schemas"), anyLong())).willReturn(Mono.empty());
+
+        given(relationalSchemaRepository.findAllAfterSequence(0))
+                .willReturn(Flux.fromIterable(allSchemas));
+
+        given(kafkaSchemaRepository.save(any(Schema.class)))
+                .willAnswer(inv -> Mono.just(inv.getArguments()[0]));
+
+        // When
+        var replicationResult = schemaReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNext(allSchemas.get(0).schema(), allSchemas.get(1).schema())
+                .as("replicates all schemas successfully")
+                .verifyComplete();
+
+        verify(watermarkRepository).save("schemas", 2);
+    }
+
+    @Test
+    void keepsWatermarkAtLastConfirmedSchemaWhenReplicationFails() {
+        // Given
+        var changedSchemas = List.of(
+                new SequencedSchema(14, paymentSchema(3, 1024, "3")),
+                new SequencedSchema(15, transactionSchema(3, 1026, "3")));
+
+        var expectedException = new IllegalStateException("Some replication error");
+
+        given(watermarkRepository.findByName("schemas")).willReturn(Mono.just(13L));
+        given(watermarkRepository.save(eq("schemas"), anyLong())).willReturn(Mono.empty());
+
+        given(relationalSchemaRepository.findAllAfterSequence(13))
+                .willReturn(Flux.fromIterable(changedSchemas));
+
+        given(kafkaSchemaRepository.save(changedSchemas.get(0).schema()))
+                .willReturn(Mono.just(changedSchemas.get(0).schema()));
+
+        given(kafkaSchemaRepository.save(changedSchemas.get(1).schema()))
+                .willReturn(Mono.error(expectedException));
+
+        // When
+        var replicationResult = schemaReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNext(changedSchemas.get(0).schema())
+                .as("replicates schemas until failure")
+                .verifyErrorMatches(expectedException::equals);
+
+        verify(watermarkRepository).save("schemas", 14);
+        verify(watermarkRepository, never()).save("schemas", 15);
+    }
+
+    @Test
+    void countsUnacknowledgedSchemasAsFailedWhenPipelinedReplicationFails() {
+        // Given
+        var metrics = new ReplicationMetrics(new SimpleMeterRegistry());
+
+        var pipelinedReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                metrics,
+                new ReplicationProperties(Mode.FULL, "schemas", 1000, true, 256, Duration.ofSeconds(10), null, null));
+
+        var expectedException = new IllegalStateException("Some replication error");
+
+        given(relationalSchemaRepository.findAllOrderedBySchemaId())
+                .willReturn(Flux.just(userSchema(1, 1001, ""), addressSchema(1, 1002, ""), orderSchema(1, 1003, "")));
+
+        given(kafkaSchemaRepository.saveAll(any(), any()))
+                .willAnswer(inv -> Flux
+                        .from(inv.<Flux<?>>getArgument(0))
+                        .collectList()
+                        .flatMapMany(sent -> Flux.just(sent.getFirst()).concatWith(Flux.error(expectedException))));
+
+        // When
+        var replicationResult = pipelinedReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNext(userSchema(1, 1001, ""))
+                .as("replicates acknowledged schemas until failure")
+                .verifyErrorMatches(expectedException::equals);
+
+        var snapshot = metrics.snapshot();
+
+        assertThat(snapshot.failed())
+                .describedAs("failed schemas")
+                .isEqualTo(2);
+
+        assertThat(snapshot.inFlight())
+                .describedAs("schemas in flight")
+                .isZero();
+    }
+
+    @Test
+    void replicatesAllSchemasPipelined() {
+        // Given
+        var pipelinedReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                new ReplicationMetrics(new SimpleMeterRegistry()),
+                new ReplicationProperties(Mode.FULL, "schemas", 1000, true, 256, Duration.ofSeconds(10), null, null));
+
+        var allSchemas = Flux.just(
+                userSchema(1, 1001, ""),
+                addressSchema(1, 1002, ""),
+                orderSchema(1, 1003, ""));
+
+        given(relationalSchemaRepository.findAllOrderedBySchemaId()).willReturn(allSchemas);
+
+        given(kafkaSchemaRepository.saveAll(any(), any())).willAnswer(inv -> inv.getArgument(0));
+
+        // When
+        var replicationResult = pipelinedReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNext(userSchema(1, 1001, ""), addressSchema(1, 1002, ""), orderSchema(1, 1003, ""))
+                .as("replicates all schemas successfully")
+                .verifyComplete();
+
+        verify(kafkaSchemaRepository, never()).save(any(Schema.class));
+    }
+
+    @Test
+    void advancesWatermarkUpToLastConfirmedSchemaWhenPipelinedReplicationFails() {
+        // Given
+        var pipelinedReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                new ReplicationMetrics(new SimpleMeterRegistry()),
+                new ReplicationProperties(Mode.INCREMENTAL, "schemas", 1000, true, 256, Duration.ofSeconds(10), null, null));
+
+        var changedSchemas = Flux.just(
+                new SequencedSchema(14, paymentSchema(3, 1024, "3")),
+                new SequencedSchema(15, transactionSchema(3, 1026, "3")),
+                new SequencedSchema(16, transactionSchema(4, 1036, "4")));
+
+        var expectedException = new IllegalStateException("Some replication error");
+
+        given(watermarkRepository.findByName("schemas")).willReturn(Mono.just(13L));
+        given(watermarkRepository.save(eq("schemas"), anyLong())).willReturn(Mono.empty());
+
+        given(relationalSchemaRepository.findAllAfterSequence(13)).willReturn(changedSchemas);
+
+        given(kafkaSchemaRepository.saveAll(any(), any()))
+                .willAnswer(inv -> Flux.from(inv.getArgument(0)).take(2).concatWith(Mono.error(expectedException)));
+
+        // When
+        var replicationResult = pipelinedReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNext(paymentSchema(3, 1024, "3"), transactionSchema(3, 1026, "3"))
+                .as("replicates confirmed schemas until failure")
+                .verifyErrorMatches(expectedException::equals);
+
+        verify(watermarkRepository).save("schemas", 15);
+        verify(watermarkRepository, never()).save("schemas", 14);
+        verify(watermarkRepository, never()).save("schemas", 16);
+    }
+
+    @Test
+    void replicatesChangedSchemasOnEachNotifiedChange() {
+        // Given
+        var continuousReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                new ReplicationMetrics(new SimpleMeterRegistry()),
+                new ReplicationProperties(Mode.CONTINUOUS, "schemas", 1000, false, 1, Duration.ofSeconds(10), null, null));
+
+        var changes = Sinks.many().unicast().<String>onBackpressureBuffer();
+
+        given(schemaChangeListener.changes()).willReturn(changes.asFlux());
+
+        given(watermarkRepository.findByName("schemas")).willReturn(Mono.just(13L), Mono.just(14L));
+        given(watermarkRepository.save(eq("schemas"), anyLong())).willReturn(Mono.empty());
+
+        given(relationalSchemaRepository.findAllAfterSequence(13))
+                .willReturn(Flux.just(new SequencedSchema(14, paymentSchema(3, 1024, "3"))));
+
+        given(relationalSchemaRepository.findAllAfterSequence(14))
+                .willReturn(Flux.just(new SequencedSchema(15, transactionSchema(3, 1026, "3"))));
+
+        given(kafkaSchemaRepository.save(any(Schema.class)))
+                .willAnswer(inv -> Mono.just(inv.getArguments()[0]));
+
+        // When
+        var replicationResult = continuousReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .then(() -> changes.tryEmitNext("schema_registry_changes"))
+                .expectNext(paymentSchema(3, 1024, "3"))
+                .then(() -> changes.tryEmitNext("schema_registry_changes"))
+                .expectNext(transactionSchema(3, 1026, "3"))
+                .as("replicates changed schemas on each notified change")
+                .thenCancel()
+                .verify();
+
+        verify(watermarkRepository).save("schemas", 14);
+        verify(watermarkRepository).save("schemas", 15);
+    }
+
+    @Test
+    void keepsReplicatingChangedSchemasAfterFailure() {
+        // Given
+        var continuousReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                new ReplicationMetrics(new SimpleMeterRegistry()),
+                new ReplicationProperties(Mode.CONTINUOUS, "schemas", 1000, false, 1, Duration.ofSeconds(10), null, null));
+
+        var changes = Sinks.many().unicast().<String>onBackpressureBuffer();
+
+        given(schemaChangeListener.changes()).willReturn(changes.asFlux());
+
+        given(watermarkRepository.findByName("schemas")).willReturn(Mono.just(13L), Mono.just(14L));
+        given(watermarkRepository.save(eq("schemas"), anyLong())).willReturn(Mono.empty());
+
+        given(relationalSchemaRepository.findAllAfterSequence(13))
+                .willReturn(Flux.just(new SequencedSchema(14, paymentSchema(3, 1024, "3"))));
+
+        given(relationalSchemaRepository.findAllAfterSequence(14))
+                .willReturn(Flux.just(new SequencedSchema(15, transactionSchema(3, 1026, "3"))));
+
+        given(kafkaSchemaRepository.save(any(Schema.class)))
+                .willReturn(Mono.error(new IllegalStateException("Some Kafka error")))
+                .willAnswer(inv -> Mono.just(inv.getArguments()[0]));
+
+        // When
+        var replicationResult = continuousReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .withVirtualTime(() -> replicationResult)
+                .then(() -> changes.tryEmitNext("schema_registry_subjects"))
+                .thenAwait(Duration.ofMinutes(1))
+                .expectNext(paymentSchema(3, 1024, "3"))
+                .then(() -> changes.tryEmitNext("schema_registry_subjects"))
+                .expectNext(transactionSchema(3, 1026, "3"))
+                .as("replicates changed schemas after failed replication")
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+
+        verify(watermarkRepository).save("schemas", 14);
+        verify(watermarkRepository).save("schemas", 15);
+    }
+
+    @Test
+    void replicatesOnlySchemasDifferingFromIndexedOnes() {
+        // Given
+        var diffReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                new ReplicationMetrics(new SimpleMeterRegistry()),
+                new ReplicationProperties(Mode.DIFF, "schemas", 1000, false, 1, Duration.ofSeconds(10), null, null));
+
+        var index = mock(SchemaIndex.class);
+
+        given(index.contains(any(Schema.class)))
+                .willAnswer(inv -> inv.<Schema>getArgument(0).getId() < 1005);
+
+        given(kafkaSchemaRepository.findIndex()).willReturn(Mono.just(index));
+
+        given(relationalSchemaRepository.findAllOrderedBySchemaId())
+                .willReturn(Flux.just(
+                        userSchema(1, 1001, ""),
+                        addressSchema(1, 1002, ""),
+                        customerProfileSchema(1, 1005, ""),
+                        transactionSchema(1, 1006, "")));
+
+        given(kafkaSchemaRepository.save(any(Schema.class)))
+                .willAnswer(inv -> Mono.just(inv.getArguments()[0]));
+
+        // When
+        var replicationResult = diffReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNext(customerProfileSchema(1, 1005, ""), transactionSchema(1, 1006, ""))
+                .as("replicates only differing schemas")
+                .verifyComplete();
+
+        verify(kafkaSchemaRepository, times(2)).save(any(Schema.class));
+    }
+
+    @Test
+    void writesSnapshotOfAllSchemasInsteadOfReplicating(@TempDir Path tempDir) throws IOException {
+        // Given
+        var snapshotFile = tempDir.resolve("schemas.snapshot");
+
+        var snapshotReplication = new SchemaReplication(
+                relationalSchemaRepository,
+                kafkaSchemaRepository,
+                watermarkRepository,
+                schemaChangeListener,
+                new ReplicationMetrics(new SimpleMeterRegistry()),
+                new ReplicationProperties(Mode.SNAPSHOT, "schemas", 1000, false, 1, Duration.ofSeconds(10), null,
+                        snapshotFile));
+
+        given(relationalSchemaRepository.findAllOrderedBySchemaId())
+                .willReturn(Flux.just(userSchema(1, 1001, ""), addressSchema(1, 1002, "")));
+
+        // When
+        var replicationResult = snapshotReplication.replicateSchemas();
+
+        // Then
+        StepVerifier
+                .create(replicationResult)
+                .expectNext(userSchema(1, 1001, ""), addressSchema(1, 1002, ""))
+                .as("writes all schemas to snapshot")
+                .verifyComplete();
+
+        assertThat(Files.size(snapshotFile))
+                .describedAs("snapshot file size")
+                .isPositive();
+
+        verify(kafkaSchemaRepository, never()).save(any(Schema.class));
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Named.named;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.customerProfileSchema;
+import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.transactionSchema;
+import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.userSchema;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.ConfluentSchemaConverter;
+
+/**
+ * Tests of {@link ConfluentSchemaRecordSerializer}.
+ *
+ * @author Dariusz Szpakowski
+ */
+class ConfluentSchemaRecordSerializerTest {
+    // UUT
+    ConfluentSchemaRecordSerializer serializer = new ConfluentSchemaRecordSerializer();
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @MethodSource("testSchemas")
+    void serializesKeyAndValueAsJackson(Schema schema) throws IOException {
+        // Given
+        var producerRecord = new ConfluentSchemaConverter().convert(schema);
+
+        // When
+        var key = serializer.serialize("_schemas", producerRecord.key());
+        var value = serializer.serialize("_schemas", producerRecord.value());
+
+        // Then
+        assertThat(objectMapper.readTree(key))
+                .describedAs("serialized key")
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(producerRecord.key())));
+
+        assertThat(objectMapper.readTree(value))
+                .describedAs("serialized value")
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(producerRecord.value())));
+    }
+
+    @Test
+    void serializesNullAsNull() {
+        // When
+        var serialized = serializer.serialize("_schemas", null);
+
+        // Then
+        assertThat(serialized)
+                .describedAs("serialized null")
+                .isNull();
+    }
+
+    @Test
+    void throwsExceptionForUnsupportedType() {
+        // When
+        var thrown = assertThrows(SerializationException.class, () -> serializer.serialize("_schemas", "text"));
+
+        // Then
+        assertThat(thrown)
+                .describedAs("thrown exception")
+                .hasMessageContaining(String.class.getName());
+    }
+
+    static Stream<Arguments> testSchemas() {
+        var escapedSchema = userSchema(1, 1001, "");
+        escapedSchema.setSchema("{\"doc\": \"Zażółć \\\"gęślą\\\" jaźń\\n\\t\\u0001\"}");
+
+        var nullReferenceVersion = customerProfileSchema(1, 1005, "");
+        nullReferenceVersion.setReferences(List.of(new SchemaReference("com.example.User", "user-subject", null)));
+
+        var nullReferences = userSchema(1, 1001, "");
+        nullReferences.setReferences(null);
+
+        return Stream.of(
+                arguments(named("user schema", userSchema(1, 1001, ""))),
+                arguments(named("transaction schema with references", transactionSchema(4, 1036, "4"))),
+                arguments(named("schema with escaped characters", escapedSchema)),
+                arguments(named("reference with null version", nullReferenceVersion)),
+                arguments(named("schema with null references", nullReferences)));
+    }
+}
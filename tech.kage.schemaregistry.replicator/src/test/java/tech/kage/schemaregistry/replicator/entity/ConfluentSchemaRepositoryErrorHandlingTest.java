@@ -29,6 +29,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.userSchema;
 
+import java.util.function.Function;
+
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,7 @@ import org.springframework.core.convert.converter.Converter;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import reactor.core.publisher.Flux;
+import reactor.kafka.receiver.ReceiverOptions;
 import reactor.kafka.sender.KafkaSender;
 import reactor.kafka.sender.SenderResult;
 import reactor.test.StepVerifier;
@@ -66,7 +69,7 @@ class ConfluentSchemaRepositoryErrorHandlingTest {
 
     @BeforeEach
     void setUp() {
-        kafkaSchemaRepository = new ConfluentSchemaRepository(schemaConverter, kafkaSender);
+        kafkaSchemaRepository = new ConfluentSchemaRepository(schemaConverter, kafkaSender, ReceiverOptions.create());
     }
 
     @Test
@@ -121,4 +124,32 @@ class ConfluentSchemaRepositoryErrorHandlingTest {
                 .expectErrorMatches(thrown -> thrown.equals(expectedError))
                 .verify();
     }
+
+    @Test
+    void returnsErrorWhenPipelinedKafkaSendFails() {
+        // Given
+        var schema = userSchema(1, 1001, "");
+        var fakeProducerRecord = new ProducerRecord<SchemaKey, SchemaValue>("topic", null, null);
+
+        var expectedError = new IllegalStateException("Another error");
+
+        given(schemaConverter.convert(schema))
+                .willReturn(fakeProducerRecord);
+
+        given(kafkaSender.send(any()))
+                .willAnswer(inv -> Flux.from(inv.getArgument(0)).map(senderRecord -> senderResult));
+
+        given(senderResult.exception())
+                .willReturn(expectedError);
+
+        // When
+        var result = kafkaSchemaRepository.saveAll(Flux.just(schema), Function.identity());
+
+        // Then
+        StepVerifier
+                .create(result)
+                .as("Fail when pipelined Kafka send returned error")
+                .expectErrorMatches(thrown -> thrown.equals(expectedError))
+                .verify();
+    }
 }
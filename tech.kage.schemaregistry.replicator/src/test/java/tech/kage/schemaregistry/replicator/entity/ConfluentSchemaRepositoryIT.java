@@ -25,6 +25,7 @@
 
 package tech.kage.schemaregistry.replicator.entity;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static tech.kage.schemaregistry.replicator.entity.ConfluentSchemaRepository.SCHEMAS_TOPIC;
 import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.addressSchema;
 import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.customerProfileSchema;
@@ -34,12 +35,19 @@ import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.transact
 import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.userSchema;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -119,6 +127,17 @@ class ConfluentSchemaRepositoryIT {
             return SenderOptions.create(props);
         }
 
+        @Bean
+        ReceiverOptions<byte[], byte[]> schemasReceiverOptions(KafkaProperties properties) {
+            var props = properties.buildConsumerProperties(null);
+
+            props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+            props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+            return ReceiverOptions.create(props);
+        }
+
         @Bean
         ReceiverOptions<?, ?> kafkaReceiverOptions(KafkaProperties properties) {
             var props = properties.buildConsumerProperties(null);
@@ -138,7 +157,7 @@ class ConfluentSchemaRepositoryIT {
     }
 
     @Test
-    void savesSchemasInKafka() {
+    void savesSchemasInKafka() throws Exception {
         // Given
         var schemas = List.of(
                 userSchema(1, 1001, ""),
@@ -155,6 +174,9 @@ class ConfluentSchemaRepositoryIT {
                 transactionSchema(3, 1026, "3"),
                 transactionSchema(4, 1036, "4"));
 
+        var topic = new TopicPartition(SCHEMAS_TOPIC, 0);
+        var startOffset = endOffset(topic);
+
         var expectedSchemasIterator = schemas.iterator();
 
         // When
@@ -162,7 +184,9 @@ class ConfluentSchemaRepositoryIT {
 
         // Then
         var retrievedSchemas = KafkaReceiver
-                .create(kafkaReceiverOptions.assignment(List.of(new TopicPartition(SCHEMAS_TOPIC, 0))))
+                .create(kafkaReceiverOptions
+                        .assignment(List.of(topic))
+                        .addAssignListener(partitions -> partitions.forEach(p -> p.seek(startOffset))))
                 .receive()
                 .take(schemas.size())
                 .timeout(Duration.ofSeconds(60));
@@ -180,4 +204,123 @@ class ConfluentSchemaRepositoryIT {
                 .as("retrieves stored schemas with the same data")
                 .verifyComplete();
     }
+
+    @Test
+    void savesPipelinedSchemasInKafkaInOrder() throws Exception {
+        // Given
+        var schemas = List.of(
+                userSchema(1, 1001, ""),
+                addressSchema(1, 1002, ""),
+                orderSchema(1, 1003, ""),
+                paymentSchema(1, 1004, ""),
+                customerProfileSchema(1, 1005, ""),
+                transactionSchema(1, 1006, ""),
+                paymentSchema(2, 1014, "2"),
+                transactionSchema(2, 1016, "2"),
+                addressSchema(2, 1022, "2"),
+                orderSchema(2, 1023, "2"),
+                paymentSchema(3, 1024, "3"),
+                transactionSchema(3, 1026, "3"),
+                transactionSchema(4, 1036, "4"));
+
+        var topic = new TopicPartition(SCHEMAS_TOPIC, 0);
+        var startOffset = endOffset(topic);
+
+        var expectedSchemasIterator = schemas.iterator();
+
+        // When
+        var savedSchemas = kafkaSchemaRepository.saveAll(Flux.fromIterable(schemas), Function.identity());
+
+        // Then
+        var retrievedSchemas = KafkaReceiver
+                .create(kafkaReceiverOptions
+                        .assignment(List.of(topic))
+                        .addAssignListener(partitions -> partitions.forEach(p -> p.seek(startOffset))))
+                .receive()
+                .take(schemas.size())
+                .timeout(Duration.ofSeconds(60));
+
+        StepVerifier
+                .create(savedSchemas.collectList().flatMapMany(saved -> {
+                    assertThat(saved)
+                            .describedAs("saved schemas")
+                            .isEqualTo(schemas);
+
+                    return retrievedSchemas;
+                }))
+                .thenConsumeWhile(message -> {
+                    var key = message.key();
+                    var value = message.value();
+
+                    var expectedSchema = schemaConverter.convert(expectedSchemasIterator.next());
+
+                    return key.equals(expectedSchema.key()) && value.equals(expectedSchema.value());
+                })
+                .as("retrieves pipelined schemas in the order they were saved")
+                .verifyComplete();
+    }
+
+    @Test
+    void indexesSchemasPresentInKafka() {
+        // Given
+        var savedSchemas = List.of(
+                userSchema(1, 1001, ""),
+                addressSchema(1, 1002, ""),
+                customerProfileSchema(1, 1005, ""));
+
+        kafkaSchemaRepository.saveAll(Flux.fromIterable(savedSchemas), Function.identity()).blockLast();
+
+        // When
+        var index = kafkaSchemaRepository.findIndex().block();
+
+        // Then
+        assertThat(savedSchemas)
+                .describedAs("saved schemas")
+                .allMatch(index::contains);
+
+        assertThat(index.contains(userSchema(1, 1099, "")))
+                .describedAs("schema with a changed ID is contained")
+                .isFalse();
+
+        assertThat(index.contains(transactionSchema(9, 1099, "")))
+                .describedAs("schema never saved is contained")
+                .isFalse();
+    }
+
+    @Test
+    void indexesSchemasFollowedByTransactionMarker() {
+        // Given
+        var savedSchema = orderSchema(1, 1003, "");
+
+        var props = new HashMap<>(kafkaAdmin.getConfigurationProperties());
+
+        props.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "schemas-index-test");
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+
+        try (var producer = new KafkaProducer<SchemaKey, SchemaValue>(props)) {
+            producer.initTransactions();
+            producer.beginTransaction();
+            producer.send(schemaConverter.convert(savedSchema));
+            producer.commitTransaction();
+        }
+
+        // When
+        var index = kafkaSchemaRepository.findIndex().block(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(index.contains(savedSchema))
+                .describedAs("schema saved in a transaction is contained")
+                .isTrue();
+    }
+
+    private long endOffset(TopicPartition topic) throws Exception {
+        try (var adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties())) {
+            return adminClient
+                    .listOffsets(Map.of(topic, OffsetSpec.latest()))
+                    .partitionResult(topic)
+                    .get()
+                    .offset();
+        }
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Integration tests for {@link PostgresReplicationWatermarkRepository}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@DataR2dbcTest
+@ActiveProfiles("test")
+class PostgresReplicationWatermarkRepositoryIT {
+    // UUT
+    @Autowired
+    ReplicationWatermarkRepository watermarkRepository;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(PostgresReplicationWatermarkRepository.class)
+    static class TestConfig {
+    }
+
+    @BeforeEach
+    void setUp(@Autowired DatabaseClient dbClient, @Value("classpath:/test-data/replicator/ddl.sql") Resource ddl)
+            throws IOException {
+        dbClient
+                .sql(ddl.getContentAsString(StandardCharsets.UTF_8))
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    @Test
+    void returnsEmptyMonoWhenWatermarkNotSaved() {
+        // When
+        var watermark = watermarkRepository.findByName("schemas");
+
+        // Then
+        StepVerifier
+                .create(watermark)
+                .as("returns empty mono when watermark not saved")
+                .verifyComplete();
+    }
+
+    @Test
+    void savesAndUpdatesWatermark() {
+        // Given
+        watermarkRepository.save("schemas", 5).block();
+        watermarkRepository.save("other", 3).block();
+
+        // When
+        watermarkRepository.save("schemas", 12).block();
+
+        // Then
+        StepVerifier
+                .create(watermarkRepository.findByName("schemas"))
+                .expectNext(12L)
+                .as("returns updated watermark")
+                .verifyComplete();
+
+        StepVerifier
+                .create(watermarkRepository.findByName("other"))
+                .expectNext(3L)
+                .as("leaves other watermarks unchanged")
+                .verifyComplete();
+    }
+
+    @Test
+    void doesNotMoveWatermarkBackwards() {
+        // Given
+        watermarkRepository.save("schemas", 12).block();
+
+        // When
+        watermarkRepository.save("schemas", 5).block();
+
+        // Then
+        StepVerifier
+                .create(watermarkRepository.findByName("schemas"))
+                .expectNext(12L)
+                .as("keeps newer watermark")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import static tech.kage.schemaregistry.replicator.entity.PostgresSchemaChangeListener.CHANNEL;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Integration tests for {@link PostgresSchemaChangeListener}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@DataR2dbcTest
+@ActiveProfiles("test")
+class PostgresSchemaChangeListenerIT {
+    // UUT
+    @Autowired
+    SchemaChangeListener schemaChangeListener;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(PostgresSchemaChangeListener.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void emitsOnceListeningAndOnEachNotification(@Autowired DatabaseClient dbClient) {
+        // Given
+        var notify = dbClient
+                .sql("NOTIFY " + CHANNEL)
+                .then();
+
+        // When
+        var changes = schemaChangeListener.changes();
+
+        // Then
+        StepVerifier
+                .create(changes)
+                .expectNext(CHANNEL)
+                .then(() -> notify.block())
+                .expectNext(CHANNEL)
+                .then(() -> notify.block())
+                .expectNext(CHANNEL)
+                .as("emits once listening and on each notification")
+                .thenCancel()
+                .verify(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void emitsAgainOnceListeningAfterConnectionLost(@Autowired DatabaseClient dbClient) {
+        // Given
+        var terminateListeningConnection = dbClient
+                .sql("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE query = 'LISTEN " + CHANNEL + "'")
+                .then();
+
+        // When
+        var changes = schemaChangeListener.changes();
+
+        // Then
+        StepVerifier
+                .create(changes)
+                .expectNext(CHANNEL)
+                .then(() -> terminateListeningConnection.block())
+                .expectNext(CHANNEL)
+                .as("emits once listening again after reconnecting")
+                .thenCancel()
+                .verify(Duration.ofSeconds(30));
+    }
+}
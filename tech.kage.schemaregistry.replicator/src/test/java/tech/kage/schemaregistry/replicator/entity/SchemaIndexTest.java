@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.replicator.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.customerProfileSchema;
+import static tech.kage.schemaregistry.replicator.test.data.TestSchemas.userSchema;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+
+/**
+ * Tests for {@link SchemaIndex}.
+ *
+ * @author Dariusz Szpakowski
+ */
+class SchemaIndexTest {
+    // UUT
+    SchemaIndex index = new SchemaIndex();
+
+    @Test
+    void containsIndexedSchema() {
+        // Given
+        var schema = customerProfileSchema(1, 1005, "");
+
+        put(schema, false);
+
+        // When
+        var contained = index.contains(schema);
+
+        // Then
+        assertThat(contained)
+                .describedAs("indexed schema is contained")
+                .isTrue();
+    }
+
+    @Test
+    void containsSchemaWithReferencesInDifferentOrder() {
+        // Given
+        var schema = customerProfileSchema(1, 1005, "");
+
+        index.put(schema.getSubject(), schema.getVersion(), schema.getId(), schema.getReferences().reversed(),
+                schema.getSchema(), false);
+
+        // When
+        var contained = index.contains(schema);
+
+        // Then
+        assertThat(contained)
+                .describedAs("schema indexed with references in different order is contained")
+                .isTrue();
+    }
+
+    @Test
+    void doesNotContainChangedSchema() {
+        // Given
+        var schema = customerProfileSchema(1, 1005, "");
+
+        put(schema, false);
+
+        var changedId = customerProfileSchema(1, 1015, "");
+        var changedDefinition = customerProfileSchema(1, 1005, "2");
+        var changedReferences = customerProfileSchema(1, 1005, "");
+
+        changedReferences.setReferences(List.of(new SchemaReference("com.example.User", "user-subject", 2)));
+
+        // When
+        var contained = List.of(
+                index.contains(changedId),
+                index.contains(changedDefinition),
+                index.contains(changedReferences));
+
+        // Then
+        assertThat(contained)
+                .describedAs("changed schemas are contained")
+                .containsOnly(false);
+    }
+
+    @Test
+    void doesNotContainDeletedOrRemovedSchema() {
+        // Given
+        var deletedSchema = userSchema(1, 1001, "");
+        var removedSchema = customerProfileSchema(1, 1005, "");
+
+        put(deletedSchema, true);
+        put(removedSchema, false);
+
+        index.remove(removedSchema.getSubject(), removedSchema.getVersion());
+
+        // When
+        var contained = List.of(index.contains(deletedSchema), index.contains(removedSchema));
+
+        // Then
+        assertThat(contained)
+                .describedAs("deleted and removed schemas are contained")
+                .containsOnly(false);
+
+        assertThat(index.size())
+                .describedAs("number of indexed schemas")
+                .isEqualTo(1);
+    }
+
+    private void put(Schema schema, boolean deleted) {
+        index.put(schema.getSubject(), schema.getVersion(), schema.getId(), schema.getReferences(), schema.getSchema(),
+                deleted);
+    }
+}
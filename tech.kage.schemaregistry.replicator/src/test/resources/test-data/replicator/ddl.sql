@@ -0,0 +1,8 @@
+CREATE SCHEMA IF NOT EXISTS schemas;
+
+CREATE TABLE IF NOT EXISTS schemas.replication_watermarks (
+    name text PRIMARY KEY,
+    sequence bigint NOT NULL
+);
+
+DELETE FROM schemas.replication_watermarks;
@@ -35,18 +35,23 @@ module tech.kage.schemaregistry {
     requires reactor.core;
     requires org.reactivestreams;
     requires spring.beans;
+    requires spring.boot;
     requires spring.boot.autoconfigure;
     requires spring.context;
+    requires spring.core;
+    requires micrometer.core;
 
     // Boundary
     requires spring.web;
     requires spring.webflux;
+    requires com.fasterxml.jackson.core;
+    requires com.fasterxml.jackson.databind;
 
     exports tech.kage.schemaregistry to spring.beans, spring.context;
     exports tech.kage.schemaregistry.boundary to spring.beans, spring.context;
     exports tech.kage.schemaregistry.control to spring.beans, spring.context;
 
     opens tech.kage.schemaregistry to spring.core;
-    opens tech.kage.schemaregistry.boundary to spring.core;
+    opens tech.kage.schemaregistry.boundary to spring.core, com.fasterxml.jackson.databind;
     opens tech.kage.schemaregistry.control to spring.core;
 }
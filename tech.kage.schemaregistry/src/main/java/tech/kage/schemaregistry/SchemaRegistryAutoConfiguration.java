@@ -27,6 +27,7 @@ package tech.kage.schemaregistry;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.method.HandlerTypePredicate;
@@ -41,6 +42,7 @@ import org.springframework.web.reactive.config.WebFluxConfigurer;
  */
 @AutoConfiguration
 @ComponentScan
+@ConfigurationPropertiesScan
 @EnableWebFlux
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
 class SchemaRegistryAutoConfiguration implements WebFluxConfigurer {
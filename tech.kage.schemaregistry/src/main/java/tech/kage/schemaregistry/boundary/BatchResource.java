@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.boundary;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import io.confluent.kafka.schemaregistry.client.rest.entities.requests.RegisterSchemaRequest;
+import reactor.core.publisher.Flux;
+import tech.kage.schemaregistry.control.SchemaLookup;
+import tech.kage.schemaregistry.control.SchemaLookupResult;
+import tech.kage.schemaregistry.control.SchemaRequest;
+import tech.kage.schemaregistry.control.SchemaResult;
+import tech.kage.schemaregistry.control.SchemaRetrieval;
+
+/**
+ * REST resource for batches of schema operations, serving many schemas in a
+ * single round trip.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@RestController
+@RequestMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+class BatchResource {
+    static final int MAX_REQUESTS = 1000;
+
+    private final SchemaRetrieval schemaRetrieval;
+    private final SchemaLookup schemaLookup;
+
+    /**
+     * Constructs a new {@link BatchResource} instance.
+     *
+     * @param schemaRetrieval an instance of {@link SchemaRetrieval}
+     * @param schemaLookup    an instance of {@link SchemaLookup}
+     */
+    BatchResource(SchemaRetrieval schemaRetrieval, SchemaLookup schemaLookup) {
+        this.schemaRetrieval = schemaRetrieval;
+        this.schemaLookup = schemaLookup;
+    }
+
+    /**
+     * Retrieves the schemas for a batch of requests, each either for a version
+     * of a subject, {@code latest} or numeric, or for a schema ID. All schemas
+     * of each kind of request are read with a single query.
+     *
+     * @param requests the schema requests, at most {@value #MAX_REQUESTS}
+     * 
+     * @return a Flux of results, one per request, in the order of the requests,
+     *         each without a schema if none exists
+     * 
+     * @throws ResponseStatusException with 400 Bad Request if there are too many
+     *                                 requests or any of them is malformed
+     */
+    @PostMapping(path = "schemas", consumes = MediaType.APPLICATION_JSON_VALUE)
+    Flux<BatchSchemaResult> getSchemas(@RequestBody List<BatchSchemaRequest> requests) {
+        if (requests.size() > MAX_REQUESTS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_REQUESTS + " schemas can be requested at once");
+        }
+
+        var schemaRequests = requests
+                .stream()
+                .map(BatchSchemaRequest::toSchemaRequest)
+                .toList();
+
+        return schemaRetrieval
+                .getSchemas(schemaRequests)
+                .map(BatchSchemaResult::of);
+    }
+
+    /**
+     * Verifies for a batch of schemas whether each of them is registered under
+     * its subject, matching the schema definition and references. All schemas
+     * are matched with a single query.
+     *
+     * @param lookups the schemas to look up, at most {@value #MAX_REQUESTS}
+     * 
+     * @return a Flux of results, one per lookup, in the order of the lookups,
+     *         each with the matching schema with the highest version, or without
+     *         a schema if none exists
+     * 
+     * @throws ResponseStatusException with 400 Bad Request if there are too many
+     *                                 lookups or any of them is malformed
+     */
+    @PostMapping(path = "lookups", consumes = MediaType.APPLICATION_JSON_VALUE)
+    Flux<BatchLookupResult> lookUpSchemas(@RequestBody List<BatchLookupRequest> lookups) {
+        if (lookups.size() > MAX_REQUESTS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_REQUESTS + " schemas can be looked up at once");
+        }
+
+        var schemas = lookups
+                .stream()
+                .map(BatchLookupRequest::toSchema)
+                .toList();
+
+        return schemaLookup
+                .lookupSchemas(schemas)
+                .map(BatchLookupResult::of);
+    }
+
+    /**
+     * A request for a schema, either by subject and version or by ID.
+     *
+     * @param subject the subject of the schema
+     * @param version "latest" for the highest version or a numeric string for a
+     *                specific version
+     * @param id      the ID of the schema
+     */
+    record BatchSchemaRequest(String subject, String version, Integer id) {
+        SchemaRequest toSchemaRequest() {
+            if (id != null && subject == null && version == null) {
+                return new SchemaRequest.Id(id);
+            }
+
+            if (id != null || subject == null || version == null) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "Either subject and version or id must be requested: " + this);
+            }
+
+            if ("latest".equalsIgnoreCase(version)) {
+                return new SchemaRequest.Latest(subject);
+            }
+
+            try {
+                return new SchemaRequest.Version(subject, Integer.parseInt(version));
+            } catch (NumberFormatException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid version: " + version, e);
+            }
+        }
+    }
+
+    /**
+     * The result of a schema request, repeating the request.
+     *
+     * @param subject the requested subject
+     * @param version the requested version
+     * @param id      the requested ID
+     * @param schema  the requested schema, omitted if none exists
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record BatchSchemaResult(String subject, String version, Integer id, Schema schema) {
+        static BatchSchemaResult of(SchemaResult result) {
+            return switch (result.request()) {
+                case SchemaRequest.Latest latest -> new BatchSchemaResult(
+                        latest.subject(),
+                        "latest",
+                        null,
+                        result.schema());
+                case SchemaRequest.Version version -> new BatchSchemaResult(
+                        version.subject(),
+                        String.valueOf(version.version()),
+                        null,
+                        result.schema());
+                case SchemaRequest.Id id -> new BatchSchemaResult(null, null, id.id(), result.schema());
+            };
+        }
+    }
+
+    /**
+     * A lookup of a schema under a subject, in the format of the request of
+     * {@code POST /subjects/{subject}} with the subject added.
+     *
+     * @param subject    the subject to look up the schema under
+     * @param schema     the schema definition
+     * @param schemaType the schema type
+     * @param references the schema references
+     */
+    record BatchLookupRequest(String subject, String schema, String schemaType, List<SchemaReference> references) {
+        Schema toSchema() {
+            if (subject == null || schema == null) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "Both subject and schema must be looked up: " + subject);
+            }
+
+            var request = new RegisterSchemaRequest();
+
+            request.setSchema(schema);
+            request.setSchemaType(schemaType);
+
+            if (references != null) {
+                request.setReferences(references);
+            }
+
+            return new Schema(subject, request);
+        }
+    }
+
+    /**
+     * The result of a schema lookup, repeating the looked up subject.
+     *
+     * @param subject the looked up subject
+     * @param schema  the matching registered schema, omitted if none exists
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record BatchLookupResult(String subject, Schema schema) {
+        static BatchLookupResult of(SchemaLookupResult result) {
+            return new BatchLookupResult(result.lookup().getSubject(), result.schema());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.boundary;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.publisher.Flux;
+import tech.kage.schemaregistry.control.SchemaExport;
+
+/**
+ * REST resource for exporting the contents of the registry.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@RestController
+@RequestMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+class ExportResource {
+    private final SchemaExport schemaExport;
+
+    /**
+     * Constructs a new {@link ExportResource} instance.
+     *
+     * @param schemaExport an instance of {@link SchemaExport}
+     */
+    ExportResource(SchemaExport schemaExport) {
+        this.schemaExport = schemaExport;
+    }
+
+    /**
+     * Exports all schema versions as newline-delimited JSON, one schema version
+     * per line in the format of the
+     * {@code GET /subjects/{subject}/versions/{version}} response, which the
+     * {@code memory} store loads. Lines are written as they are read, and
+     * reading follows the demand of the connection, so memory use does not grow
+     * with the size of the registry.
+     *
+     * <p>
+     * Schema versions are ordered by schema ID, subject and version, which
+     * identify each of them. An interrupted export is resumed exactly after the
+     * last schema version received by passing its ID, subject and version. An ID
+     * alone skips all versions of schemas with IDs up to and including it, so
+     * resuming with the ID preceding the last one received repeats the versions
+     * of the last ID, which the client must then deduplicate.
+     *
+     * @param afterId      the schema ID after which to export schemas, or 0 to
+     *                     export all schemas
+     * @param afterSubject the subject of the schema version after which to
+     *                     export schemas, together with {@code afterVersion}
+     * @param afterVersion the version of the schema version after which to
+     *                     export schemas, together with {@code afterSubject}
+     * 
+     * @return a Flux of schema versions, ordered by schema ID, subject and
+     *         version ascending
+     * 
+     * @throws ResponseStatusException with 400 Bad Request if only one of
+     *                                 {@code afterSubject} and
+     *                                 {@code afterVersion} is given
+     */
+    @GetMapping("schemas")
+    Flux<Schema> exportSchemas(
+            @RequestParam(defaultValue = "0") int afterId,
+            @RequestParam(required = false) String afterSubject,
+            @RequestParam(required = false) Integer afterVersion) {
+        if (afterSubject == null && afterVersion == null) {
+            return schemaExport.exportSchemas(afterId);
+        }
+
+        if (afterSubject == null || afterVersion == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Both afterSubject and afterVersion must be given to resume after a schema version");
+        }
+
+        return schemaExport.exportSchemas(afterId, afterSubject, afterVersion);
+    }
+}
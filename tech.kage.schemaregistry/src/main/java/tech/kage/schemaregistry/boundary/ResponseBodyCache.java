@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.boundary;
+
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaString;
+import tech.kage.schemaregistry.cache.BoundedCache;
+import tech.kage.schemaregistry.cache.IntKeyedCache;
+import tech.kage.schemaregistry.entity.SchemaFingerprint;
+
+/**
+ * A cache of schema responses serialized to UTF-8 encoded JSON, together with
+ * their entity tags.
+ * 
+ * <p>
+ * A schema registered under a given subject and version, or with a given ID,
+ * never changes, and neither does its JSON representation. Caching the encoded
+ * bytes lets such responses be written without serializing them again, so the
+ * cost of a request does not grow with the size of the schema.
+ * 
+ * <p>
+ * Entity tags are derived from the schema fingerprint, combined with the schema
+ * ID and version, so that a different schema registered as the latest version
+ * of a subject always gets a different tag.
+ * 
+ * <p>
+ * Responses are serialized with the application's {@link ObjectMapper}, the
+ * same one used by the WebFlux JSON encoder.
+ * When the cache is disabled, responses are serialized on every request.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+class ResponseBodyCache {
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final BoundedCache<SubjectVersion, SchemaResponse> schemaVersions;
+    private final IntKeyedCache<SchemaResponse> schemaIds;
+
+    /**
+     * Constructs a new {@link ResponseBodyCache} instance.
+     *
+     * @param properties   the cache configuration
+     * @param objectMapper the object mapper used to serialize responses
+     */
+    ResponseBodyCache(ResponseCacheProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.enabled();
+        this.schemaVersions = new BoundedCache<>(
+                properties.maxEntries(),
+                properties.maxBytes().toBytes(),
+                response -> response.body().length);
+        this.schemaIds = new IntKeyedCache<>(
+                properties.maxEntries(),
+                properties.maxBytes().toBytes(),
+                response -> response.body().length);
+    }
+
+    /**
+     * Returns the cached response of the schema registered under the given subject
+     * and version.
+     *
+     * @param subject the schema subject
+     * @param version the schema version
+     * 
+     * @return the serialized schema, or null if not cached
+     */
+    SchemaResponse getSchemaVersion(String subject, int version) {
+        return enabled ? schemaVersions.get(new SubjectVersion(subject, version)) : null;
+    }
+
+    /**
+     * Returns the response of the given schema, serializing and caching it if not
+     * cached yet.
+     *
+     * @param schema the schema registered under a subject and version
+     * 
+     * @return the serialized schema
+     */
+    SchemaResponse serializeSchemaVersion(Schema schema) {
+        var cachedResponse = getSchemaVersion(schema.getSubject(), schema.getVersion());
+
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+
+        var response = new SchemaResponse(
+                serialize(schema),
+                etag(schema.getId() + "-" + schema.getVersion(), schema.getSchema()));
+
+        if (enabled) {
+            schemaVersions.put(new SubjectVersion(schema.getSubject(), schema.getVersion()), response);
+        }
+
+        return response;
+    }
+
+    /**
+     * Returns the cached response of the schema with the given ID.
+     *
+     * @param id the schema ID
+     * 
+     * @return the serialized schema, or null if not cached
+     */
+    SchemaResponse getSchemaId(int id) {
+        return enabled ? schemaIds.get(id) : null;
+    }
+
+    /**
+     * Serializes and caches the response of the schema with the given ID.
+     *
+     * @param id           the schema ID
+     * @param schemaString the schema definition and references
+     * 
+     * @return the serialized schema
+     */
+    SchemaResponse serializeSchemaId(int id, SchemaString schemaString) {
+        var response = new SchemaResponse(
+                serialize(schemaString),
+                etag(Integer.toString(id), schemaString.getSchemaString()));
+
+        if (enabled) {
+            schemaIds.put(id, response);
+        }
+
+        return response;
+    }
+
+    private String etag(String prefix, String schema) {
+        return "\"" + prefix + "-" + HexFormat.of().formatHex(SchemaFingerprint.of(schema)) + "\"";
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize response", e);
+        }
+    }
+
+    /**
+     * Cache key of a schema registered under a subject.
+     *
+     * @param subject the schema subject
+     * @param version the schema version
+     */
+    record SubjectVersion(String subject, int version) {
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.boundary;
+
+import static org.springframework.http.ResponseEntity.notFound;
+
+import java.time.Duration;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaString;
+import reactor.core.publisher.Mono;
+import tech.kage.schemaregistry.control.SchemaRetrieval;
+
+/**
+ * REST resource for schema retrieval operations by schema ID.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@RestController
+@RequestMapping(value = "/schemas", produces = MediaType.APPLICATION_JSON_VALUE)
+class SchemaResource {
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final SchemaRetrieval schemaRetrieval;
+    private final ResponseBodyCache responseBodies;
+
+    /**
+     * Constructs a new {@link SchemaResource} instance.
+     *
+     * @param schemaRetrieval an instance of {@link SchemaRetrieval}
+     * @param responseBodies  an instance of {@link ResponseBodyCache}
+     */
+    SchemaResource(SchemaRetrieval schemaRetrieval, ResponseBodyCache responseBodies) {
+        this.schemaRetrieval = schemaRetrieval;
+        this.responseBodies = responseBodies;
+    }
+
+    /**
+     * Retrieves the schema with the given ID. The schema is written as
+     * pre-serialized JSON, reused across requests for the same ID. Schema IDs
+     * never change, so responses are marked as immutable, and a request with a
+     * matching {@code If-None-Match} header is answered with 304 Not Modified.
+     *
+     * @param id the ID of the schema
+     * 
+     * @return a Mono containing a ResponseEntity with the serialized schema
+     *         definition and references if found, a 304 Not Modified response if
+     *         the schema has not changed, or a 404 Not Found response if none
+     *         exists
+     */
+    @GetMapping("ids/{id}")
+    Mono<ResponseEntity<byte[]>> getSchemaById(@PathVariable int id) {
+        return Mono
+                .justOrEmpty(responseBodies.getSchemaId(id))
+                .switchIfEmpty(Mono.defer(() -> schemaRetrieval
+                        .getSchemaById(id)
+                        .map(schema -> responseBodies.serializeSchemaId(id, toSchemaString(schema)))))
+                .map(response -> response.toResponseEntity(IMMUTABLE))
+                .switchIfEmpty(Mono.just(notFound().build()));
+    }
+
+    private SchemaString toSchemaString(Schema schema) {
+        var schemaString = new SchemaString(schema.getSchema());
+
+        schemaString.setReferences(schema.getReferences());
+
+        return schemaString;
+    }
+}
@@ -27,6 +27,9 @@ package tech.kage.schemaregistry.boundary;
 
 import static org.springframework.http.ResponseEntity.notFound;
 
+import java.time.Duration;
+
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,7 +37,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import reactor.core.publisher.Mono;
 import tech.kage.schemaregistry.control.SchemaRetrieval;
 
@@ -46,35 +48,67 @@ import tech.kage.schemaregistry.control.SchemaRetrieval;
 @RestController
 @RequestMapping(value = "/subjects/{subject}/versions", produces = MediaType.APPLICATION_JSON_VALUE)
 class SubjectVersionResource {
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final SchemaRetrieval schemaRetrieval;
+    private final ResponseBodyCache responseBodies;
+    private final CacheControl latestCacheControl;
 
     /**
      * Constructs a new {@link SubjectVersionResource} instance.
      *
      * @param schemaRetrieval an instance of {@link SchemaRetrieval}
+     * @param responseBodies  an instance of {@link ResponseBodyCache}
+     * @param properties      the response cache configuration
      */
-    SubjectVersionResource(SchemaRetrieval schemaRetrieval) {
+    SubjectVersionResource(
+            SchemaRetrieval schemaRetrieval,
+            ResponseBodyCache responseBodies,
+            ResponseCacheProperties properties) {
         this.schemaRetrieval = schemaRetrieval;
+        this.responseBodies = responseBodies;
+        this.latestCacheControl = CacheControl.maxAge(properties.latestMaxAge()).cachePublic();
     }
 
     /**
-     * Retrieves the schema for the given subject and version.
+     * Retrieves the schema for the given subject and version. The schema is
+     * written as pre-serialized JSON, reused across requests for the same subject
+     * and version.
+     * 
+     * <p>
+     * Responses carry a strong ETag derived from the schema fingerprint, and a
+     * request with a matching {@code If-None-Match} header is answered with 304
+     * Not Modified. A numeric version never changes, so it is marked as immutable
+     * and cacheable for a year. The latest version may be cached only for a
+     * short, configurable time.
      *
      * @param subject the subject for which to retrieve the schema
      * @param version "latest" for the highest version or a numeric string for a
      *                specific version
      * 
-     * @return a Mono containing a ResponseEntity with the schema if found, or a 404
-     *         Not Found response if none exists
+     * @return a Mono containing a ResponseEntity with the serialized schema if
+     *         found, a 304 Not Modified response if the schema has not changed, or
+     *         a 404 Not Found response if none exists
      */
     @GetMapping("{version}")
-    Mono<ResponseEntity<Schema>> getSchemaByVersion(@PathVariable String subject, @PathVariable String version) {
+    Mono<ResponseEntity<byte[]>> getSchemaByVersion(@PathVariable String subject, @PathVariable String version) {
         return Mono
                 .just("latest".equalsIgnoreCase(version))
                 .flatMap(latestRequested -> latestRequested
-                        ? schemaRetrieval.getLatestSchemaBySubject(subject)
-                        : schemaRetrieval.getSchemaBySubjectAndVersion(subject, Integer.parseInt(version)))
-                .map(ResponseEntity::ok)
+                        ? schemaRetrieval
+                                .getLatestSchemaBySubject(subject)
+                                .map(responseBodies::serializeSchemaVersion)
+                                .map(response -> response.toResponseEntity(latestCacheControl))
+                        : getSchemaBySubjectAndVersion(subject, Integer.parseInt(version))
+                                .map(response -> response.toResponseEntity(IMMUTABLE)))
                 .switchIfEmpty(Mono.just(notFound().build()));
     }
+
+    private Mono<SchemaResponse> getSchemaBySubjectAndVersion(String subject, int version) {
+        return Mono
+                .justOrEmpty(responseBodies.getSchemaVersion(subject, version))
+                .switchIfEmpty(Mono.defer(() -> schemaRetrieval
+                        .getSchemaBySubjectAndVersion(subject, version)
+                        .map(responseBodies::serializeSchemaVersion)));
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.control;
+
+import org.springframework.stereotype.Component;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.publisher.Flux;
+import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+
+/**
+ * Implementation of the Schema Export use case.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+public class SchemaExport {
+    private final RelationalSchemaRepository schemaRepository;
+
+    /**
+     * Constructs a new {@link SchemaExport} instance.
+     *
+     * @param schemaRepository an instance of {@link RelationalSchemaRepository}
+     */
+    SchemaExport(RelationalSchemaRepository schemaRepository) {
+        this.schemaRepository = schemaRepository;
+    }
+
+    /**
+     * Exports all schema versions with a schema ID greater than the given one,
+     * ordered by schema ID. Schemas are read from the repository only as they
+     * are requested downstream, so a slow consumer holds back reading rather
+     * than having schemas buffered for it.
+     *
+     * @param afterId the schema ID after which to export schemas, or 0 to export
+     *                all schemas
+     * 
+     * @return a Flux of schema versions, ordered by schema ID ascending
+     */
+    public Flux<Schema> exportSchemas(int afterId) {
+        return schemaRepository.findAllAfterSchemaId(afterId);
+    }
+
+    /**
+     * Exports all schema versions following the given one, ordered by schema ID,
+     * subject and version, so that an export interrupted after any schema version
+     * is resumed exactly after it. Schemas are read from the repository only as
+     * they are requested downstream.
+     *
+     * @param afterId      the schema ID of the last exported schema version
+     * @param afterSubject the subject of the last exported schema version
+     * @param afterVersion the version of the last exported schema version
+     * 
+     * @return a Flux of schema versions, ordered by schema ID, subject and
+     *         version ascending
+     */
+    public Flux<Schema> exportSchemas(int afterId, String afterSubject, int afterVersion) {
+        return schemaRepository.findAllAfter(afterId, afterSubject, afterVersion);
+    }
+}
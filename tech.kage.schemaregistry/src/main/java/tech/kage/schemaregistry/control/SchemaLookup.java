@@ -25,11 +25,18 @@
 
 package tech.kage.schemaregistry.control;
 
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+import tech.kage.schemaregistry.entity.SubjectSchema;
 
 /**
  * Implementation of the Schema Lookup use case.
@@ -40,6 +47,8 @@ import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
 public class SchemaLookup {
     private final RelationalSchemaRepository schemaRepository;
 
+    private final SingleFlight<LookupKey, Schema> lookupRequests = new SingleFlight<>();
+
     /**
      * Constructs a new {@link SchemaLookup} instance.
      *
@@ -51,7 +60,9 @@ public class SchemaLookup {
 
     /**
      * Looks up a schema by subject, matching the specified schema's definition and
-     * references.
+     * references. Only the versions with a matching schema definition are read
+     * from the repository. Concurrent lookups of the same schema under the same subject
+     * share a single query.
      *
      * @param schema the schema to match against stored schemas
      * 
@@ -59,10 +70,62 @@ public class SchemaLookup {
      *         empty Mono if none exists
      */
     public Mono<Schema> lookupSchema(Schema schema) {
+        return lookupRequests.execute(
+                new LookupKey(schema.getSubject(), schema.getSchema(), schema.getReferences()),
+                () -> schemaRepository
+                        .findBySubjectAndSchemaOrderedByVersionDesc(schema.getSubject(), schema.getSchema())
+                        .filter(s -> s.getSchema().equals(schema.getSchema())
+                                && s.getReferences().equals(schema.getReferences()))
+                        .next());
+    }
+
+    /**
+     * Looks up all the given schemas by subject, matching each schema's
+     * definition and references. The versions with matching schema definitions
+     * for all lookups are read with a single repository query, so the number of
+     * queries does not grow with the number of lookups.
+     *
+     * @param schemas the schemas to match against stored schemas
+     * 
+     * @return a Flux of results, one per lookup, in the order of the lookups,
+     *         each with the matching schema with the highest version, if any
+     */
+    public Flux<SchemaLookupResult> lookupSchemas(List<Schema> schemas) {
+        if (schemas.isEmpty()) {
+            return Flux.empty();
+        }
+
+        var subjectSchemas = new LinkedHashSet<SubjectSchema>();
+
+        for (var schema : schemas) {
+            subjectSchemas.add(new SubjectSchema(schema.getSubject(), schema.getSchema()));
+        }
+
         return schemaRepository
-                .findBySubjectAndVersionOrderedByVersionDesc(schema.getSubject(), null)
-                .filter(s -> s.getSchema().equals(schema.getSchema())
-                        && s.getReferences().equals(schema.getReferences()))
-                .singleOrEmpty();
+                .findBySubjectSchemas(subjectSchemas)
+                .collectMultimap(schema -> new SubjectSchema(schema.getSubject(), schema.getSchema()))
+                .flatMapIterable(matches -> schemas
+                        .stream()
+                        .map(schema -> new SchemaLookupResult(schema, matches
+                                .getOrDefault(new SubjectSchema(schema.getSubject(), schema.getSchema()), List.of())
+                                .stream()
+                                .filter(s -> s.getReferences().equals(schema.getReferences()))
+                                .max(Comparator.comparing(Schema::getVersion))
+                                .orElse(null)))
+                        .toList());
+    }
+
+    SingleFlight<LookupKey, Schema> lookupRequests() {
+        return lookupRequests;
+    }
+
+    /**
+     * Key of a schema lookup request.
+     *
+     * @param subject    the subject to look up the schema under
+     * @param schema     the schema definition
+     * @param references the schema references
+     */
+    record LookupKey(String subject, String schema, List<SchemaReference> references) {
     }
 }
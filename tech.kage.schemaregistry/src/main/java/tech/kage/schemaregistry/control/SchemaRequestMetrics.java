@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.control;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Metrics of schema requests missing the cache, exposing how many concurrent
+ * identical ones were coalesced.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@Component
+class SchemaRequestMetrics implements MeterBinder {
+    private final SchemaRetrieval schemaRetrieval;
+    private final SchemaLookup schemaLookup;
+
+    /**
+     * Constructs a new {@link SchemaRequestMetrics} instance.
+     *
+     * @param schemaRetrieval an instance of {@link SchemaRetrieval}
+     * @param schemaLookup    an instance of {@link SchemaLookup}
+     */
+    SchemaRequestMetrics(SchemaRetrieval schemaRetrieval, SchemaLookup schemaLookup) {
+        this.schemaRetrieval = schemaRetrieval;
+        this.schemaLookup = schemaLookup;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindTo(registry, "latest", schemaRetrieval.latestSchemaRequests());
+        bindTo(registry, "version", schemaRetrieval.schemaRequests());
+        bindTo(registry, "id", schemaRetrieval.schemaByIdRequests());
+        bindTo(registry, "lookup", schemaLookup.lookupRequests());
+    }
+
+    private void bindTo(MeterRegistry registry, String operation, SingleFlight<?, ?> requests) {
+        FunctionCounter
+                .builder("schema.registry.requests.misses", requests, SingleFlight::misses)
+                .description("Number of schema requests missing the cache")
+                .tag("operation", operation)
+                .register(registry);
+
+        FunctionCounter
+                .builder("schema.registry.requests.coalesced", requests, SingleFlight::coalesced)
+                .description("Number of schema requests missing the cache that shared a query already in flight")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
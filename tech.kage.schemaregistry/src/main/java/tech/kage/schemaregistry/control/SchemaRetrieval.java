@@ -25,11 +25,17 @@
 
 package tech.kage.schemaregistry.control;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.stereotype.Component;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+import tech.kage.schemaregistry.entity.SubjectVersion;
 
 /**
  * Implementation of the Schema Retrieval use case.
@@ -40,6 +46,10 @@ import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
 public class SchemaRetrieval {
     private final RelationalSchemaRepository schemaRepository;
 
+    private final SingleFlight<String, Schema> latestSchemaRequests = new SingleFlight<>();
+    private final SingleFlight<SubjectVersion, Schema> schemaRequests = new SingleFlight<>();
+    private final SingleFlight<Integer, Schema> schemaByIdRequests = new SingleFlight<>();
+
     /**
      * Constructs a new {@link SchemaRetrieval} instance.
      *
@@ -51,7 +61,9 @@ public class SchemaRetrieval {
 
     /**
      * Retrieves the latest schema for the specified subject, based on version
-     * ordering.
+     * ordering. A schema held in memory by the repository is returned directly,
+     * and concurrent requests for the same subject missing it share a single
+     * query.
      *
      * @param subject the subject for which to retrieve the latest schema
      * 
@@ -59,13 +71,21 @@ public class SchemaRetrieval {
      *         Mono if none exists
      */
     public Mono<Schema> getLatestSchemaBySubject(String subject) {
-        return schemaRepository
-                .findBySubjectAndVersionOrderedByVersionDesc(subject, null)
-                .next();
+        var cachedSchema = schemaRepository.findCachedLatestBySubject(subject);
+
+        if (cachedSchema != null) {
+            return Mono.just(cachedSchema);
+        }
+
+        return latestSchemaRequests.execute(
+                subject,
+                () -> schemaRepository.findLatestBySubject(subject));
     }
 
     /**
-     * Retrieves the schema for the specified subject and version.
+     * Retrieves the schema for the specified subject and version. A schema held
+     * in memory by the repository is returned directly, and concurrent requests
+     * for the same subject and version missing it share a single query.
      *
      * @param subject the subject for which to retrieve the schema
      * @param version the version of the schema to retrieve
@@ -74,8 +94,100 @@ public class SchemaRetrieval {
      *         Mono if none exists
      */
     public Mono<Schema> getSchemaBySubjectAndVersion(String subject, int version) {
-        return schemaRepository
-                .findBySubjectAndVersionOrderedByVersionDesc(subject, version)
-                .singleOrEmpty();
+        var cachedSchema = schemaRepository.findCachedBySubjectAndVersion(subject, version);
+
+        if (cachedSchema != null) {
+            return Mono.just(cachedSchema);
+        }
+
+        return schemaRequests.execute(
+                new SubjectVersion(subject, version),
+                () -> schemaRepository
+                        .findBySubjectAndVersionOrderedByVersionDesc(subject, version)
+                        .singleOrEmpty());
+    }
+
+    /**
+     * Retrieves the schema with the specified ID. A schema held in memory by the
+     * repository is returned directly, looked up by the primitive ID, and
+     * concurrent requests for the same ID missing it share a single query.
+     *
+     * @param id the ID of the schema to retrieve
+     * 
+     * @return a Mono containing the schema with the given ID, or an empty Mono if
+     *         none exists
+     */
+    public Mono<Schema> getSchemaById(int id) {
+        var cachedSchema = schemaRepository.findCachedById(id);
+
+        if (cachedSchema != null) {
+            return Mono.just(cachedSchema);
+        }
+
+        return schemaByIdRequests.execute(id, () -> schemaRepository.findById(id));
+    }
+
+    /**
+     * Retrieves the schemas for all the given requests. Schemas of each kind of
+     * request, latest versions, specific versions and IDs, are read with a single
+     * repository query, so the number of queries does not grow with the number
+     * of requests.
+     *
+     * @param requests the schema requests
+     * 
+     * @return a Flux of results, one per request, in the order of the requests
+     */
+    public Flux<SchemaResult> getSchemas(List<SchemaRequest> requests) {
+        var latestSubjects = new LinkedHashSet<String>();
+        var subjectVersions = new LinkedHashSet<SubjectVersion>();
+        var ids = new LinkedHashSet<Integer>();
+
+        for (var request : requests) {
+            switch (request) {
+                case SchemaRequest.Latest latest -> latestSubjects.add(latest.subject());
+                case SchemaRequest.Version version -> subjectVersions.add(
+                        new SubjectVersion(version.subject(), version.version()));
+                case SchemaRequest.Id id -> ids.add(id.id());
+            }
+        }
+
+        var latestSchemas = latestSubjects.isEmpty()
+                ? Mono.just(Map.<String, Schema>of())
+                : schemaRepository.findLatestBySubjects(latestSubjects).collectMap(Schema::getSubject);
+
+        var versionSchemas = subjectVersions.isEmpty()
+                ? Mono.just(Map.<SubjectVersion, Schema>of())
+                : schemaRepository
+                        .findBySubjectVersions(subjectVersions)
+                        .collectMap(schema -> new SubjectVersion(schema.getSubject(), schema.getVersion()));
+
+        var idSchemas = ids.isEmpty()
+                ? Mono.just(Map.<Integer, Schema>of())
+                : schemaRepository.findByIds(ids).collectMap(Schema::getId);
+
+        return Mono
+                .zip(latestSchemas, versionSchemas, idSchemas)
+                .flatMapIterable(schemas -> requests
+                        .stream()
+                        .map(request -> new SchemaResult(request, switch (request) {
+                            case SchemaRequest.Latest latest -> schemas.getT1().get(latest.subject());
+                            case SchemaRequest.Version version -> schemas
+                                    .getT2()
+                                    .get(new SubjectVersion(version.subject(), version.version()));
+                            case SchemaRequest.Id id -> schemas.getT3().get(id.id());
+                        }))
+                        .toList());
+    }
+
+    SingleFlight<String, Schema> latestSchemaRequests() {
+        return latestSchemaRequests;
+    }
+
+    SingleFlight<SubjectVersion, Schema> schemaRequests() {
+        return schemaRequests;
+    }
+
+    SingleFlight<Integer, Schema> schemaByIdRequests() {
+        return schemaByIdRequests;
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.control;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent identical requests so that they share a single
+ * in-flight execution.
+ * 
+ * <p>
+ * The first request for a given key subscribes to the loader. Requests for the
+ * same key arriving before it completes receive its result instead of
+ * executing the loader again. Once the execution completes, the next request
+ * executes the loader anew. Only requests missing the cache are meant to be
+ * executed through it, so that its counters report cache misses and how many
+ * of them were coalesced.
+ *
+ * @param <K> the type of request keys
+ * @param <V> the type of results
+ * 
+ * @author Dariusz Szpakowski
+ */
+final class SingleFlight<K, V> {
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Executes the loader for the given key, unless an execution for the same
+     * key is already in flight, in which case its result is shared.
+     *
+     * @param key    the key identifying the request
+     * @param loader the supplier of the execution
+     * 
+     * @return a Mono emitting the result of the shared execution
+     */
+    Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            misses.increment();
+
+            var execution = new AtomicReference<Mono<V>>();
+
+            execution.set(Mono
+                    .defer(loader)
+                    .doOnTerminate(() -> inFlight.remove(key, execution.get()))
+                    .doOnCancel(() -> inFlight.remove(key, execution.get()))
+                    .cache());
+
+            var existing = inFlight.putIfAbsent(key, execution.get());
+
+            if (existing != null) {
+                coalesced.increment();
+
+                return existing;
+            }
+
+            return execution.get();
+        });
+    }
+
+    /**
+     * Returns the total number of requests executed, i.e. missing the cache.
+     *
+     * @return the number of requests missing the cache
+     */
+    long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of requests that shared an in-flight execution.
+     *
+     * @return the number of coalesced requests
+     */
+    long coalesced() {
+        return coalesced.sum();
+    }
+}
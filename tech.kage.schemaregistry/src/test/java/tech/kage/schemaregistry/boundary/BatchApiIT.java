@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.boundary;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static tech.kage.schemaregistry.test.data.TestSchemas.paymentSchema;
+import static tech.kage.schemaregistry.test.data.TestSchemas.transactionSchema;
+import static tech.kage.schemaregistry.test.data.TestSchemas.userSchema;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.requests.RegisterSchemaRequest;
+import reactor.core.publisher.Flux;
+import tech.kage.schemaregistry.boundary.BatchResource.BatchLookupRequest;
+import tech.kage.schemaregistry.boundary.BatchResource.BatchLookupResult;
+import tech.kage.schemaregistry.boundary.BatchResource.BatchSchemaRequest;
+import tech.kage.schemaregistry.boundary.BatchResource.BatchSchemaResult;
+import tech.kage.schemaregistry.control.SchemaLookup;
+import tech.kage.schemaregistry.control.SchemaLookupResult;
+import tech.kage.schemaregistry.control.SchemaRequest;
+import tech.kage.schemaregistry.control.SchemaResult;
+import tech.kage.schemaregistry.control.SchemaRetrieval;
+
+/**
+ * Integration tests for the Batch API, verifying endpoint behavior for
+ * retrieval and lookup of many schemas in a single request.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@WebFluxTest
+@ActiveProfiles("test")
+class BatchApiIT {
+    @Autowired
+    WebTestClient webTestClient;
+
+    @MockitoBean
+    SchemaRetrieval schemaRetrieval;
+
+    @MockitoBean
+    SchemaLookup schemaLookup;
+
+    @Configuration
+    @Import(BatchResource.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void returns200AndSchemasInRequestOrder() {
+        // Given
+        var schemaRequests = List.<SchemaRequest>of(
+                new SchemaRequest.Latest("transaction-subject"),
+                new SchemaRequest.Version("payment-subject", 2),
+                new SchemaRequest.Id(1001),
+                new SchemaRequest.Version("invalid-subject", 1));
+
+        given(schemaRetrieval.getSchemas(schemaRequests))
+                .willReturn(Flux.just(
+                        new SchemaResult(schemaRequests.get(0), transactionSchema(4, 1036, "4")),
+                        new SchemaResult(schemaRequests.get(1), paymentSchema(2, 1014, "2")),
+                        new SchemaResult(schemaRequests.get(2), userSchema(null, 1001, "")),
+                        new SchemaResult(schemaRequests.get(3), null)));
+
+        var request = webTestClient
+                .post()
+                .uri("/batch/schemas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        new BatchSchemaRequest("transaction-subject", "latest", null),
+                        new BatchSchemaRequest("payment-subject", "2", null),
+                        new BatchSchemaRequest(null, null, 1001),
+                        new BatchSchemaRequest("invalid-subject", "1", null)));
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response
+                .expectStatus().isOk()
+                .expectBodyList(BatchSchemaResult.class).isEqualTo(List.of(
+                        new BatchSchemaResult("transaction-subject", "latest", null, transactionSchema(4, 1036, "4")),
+                        new BatchSchemaResult("payment-subject", "2", null, paymentSchema(2, 1014, "2")),
+                        new BatchSchemaResult(null, null, 1001, userSchema(null, 1001, "")),
+                        new BatchSchemaResult("invalid-subject", "1", null, null)));
+    }
+
+    @Test
+    void returns400WhenVersionInvalid() {
+        // Given
+        var request = webTestClient
+                .post()
+                .uri("/batch/schemas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(new BatchSchemaRequest("user-subject", "first", null)));
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response.expectStatus().isBadRequest();
+
+        verify(schemaRetrieval, never()).getSchemas(any());
+    }
+
+    @Test
+    void returns400WhenBothSubjectAndIdRequested() {
+        // Given
+        var request = webTestClient
+                .post()
+                .uri("/batch/schemas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(new BatchSchemaRequest("user-subject", "1", 1001)));
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response.expectStatus().isBadRequest();
+
+        verify(schemaRetrieval, never()).getSchemas(any());
+    }
+
+    @Test
+    void returns400WhenTooManySchemasRequested() {
+        // Given
+        var request = webTestClient
+                .post()
+                .uri("/batch/schemas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Collections.nCopies(
+                        BatchResource.MAX_REQUESTS + 1,
+                        new BatchSchemaRequest(null, null, 1001)));
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response.expectStatus().isBadRequest();
+
+        verify(schemaRetrieval, never()).getSchemas(any());
+    }
+
+    @Test
+    void returns200AndLookedUpSchemasInLookupOrder() {
+        // Given
+        var lookups = List.of(
+                new Schema("payment-subject", lookupOf(paymentSchema(null, null, "3"))),
+                new Schema("invalid-subject", lookupOf(userSchema(null, null, ""))));
+
+        given(schemaLookup.lookupSchemas(lookups))
+                .willReturn(Flux.just(
+                        new SchemaLookupResult(lookups.get(0), paymentSchema(3, 1024, "3")),
+                        new SchemaLookupResult(lookups.get(1), null)));
+
+        var request = webTestClient
+                .post()
+                .uri("/batch/lookups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        new BatchLookupRequest(
+                                "payment-subject",
+                                paymentSchema(null, null, "3").getSchema(),
+                                null,
+                                paymentSchema(null, null, "3").getReferences()),
+                        new BatchLookupRequest("invalid-subject", userSchema(null, null, "").getSchema(), null, null)));
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response
+                .expectStatus().isOk()
+                .expectBodyList(BatchLookupResult.class).isEqualTo(List.of(
+                        new BatchLookupResult("payment-subject", paymentSchema(3, 1024, "3")),
+                        new BatchLookupResult("invalid-subject", null)));
+    }
+
+    @Test
+    void returns400WhenLookupWithoutSchema() {
+        // Given
+        var request = webTestClient
+                .post()
+                .uri("/batch/lookups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(new BatchLookupRequest("user-subject", null, null, null)));
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response.expectStatus().isBadRequest();
+
+        verify(schemaLookup, never()).lookupSchemas(any());
+    }
+
+    @Test
+    void returns400WhenTooManySchemasLookedUp() {
+        // Given
+        var request = webTestClient
+                .post()
+                .uri("/batch/lookups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Collections.nCopies(
+                        BatchResource.MAX_REQUESTS + 1,
+                        new BatchLookupRequest("user-subject", "\"string\"", null, null)));
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response.expectStatus().isBadRequest();
+
+        verify(schemaLookup, never()).lookupSchemas(any());
+    }
+
+    private static RegisterSchemaRequest lookupOf(Schema schema) {
+        var request = new RegisterSchemaRequest();
+
+        request.setSchema(schema.getSchema());
+        request.setReferences(schema.getReferences());
+
+        return request;
+    }
+}
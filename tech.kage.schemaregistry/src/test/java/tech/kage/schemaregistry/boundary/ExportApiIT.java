@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.boundary;
+
+import static org.mockito.BDDMockito.given;
+import static tech.kage.schemaregistry.test.data.TestSchemas.addressSchema;
+import static tech.kage.schemaregistry.test.data.TestSchemas.orderSchema;
+import static tech.kage.schemaregistry.test.data.TestSchemas.paymentSchema;
+import static tech.kage.schemaregistry.test.data.TestSchemas.userSchema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import tech.kage.schemaregistry.control.SchemaExport;
+
+/**
+ * Integration tests for the Export API, verifying endpoint behavior for
+ * streaming all schemas as newline-delimited JSON.
+ * 
+ * @author Dariusz Szpakowski
+ */
+@WebFluxTest
+@ActiveProfiles("test")
+class ExportApiIT {
+    @Autowired
+    WebTestClient webTestClient;
+
+    @MockitoBean
+    SchemaExport schemaExport;
+
+    @Configuration
+    @Import(ExportResource.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void returns200AndAllSchemasAsNdjson() {
+        // Given
+        given(schemaExport.exportSchemas(0))
+                .willReturn(Flux.just(userSchema(1, 1001, ""), addressSchema(1, 1002, ""), orderSchema(1, 1003, "")));
+
+        var request = webTestClient.get().uri("/export/schemas").accept(MediaType.APPLICATION_NDJSON);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        var exportedSchemas = response
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Schema.class)
+                .getResponseBody();
+
+        StepVerifier
+                .create(exportedSchemas)
+                .expectNext(userSchema(1, 1001, ""), addressSchema(1, 1002, ""), orderSchema(1, 1003, ""))
+                .as("exports all schemas")
+                .verifyComplete();
+    }
+
+    @Test
+    void returns200AndSchemasAfterGivenId() {
+        // Given
+        given(schemaExport.exportSchemas(1014))
+                .willReturn(Flux.just(addressSchema(2, 1022, "2"), paymentSchema(3, 1024, "3")));
+
+        var request = webTestClient
+                .get()
+                .uri("/export/schemas?afterId={afterId}", 1014)
+                .accept(MediaType.APPLICATION_NDJSON);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        var exportedSchemas = response
+                .expectStatus().isOk()
+                .returnResult(Schema.class)
+                .getResponseBody();
+
+        StepVerifier
+                .create(exportedSchemas)
+                .expectNext(addressSchema(2, 1022, "2"), paymentSchema(3, 1024, "3"))
+                .as("exports schemas after given ID")
+                .verifyComplete();
+    }
+
+    @Test
+    void returns400WhenAfterIdInvalid() {
+        // Given
+        var request = webTestClient
+                .get()
+                .uri("/export/schemas?afterId={afterId}", "first")
+                .accept(MediaType.APPLICATION_NDJSON);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response.expectStatus().isBadRequest();
+    }
+
+    @Test
+    void returns200AndSchemasAfterGivenSchemaVersion() {
+        // Given
+        given(schemaExport.exportSchemas(1014, "payment-subject", 2))
+                .willReturn(Flux.just(addressSchema(2, 1022, "2"), paymentSchema(3, 1024, "3")));
+
+        var request = webTestClient
+                .get()
+                .uri("/export/schemas?afterId={afterId}&afterSubject={afterSubject}&afterVersion={afterVersion}",
+                        1014, "payment-subject", 2)
+                .accept(MediaType.APPLICATION_NDJSON);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        var exportedSchemas = response
+                .expectStatus().isOk()
+                .returnResult(Schema.class)
+                .getResponseBody();
+
+        StepVerifier
+                .create(exportedSchemas)
+                .expectNext(addressSchema(2, 1022, "2"), paymentSchema(3, 1024, "3"))
+                .as("exports schemas after given schema version")
+                .verifyComplete();
+    }
+
+    @Test
+    void returns400WhenAfterSubjectGivenWithoutAfterVersion() {
+        // Given
+        var request = webTestClient
+                .get()
+                .uri("/export/schemas?afterId={afterId}&afterSubject={afterSubject}", 1014, "payment-subject")
+                .accept(MediaType.APPLICATION_NDJSON);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response.expectStatus().isBadRequest();
+    }
+}
@@ -28,6 +28,8 @@ package tech.kage.schemaregistry.boundary;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static tech.kage.schemaregistry.test.data.TestSchemas.addressSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.customerProfileSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.orderSchema;
@@ -35,6 +37,7 @@ import static tech.kage.schemaregistry.test.data.TestSchemas.paymentSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.transactionSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.userSchema;
 
+import java.time.Duration;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -42,20 +45,25 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaString;
 import reactor.core.publisher.Mono;
 import tech.kage.schemaregistry.control.SchemaRetrieval;
 
 /**
  * Integration tests for the Schema Retrieval API, verifying endpoint behavior
- * for schema retrieval by subject.
+ * for schema retrieval by subject and by schema ID.
  * 
  * @author Dariusz Szpakowski
  */
@@ -69,7 +77,8 @@ class SchemaRetrievalApiIT {
     SchemaRetrieval schemaRetrieval;
 
     @Configuration
-    @Import(SubjectVersionResource.class)
+    @Import({ SubjectVersionResource.class, SchemaResource.class, ResponseBodyCache.class })
+    @EnableConfigurationProperties(ResponseCacheProperties.class)
     static class TestConfig {
     }
 
@@ -146,6 +155,195 @@ class SchemaRetrievalApiIT {
                 .expectBody().isEmpty();
     }
 
+    @Test
+    void servesSchemaVersionFromCachedResponseBody() {
+        // Given
+        var expectedSchema = userSchema(2, 1011, "2");
+
+        given(schemaRetrieval.getSchemaBySubjectAndVersion("user-subject", 2)).willReturn(Mono.just(expectedSchema));
+
+        var request = webTestClient.get().uri("/subjects/{subject}/versions/{version}", "user-subject", 2);
+
+        // When
+        var firstResponse = request.exchange();
+        var secondResponse = request.exchange();
+
+        // Then
+        firstResponse
+                .expectStatus().isOk()
+                .expectBody(Schema.class).isEqualTo(expectedSchema);
+
+        secondResponse
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(Schema.class).isEqualTo(expectedSchema);
+
+        verify(schemaRetrieval, times(1)).getSchemaBySubjectAndVersion("user-subject", 2);
+    }
+
+    @Test
+    void servesSchemaByIdFromCachedResponseBody() {
+        // Given
+        var schema = paymentSchema(null, 1014, "2");
+
+        given(schemaRetrieval.getSchemaById(1014)).willReturn(Mono.just(schema));
+
+        var expectedSchemaString = new SchemaString(schema.getSchema());
+
+        expectedSchemaString.setReferences(schema.getReferences());
+
+        var request = webTestClient.get().uri("/schemas/ids/{id}", 1014);
+
+        // When
+        var firstResponse = request.exchange();
+        var secondResponse = request.exchange();
+
+        // Then
+        firstResponse
+                .expectStatus().isOk()
+                .expectBody(SchemaString.class).isEqualTo(expectedSchemaString);
+
+        secondResponse
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(SchemaString.class).isEqualTo(expectedSchemaString);
+
+        verify(schemaRetrieval, times(1)).getSchemaById(1014);
+    }
+
+    @Test
+    void returnsEtagAndImmutableCacheControlForSchemaVersion() {
+        // Given
+        var schema = addressSchema(3, 1032, "3");
+
+        given(schemaRetrieval.getSchemaBySubjectAndVersion("address-subject", 3)).willReturn(Mono.just(schema));
+
+        var request = webTestClient.get().uri("/subjects/{subject}/versions/{version}", "address-subject", 3);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.ETAG, "\"1032-3-[0-9a-f]{64}\"")
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+    }
+
+    @Test
+    void returns304WhenSchemaVersionNotModified() {
+        // Given
+        given(schemaRetrieval.getSchemaBySubjectAndVersion("order-subject", 3))
+                .willReturn(Mono.just(orderSchema(3, 1033, "3")));
+
+        var etag = webTestClient
+                .get()
+                .uri("/subjects/{subject}/versions/{version}", "order-subject", 3)
+                .exchange()
+                .returnResult(byte[].class)
+                .getResponseHeaders()
+                .getETag();
+
+        var request = webTestClient
+                .get()
+                .uri("/subjects/{subject}/versions/{version}", "order-subject", 3)
+                .ifNoneMatch(etag);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        verify(schemaRetrieval, times(1)).getSchemaBySubjectAndVersion("order-subject", 3);
+    }
+
+    @Test
+    void returnsShortMaxAgeForLatestSchema() {
+        // Given
+        given(schemaRetrieval.getLatestSchemaBySubject("customer-profile-subject"))
+                .willReturn(Mono.just(customerProfileSchema(1, 1005, "")));
+
+        var request = webTestClient.get().uri("/subjects/{subject}/versions/latest", "customer-profile-subject");
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.ETAG, "\"1005-1-[0-9a-f]{64}\"")
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofSeconds(5)).cachePublic());
+    }
+
+    @Test
+    void returns304WhenSchemaByIdNotModified() {
+        // Given
+        given(schemaRetrieval.getSchemaById(1016)).willReturn(Mono.just(transactionSchema(null, 1016, "2")));
+
+        var etag = webTestClient
+                .get()
+                .uri("/schemas/ids/{id}", 1016)
+                .exchange()
+                .returnResult(byte[].class)
+                .getResponseHeaders()
+                .getETag();
+
+        var request = webTestClient.get().uri("/schemas/ids/{id}", 1016).ifNoneMatch(etag);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response
+                .expectStatus().isNotModified()
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .expectBody().isEmpty();
+
+        verify(schemaRetrieval, times(1)).getSchemaById(1016);
+    }
+
+    @ParameterizedTest
+    @MethodSource("testSchemasById")
+    void returns200AndSchemaFoundById(Schema schema) {
+        // Given
+        given(schemaRetrieval.getSchemaById(schema.getId())).willReturn(Mono.just(schema));
+
+        var expectedSchemaString = new SchemaString(schema.getSchema());
+
+        expectedSchemaString.setReferences(schema.getReferences());
+
+        var request = webTestClient.get().uri("/schemas/ids/{id}", schema.getId());
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response
+                .expectStatus().isOk()
+                .expectBody(SchemaString.class).isEqualTo(expectedSchemaString);
+    }
+
+    @Test
+    void returns404WhenNoSchemaByIdFound() {
+        // Given
+        var invalidId = 999;
+
+        given(schemaRetrieval.getSchemaById(invalidId)).willReturn(Mono.empty());
+
+        var request = webTestClient.get().uri("/schemas/ids/{id}", invalidId);
+
+        // When
+        var response = request.exchange();
+
+        // Then
+        response
+                .expectStatus().isNotFound()
+                .expectBody().isEmpty();
+    }
+
     static Stream<Arguments> testSchemasBySubject() {
         return Stream.of(
                 arguments("user-subject", named("user schema", userSchema(1, 1001, ""))),
@@ -167,4 +365,12 @@ class SchemaRetrievalApiIT {
                         named("customer profile schema", customerProfileSchema(1, 1005, ""))),
                 arguments("transaction-subject", 4, named("transaction schema", transactionSchema(4, 1036, "4"))));
     }
+
+    static Stream<Arguments> testSchemasById() {
+        return Stream.of(
+                arguments(named("user schema", userSchema(null, 1001, ""))),
+                arguments(named("order schema", orderSchema(null, 1023, "2"))),
+                arguments(named("payment schema", paymentSchema(null, 1024, "3"))),
+                arguments(named("transaction schema", transactionSchema(null, 1036, "4"))));
+    }
 }
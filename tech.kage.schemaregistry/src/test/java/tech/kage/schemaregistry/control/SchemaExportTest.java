@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.control;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static tech.kage.schemaregistry.test.data.TestSchemas.addressSchema;
+import static tech.kage.schemaregistry.test.data.TestSchemas.orderSchema;
+import static tech.kage.schemaregistry.test.data.TestSchemas.transactionSchema;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+
+/**
+ * Specification of the Schema Export use case.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class SchemaExportTest {
+    RelationalSchemaRepository schemaRepository = mock(RelationalSchemaRepository.class);
+
+    // UUT
+    SchemaExport schemaExport = new SchemaExport(schemaRepository);
+
+    @Test
+    void exportsSchemasAfterGivenIdOnDemand() {
+        // Given
+        given(schemaRepository.findAllAfterSchemaId(1016))
+                .willReturn(Flux.just(
+                        addressSchema(2, 1022, "2"),
+                        orderSchema(2, 1023, "2"),
+                        transactionSchema(4, 1036, "4")));
+
+        // When
+        var exportedSchemas = schemaExport.exportSchemas(1016);
+
+        // Then
+        StepVerifier
+                .create(exportedSchemas, 0)
+                .thenRequest(1)
+                .expectNext(addressSchema(2, 1022, "2"))
+                .thenRequest(2)
+                .expectNext(orderSchema(2, 1023, "2"), transactionSchema(4, 1036, "4"))
+                .as("exports schemas after given ID as requested")
+                .verifyComplete();
+    }
+
+    @Test
+    void exportsSchemasAfterGivenSchemaVersion() {
+        // Given
+        given(schemaRepository.findAllAfter(1014, "payment-subject", 2))
+                .willReturn(Flux.just(addressSchema(2, 1022, "2"), orderSchema(2, 1023, "2")));
+
+        // When
+        var exportedSchemas = schemaExport.exportSchemas(1014, "payment-subject", 2);
+
+        // Then
+        StepVerifier
+                .create(exportedSchemas)
+                .expectNext(addressSchema(2, 1022, "2"), orderSchema(2, 1023, "2"))
+                .as("exports schemas after given schema version")
+                .verifyComplete();
+    }
+}
@@ -27,8 +27,11 @@ package tech.kage.schemaregistry.control;
 
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static tech.kage.schemaregistry.test.data.TestSchemas.addressSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.customerProfileSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.orderSchema;
@@ -36,9 +39,12 @@ import static tech.kage.schemaregistry.test.data.TestSchemas.paymentSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.transactionSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.userSchema;
 
+import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -46,8 +52,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+import tech.kage.schemaregistry.entity.SubjectSchema;
 
 /**
  * Specification of the Schema Lookup use case.
@@ -62,10 +70,10 @@ class SchemaLookupTest {
 
     @ParameterizedTest
     @MethodSource("testSchemas")
-    void findsGivenSchema(Schema schema, List<Schema> schemasWithSubject, Schema expectedSchema) {
+    void findsGivenSchema(Schema schema, List<Schema> matchingSchemas, Schema expectedSchema) {
         // Given
-        given(schemaRepository.findBySubjectAndVersionOrderedByVersionDesc(schema.getSubject(), null))
-                .willReturn(Flux.fromIterable(schemasWithSubject));
+        given(schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc(schema.getSubject(), schema.getSchema()))
+                .willReturn(Flux.fromIterable(matchingSchemas));
 
         // When
         var foundSchema = schemaLookup.lookupSchema(schema);
@@ -80,10 +88,10 @@ class SchemaLookupTest {
 
     @ParameterizedTest
     @MethodSource("notFoundTestSchemas")
-    void returnsEmptyMonoWhenSchemaNotFound(Schema schema, List<Schema> schemasWithSubject) {
+    void returnsEmptyMonoWhenSchemaNotFound(Schema schema, List<Schema> matchingSchemas) {
         // Given
-        given(schemaRepository.findBySubjectAndVersionOrderedByVersionDesc(schema.getSubject(), null))
-                .willReturn(Flux.fromIterable(schemasWithSubject));
+        given(schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc(schema.getSubject(), schema.getSchema()))
+                .willReturn(Flux.fromIterable(matchingSchemas));
 
         // When
         var foundSchema = schemaLookup.lookupSchema(schema);
@@ -95,6 +103,129 @@ class SchemaLookupTest {
                 .verifyComplete();
     }
 
+    @Test
+    void findsMatchingSchemaWithHighestVersion() {
+        // Given
+        var lookup = userSchema(null, null, "");
+
+        given(schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc("user-subject", lookup.getSchema()))
+                .willReturn(Flux.just(userSchema(3, 1001, ""), userSchema(2, 1001, ""), userSchema(1, 1001, "")));
+
+        // When
+        var foundSchema = schemaLookup.lookupSchema(lookup);
+
+        // Then
+        StepVerifier
+                .create(foundSchema)
+                .expectNext(userSchema(3, 1001, ""))
+                .as("find matching schema with highest version")
+                .verifyComplete();
+    }
+
+    @Test
+    void sharesQueryBetweenConcurrentLookupsOfSameSchema() {
+        // Given
+        var schema = paymentSchema(null, null, "3");
+        var expectedSchema = paymentSchema(3, 1024, "3");
+
+        given(schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc("payment-subject", schema.getSchema()))
+                .willReturn(Flux
+                        .just(paymentSchema(3, 1024, "3"))
+                        .delaySubscription(Duration.ofMillis(100)));
+
+        // When
+        var foundSchemas = Mono.zip(schemaLookup.lookupSchema(schema), schemaLookup.lookupSchema(schema.copy()));
+
+        // Then
+        StepVerifier
+                .create(foundSchemas)
+                .expectNextMatches(schemas -> schemas.getT1().equals(expectedSchema)
+                        && schemas.getT2().equals(expectedSchema))
+                .as("find expected schema for both lookups")
+                .verifyComplete();
+
+        verify(schemaRepository, times(1))
+                .findBySubjectAndSchemaOrderedByVersionDesc("payment-subject", schema.getSchema());
+    }
+
+    @Test
+    void looksUpBatchOfSchemasWithSingleQueryInLookupOrder() {
+        // Given
+        var lookups = List.of(
+                paymentSchema(null, null, "3"),
+                userSchema(null, null, ""),
+                addressSchema(null, null, ""),
+                updateReferences(
+                        paymentSchema(null, null, "3"),
+                        List.of(new SchemaReference("com.example.User", "other-user-subject", 1))));
+
+        given(schemaRepository.findBySubjectSchemas(new LinkedHashSet<>(List.of(
+                new SubjectSchema("payment-subject", lookups.get(0).getSchema()),
+                new SubjectSchema("user-subject", lookups.get(1).getSchema()),
+                new SubjectSchema("address-subject", lookups.get(2).getSchema())))))
+                .willReturn(Flux.just(paymentSchema(3, 1024, "3"), userSchema(1, 1001, "")));
+
+        // When
+        var results = schemaLookup.lookupSchemas(lookups);
+
+        // Then
+        StepVerifier
+                .create(results)
+                .expectNext(
+                        new SchemaLookupResult(lookups.get(0), paymentSchema(3, 1024, "3")),
+                        new SchemaLookupResult(lookups.get(1), userSchema(1, 1001, "")),
+                        new SchemaLookupResult(lookups.get(2), null),
+                        new SchemaLookupResult(lookups.get(3), null))
+                .as("find matching schemas in lookup order")
+                .verifyComplete();
+
+        verify(schemaRepository, times(1)).findBySubjectSchemas(any());
+    }
+
+    @Test
+    void findsMatchingSchemaWithHighestVersionInBatch() {
+        // Given
+        var lookup = userSchema(null, null, "");
+
+        given(schemaRepository.findBySubjectSchemas(any()))
+                .willReturn(Flux.just(userSchema(1, 1001, ""), userSchema(3, 1001, ""), userSchema(2, 1001, "")));
+
+        // When
+        var results = schemaLookup.lookupSchemas(List.of(lookup));
+
+        // Then
+        StepVerifier
+                .create(results)
+                .expectNext(new SchemaLookupResult(lookup, userSchema(3, 1001, "")))
+                .as("find matching schema with highest version")
+                .verifyComplete();
+    }
+
+    @Test
+    void resolvesSchemaRegisteredUnderSeveralVersionsSameWayInSingleAndBatchLookups() {
+        // Given
+        var lookup = userSchema(null, null, "");
+        var matchingSchemas = List.of(userSchema(3, 1001, ""), userSchema(2, 1001, ""), userSchema(1, 1001, ""));
+
+        given(schemaRepository.findBySubjectAndSchemaOrderedByVersionDesc("user-subject", lookup.getSchema()))
+                .willReturn(Flux.fromIterable(matchingSchemas));
+        given(schemaRepository.findBySubjectSchemas(any()))
+                .willReturn(Flux.fromIterable(matchingSchemas.reversed()));
+
+        // When
+        var foundSchemas = Mono.zip(
+                schemaLookup.lookupSchema(lookup),
+                schemaLookup.lookupSchemas(List.of(lookup)).single().map(SchemaLookupResult::schema));
+
+        // Then
+        StepVerifier
+                .create(foundSchemas)
+                .expectNextMatches(schemas -> schemas.getT1().equals(userSchema(3, 1001, ""))
+                        && schemas.getT2().equals(schemas.getT1()))
+                .as("find same schema with highest version in single and batch lookups")
+                .verifyComplete();
+    }
+
     static Stream<Arguments> testSchemas() {
         return Stream.of(
                 arguments(
@@ -103,18 +234,15 @@ class SchemaLookupTest {
                         named("user schema 1", userSchema(1, 1001, ""))),
                 arguments(
                         named("address schema", addressSchema(null, null, "2")),
-                        named("address schemas", List.of(addressSchema(2, 1022, "2"), addressSchema(1, 1002, ""))),
+                        named("address schemas", List.of(addressSchema(2, 1022, "2"))),
                         named("address schema 2", addressSchema(2, 1022, "2"))),
                 arguments(
                         named("order schema", orderSchema(null, null, "2")),
-                        named("order schemas", List.of(orderSchema(2, 1023, "2"), orderSchema(1, 1003, ""))),
+                        named("order schemas", List.of(orderSchema(2, 1023, "2"))),
                         named("order schema 2", orderSchema(2, 1023, "2"))),
                 arguments(
                         named("payment schema", paymentSchema(null, null, "3")),
-                        named("payment schemas",
-                                List.of(paymentSchema(3, 1024, "3"),
-                                        paymentSchema(2, 1014, "2"),
-                                        paymentSchema(1, 1004, ""))),
+                        named("payment schemas", List.of(paymentSchema(3, 1024, "3"))),
                         named("payment schema 3", paymentSchema(3, 1024, "3"))),
                 arguments(
                         named("customer profile schema", customerProfileSchema(null, null, "")),
@@ -122,11 +250,7 @@ class SchemaLookupTest {
                         named("customer profile schema 1", customerProfileSchema(1, 1005, ""))),
                 arguments(
                         named("transaction schema", transactionSchema(null, null, "4")),
-                        named("transaction schemas",
-                                List.of(transactionSchema(4, 1036, "4"),
-                                        transactionSchema(3, 1026, "3"),
-                                        transactionSchema(2, 1016, "2"),
-                                        transactionSchema(1, 1006, ""))),
+                        named("transaction schemas", List.of(transactionSchema(4, 1036, "4"))),
                         named("transaction schema 4", transactionSchema(4, 1036, "4"))));
     }
 
@@ -137,17 +261,14 @@ class SchemaLookupTest {
                         named("user schemas", List.of())),
                 arguments(
                         named("no matching schema definition", addressSchema(null, null, "")),
-                        named("address schemas", List.of(addressSchema(1, 1002, "updated")))),
+                        named("address schemas", List.of())),
                 arguments(
                         named("no matching references",
                                 updateReferences(
                                         paymentSchema(null, null, "3"),
                                         List.of(new SchemaReference("com.example.User", "first-user-subject", 1),
                                                 new SchemaReference("com.example.User", "other-user-subject", 1)))),
-                        named("payment schemas",
-                                List.of(paymentSchema(3, 1024, "3"),
-                                        paymentSchema(2, 1014, "2"),
-                                        paymentSchema(1, 1004, "")))));
+                        named("payment schemas", List.of(paymentSchema(3, 1024, "3")))));
     }
 
     private static Schema updateReferences(Schema schema, List<SchemaReference> updatedReferences) {
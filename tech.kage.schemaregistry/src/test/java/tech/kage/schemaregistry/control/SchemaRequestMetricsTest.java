@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.control;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static tech.kage.schemaregistry.test.data.TestSchemas.userSchema;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+
+/**
+ * Tests of {@link SchemaRequestMetrics}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class SchemaRequestMetricsTest {
+    RelationalSchemaRepository schemaRepository = mock(RelationalSchemaRepository.class);
+
+    SchemaRetrieval schemaRetrieval = new SchemaRetrieval(schemaRepository);
+    SchemaLookup schemaLookup = new SchemaLookup(schemaRepository);
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // UUT
+    SchemaRequestMetrics schemaRequestMetrics = new SchemaRequestMetrics(schemaRetrieval, schemaLookup);
+
+    @Test
+    void countsCoalescedRequestsMissingCache() {
+        // Given
+        schemaRequestMetrics.bindTo(meterRegistry);
+
+        given(schemaRepository.findLatestBySubject("user-subject"))
+                .willReturn(Mono.just(userSchema(1, 1001, "")).delaySubscription(Duration.ofMillis(100)));
+
+        // When
+        Mono
+                .zip(
+                        schemaRetrieval.getLatestSchemaBySubject("user-subject"),
+                        schemaRetrieval.getLatestSchemaBySubject("user-subject"))
+                .block();
+
+        // Then
+        assertThat(meterRegistry.get("schema.registry.requests.misses").tag("operation", "latest")
+                .functionCounter().count())
+                .describedAs("number of latest schema requests missing the cache")
+                .isEqualTo(2);
+
+        assertThat(meterRegistry.get("schema.registry.requests.coalesced").tag("operation", "latest")
+                .functionCounter().count())
+                .describedAs("number of coalesced latest schema requests")
+                .isEqualTo(1);
+
+        assertThat(meterRegistry.get("schema.registry.requests.coalesced").tag("operation", "version")
+                .functionCounter().count())
+                .describedAs("number of coalesced schema requests")
+                .isZero();
+
+        assertThat(meterRegistry.get("schema.registry.requests.coalesced").tag("operation", "lookup")
+                .functionCounter().count())
+                .describedAs("number of coalesced schema lookups")
+                .isZero();
+    }
+}
@@ -25,10 +25,16 @@
 
 package tech.kage.schemaregistry.control;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static tech.kage.schemaregistry.test.data.TestSchemas.addressSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.customerProfileSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.orderSchema;
@@ -36,7 +42,9 @@ import static tech.kage.schemaregistry.test.data.TestSchemas.paymentSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.transactionSchema;
 import static tech.kage.schemaregistry.test.data.TestSchemas.userSchema;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -46,8 +54,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import tech.kage.schemaregistry.entity.RelationalSchemaRepository;
+import tech.kage.schemaregistry.entity.SubjectVersion;
 
 /**
  * Specification of the Schema Retrieval use case.
@@ -62,10 +72,10 @@ class SchemaRetrievalTest {
 
     @ParameterizedTest
     @MethodSource("testSchemasBySubject")
-    void retrievesLatestSchemaBySubject(String subject, List<Schema> schemasWithSubject, Schema expectedSchema) {
+    void retrievesLatestSchemaBySubject(String subject, Schema expectedSchema) {
         // Given
-        given(schemaRepository.findBySubjectAndVersionOrderedByVersionDesc(subject, null))
-                .willReturn(Flux.fromIterable(schemasWithSubject));
+        given(schemaRepository.findLatestBySubject(subject))
+                .willReturn(Mono.just(expectedSchema));
 
         // When
         var retrievedSchema = schemaRetrieval.getLatestSchemaBySubject(subject);
@@ -83,8 +93,8 @@ class SchemaRetrievalTest {
         // Given
         var invalidSubject = "invalid-subject";
 
-        given(schemaRepository.findBySubjectAndVersionOrderedByVersionDesc(invalidSubject, null))
-                .willReturn(Flux.empty());
+        given(schemaRepository.findLatestBySubject(invalidSubject))
+                .willReturn(Mono.empty());
 
         // When
         var retrievedSchema = schemaRetrieval.getLatestSchemaBySubject(invalidSubject);
@@ -133,39 +143,202 @@ class SchemaRetrievalTest {
                 .verifyComplete();
     }
 
+    @Test
+    void retrievesSchemaById() {
+        // Given
+        var expectedSchema = paymentSchema(null, 1014, "2");
+
+        given(schemaRepository.findById(1014)).willReturn(Mono.just(expectedSchema));
+
+        // When
+        var retrievedSchema = schemaRetrieval.getSchemaById(1014);
+
+        // Then
+        StepVerifier
+                .create(retrievedSchema)
+                .expectNext(expectedSchema)
+                .as("retrieves expected schema")
+                .verifyComplete();
+    }
+
+    @Test
+    void returnsEmptyMonoWhenSchemaNotFoundById() {
+        // Given
+        var invalidId = 999;
+
+        given(schemaRepository.findById(invalidId)).willReturn(Mono.empty());
+
+        // When
+        var retrievedSchema = schemaRetrieval.getSchemaById(invalidId);
+
+        // Then
+        StepVerifier
+                .create(retrievedSchema)
+                .as("returns empty mono when schema not found by ID")
+                .verifyComplete();
+    }
+
+    @Test
+    void sharesQueryBetweenConcurrentRequestsForLatestSchema() {
+        // Given
+        var expectedSchema = userSchema(1, 1001, "");
+
+        given(schemaRepository.findLatestBySubject("user-subject"))
+                .willReturn(Mono.just(expectedSchema).delaySubscription(Duration.ofMillis(100)));
+
+        // When
+        var retrievedSchemas = Mono.zip(
+                schemaRetrieval.getLatestSchemaBySubject("user-subject"),
+                schemaRetrieval.getLatestSchemaBySubject("user-subject"));
+
+        // Then
+        StepVerifier
+                .create(retrievedSchemas)
+                .expectNextMatches(schemas -> schemas.getT1().equals(expectedSchema)
+                        && schemas.getT2().equals(expectedSchema))
+                .as("retrieves expected latest schema for both requests")
+                .verifyComplete();
+
+        verify(schemaRepository, times(1)).findLatestBySubject("user-subject");
+    }
+
+    @Test
+    void sharesQueryBetweenConcurrentRequestsForSchemaVersion() {
+        // Given
+        var expectedSchema = paymentSchema(2, 1014, "2");
+
+        given(schemaRepository.findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2))
+                .willReturn(Flux.just(expectedSchema).delaySubscription(Duration.ofMillis(100)));
+
+        // When
+        var retrievedSchemas = Mono.zip(
+                schemaRetrieval.getSchemaBySubjectAndVersion("payment-subject", 2),
+                schemaRetrieval.getSchemaBySubjectAndVersion("payment-subject", 2));
+
+        // Then
+        StepVerifier
+                .create(retrievedSchemas)
+                .expectNextMatches(schemas -> schemas.getT1().equals(expectedSchema)
+                        && schemas.getT2().equals(expectedSchema))
+                .as("retrieves expected schema for both requests")
+                .verifyComplete();
+
+        verify(schemaRepository, times(1)).findBySubjectAndVersionOrderedByVersionDesc("payment-subject", 2);
+    }
+
+    @Test
+    void retrievesCachedSchemasWithoutCoalescingRequests() {
+        // Given
+        given(schemaRepository.findCachedLatestBySubject("user-subject"))
+                .willReturn(userSchema(1, 1001, ""));
+
+        given(schemaRepository.findCachedBySubjectAndVersion("payment-subject", 2))
+                .willReturn(paymentSchema(2, 1014, "2"));
+
+        given(schemaRepository.findCachedById(1001))
+                .willReturn(userSchema(null, 1001, ""));
+
+        // When
+        var latestSchema = schemaRetrieval.getLatestSchemaBySubject("user-subject");
+        var schema = schemaRetrieval.getSchemaBySubjectAndVersion("payment-subject", 2);
+        var schemaById = schemaRetrieval.getSchemaById(1001);
+
+        // Then
+        StepVerifier
+                .create(latestSchema.concatWith(schema).concatWith(schemaById))
+                .expectNext(userSchema(1, 1001, ""), paymentSchema(2, 1014, "2"), userSchema(null, 1001, ""))
+                .as("retrieves cached schemas")
+                .verifyComplete();
+
+        assertThat(schemaRetrieval.latestSchemaRequests().misses())
+                .describedAs("number of latest schema requests missing the cache")
+                .isZero();
+
+        assertThat(schemaRetrieval.schemaRequests().misses())
+                .describedAs("number of schema requests missing the cache")
+                .isZero();
+
+        assertThat(schemaRetrieval.schemaByIdRequests().misses())
+                .describedAs("number of schema by ID requests missing the cache")
+                .isZero();
+
+        verify(schemaRepository, never()).findLatestBySubject(any());
+        verify(schemaRepository, never()).findById(anyInt());
+        verify(schemaRepository, never()).findBySubjectAndVersionOrderedByVersionDesc(any(), any());
+    }
+
+    @Test
+    void retrievesSchemasForBatchOfRequestsInRequestOrder() {
+        // Given
+        given(schemaRepository.findLatestBySubjects(Set.of("transaction-subject", "invalid-subject")))
+                .willReturn(Flux.just(transactionSchema(4, 1036, "4")));
+
+        given(schemaRepository.findBySubjectVersions(Set.of(new SubjectVersion("payment-subject", 2))))
+                .willReturn(Flux.just(paymentSchema(2, 1014, "2")));
+
+        given(schemaRepository.findByIds(Set.of(1001, 999)))
+                .willReturn(Flux.just(userSchema(null, 1001, "")));
+
+        var requests = List.<SchemaRequest>of(
+                new SchemaRequest.Id(999),
+                new SchemaRequest.Latest("transaction-subject"),
+                new SchemaRequest.Version("payment-subject", 2),
+                new SchemaRequest.Id(1001),
+                new SchemaRequest.Latest("invalid-subject"),
+                new SchemaRequest.Latest("transaction-subject"));
+
+        // When
+        var retrievedSchemas = schemaRetrieval.getSchemas(requests);
+
+        // Then
+        StepVerifier
+                .create(retrievedSchemas)
+                .expectNext(
+                        new SchemaResult(requests.get(0), null),
+                        new SchemaResult(requests.get(1), transactionSchema(4, 1036, "4")),
+                        new SchemaResult(requests.get(2), paymentSchema(2, 1014, "2")),
+                        new SchemaResult(requests.get(3), userSchema(null, 1001, "")),
+                        new SchemaResult(requests.get(4), null),
+                        new SchemaResult(requests.get(5), transactionSchema(4, 1036, "4")))
+                .as("retrieves schemas in request order")
+                .verifyComplete();
+
+        verify(schemaRepository, times(1)).findLatestBySubjects(any());
+        verify(schemaRepository, times(1)).findBySubjectVersions(any());
+        verify(schemaRepository, times(1)).findByIds(any());
+    }
+
+    @Test
+    void queriesOnlyKindsOfSchemasRequested() {
+        // Given
+        given(schemaRepository.findByIds(Set.of(1001)))
+                .willReturn(Flux.just(userSchema(null, 1001, "")));
+
+        var requests = List.<SchemaRequest>of(new SchemaRequest.Id(1001));
+
+        // When
+        var retrievedSchemas = schemaRetrieval.getSchemas(requests);
+
+        // Then
+        StepVerifier
+                .create(retrievedSchemas)
+                .expectNext(new SchemaResult(requests.get(0), userSchema(null, 1001, "")))
+                .as("retrieves schema by ID")
+                .verifyComplete();
+
+        verify(schemaRepository, never()).findLatestBySubjects(any());
+        verify(schemaRepository, never()).findBySubjectVersions(any());
+    }
+
     static Stream<Arguments> testSchemasBySubject() {
         return Stream.of(
-                arguments(
-                        "user-subject",
-                        named("user schemas", List.of(userSchema(1, 1001, ""))),
-                        named("user schema 1", userSchema(1, 1001, ""))),
-                arguments(
-                        "address-subject",
-                        named("address schemas", List.of(addressSchema(2, 1022, "2"), addressSchema(1, 1002, ""))),
-                        named("address schema 2", addressSchema(2, 1022, "2"))),
-                arguments(
-                        "order-subject",
-                        named("order schemas", List.of(orderSchema(2, 1023, "2"), orderSchema(1, 1003, ""))),
-                        named("order schema 2", orderSchema(2, 1023, "2"))),
-                arguments(
-                        "payment-subject",
-                        named("payment schemas",
-                                List.of(paymentSchema(3, 1024, "3"),
-                                        paymentSchema(2, 1014, "2"),
-                                        paymentSchema(1, 1004, ""))),
-                        named("payment schema 3", paymentSchema(3, 1024, "3"))),
-                arguments(
-                        "customer-profile-subject",
-                        named("customer profile schemas", List.of(customerProfileSchema(1, 1005, ""))),
+                arguments("user-subject", named("user schema 1", userSchema(1, 1001, ""))),
+                arguments("address-subject", named("address schema 2", addressSchema(2, 1022, "2"))),
+                arguments("order-subject", named("order schema 2", orderSchema(2, 1023, "2"))),
+                arguments("payment-subject", named("payment schema 3", paymentSchema(3, 1024, "3"))),
+                arguments("customer-profile-subject",
                         named("customer profile schema 1", customerProfileSchema(1, 1005, ""))),
-                arguments(
-                        "transaction-subject",
-                        named("transaction schemas",
-                                List.of(transactionSchema(4, 1036, "4"),
-                                        transactionSchema(3, 1026, "3"),
-                                        transactionSchema(2, 1016, "2"),
-                                        transactionSchema(1, 1006, ""))),
-                        named("transaction schema 4", transactionSchema(4, 1036, "4"))));
+                arguments("transaction-subject", named("transaction schema 4", transactionSchema(4, 1036, "4"))));
     }
 
     static Stream<Arguments> testSchemasBySubjectAndVersion() {
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025, Dariusz Szpakowski
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package tech.kage.schemaregistry.control;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests of {@link SingleFlight}.
+ * 
+ * @author Dariusz Szpakowski
+ */
+class SingleFlightTest {
+    // UUT
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void sharesInFlightExecutionBetweenConcurrentRequests() {
+        // When
+        var results = Mono.zip(
+                singleFlight.execute("key", this::slowLoader),
+                singleFlight.execute("key", this::slowLoader),
+                singleFlight.execute("key", this::slowLoader));
+
+        // Then
+        StepVerifier
+                .create(results)
+                .expectNextMatches(tuple -> tuple.getT1().equals("value1")
+                        && tuple.getT2().equals("value1")
+                        && tuple.getT3().equals("value1"))
+                .as("shares result of a single execution")
+                .verifyComplete();
+
+        assertThat(executions.get())
+                .describedAs("number of executions")
+                .isEqualTo(1);
+
+        assertThat(singleFlight.misses())
+                .describedAs("number of requests missing the cache")
+                .isEqualTo(3);
+
+        assertThat(singleFlight.coalesced())
+                .describedAs("number of coalesced requests")
+                .isEqualTo(2);
+    }
+
+    @Test
+    void doesNotShareExecutionsBetweenDifferentKeys() {
+        // When
+        var results = Mono.zip(
+                singleFlight.execute("key1", this::slowLoader),
+                singleFlight.execute("key2", this::slowLoader));
+
+        // Then
+        StepVerifier
+                .create(results)
+                .expectNextCount(1)
+                .as("executes each request")
+                .verifyComplete();
+
+        assertThat(executions.get())
+                .describedAs("number of executions")
+                .isEqualTo(2);
+
+        assertThat(singleFlight.coalesced())
+                .describedAs("number of coalesced requests")
+                .isZero();
+    }
+
+    @Test
+    void executesAgainAfterPreviousExecutionCompleted() {
+        // When
+        var results = singleFlight
+                .execute("key", this::slowLoader)
+                .concatWith(singleFlight.execute("key", this::slowLoader));
+
+        // Then
+        StepVerifier
+                .create(results)
+                .expectNext("value1", "value2")
+                .as("executes sequential requests separately")
+                .verifyComplete();
+
+        assertThat(singleFlight.coalesced())
+                .describedAs("number of coalesced requests")
+                .isZero();
+    }
+
+    @Test
+    void executesAgainAfterPreviousExecutionFailed() {
+        // Given
+        var expectedError = new IllegalStateException("Some error");
+
+        // When
+        var failedResult = singleFlight.execute("key", () -> Mono.error(expectedError));
+        var nextResult = singleFlight.execute("key", this::slowLoader);
+
+        // Then
+        StepVerifier
+                .create(failedResult)
+                .as("propagates error")
+                .expectErrorMatches(thrown -> thrown.equals(expectedError))
+                .verify();
+
+        StepVerifier
+                .create(nextResult)
+                .expectNext("value1")
+                .as("executes request after failure")
+                .verifyComplete();
+    }
+
+    private Mono<String> slowLoader() {
+        return Mono
+                .fromSupplier(() -> "value" + executions.incrementAndGet())
+                .delaySubscription(Duration.ofMillis(100));
+    }
+}